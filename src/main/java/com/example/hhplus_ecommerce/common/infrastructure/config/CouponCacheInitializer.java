@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
  * 애플리케이션 시작 시 쿠폰 캐시를 초기화하는 컴포넌트
  * <p>
  * 서버 시작 시점에 DB의 쿠폰 정보를 Redis에 캐싱합니다.
+ * 발급 사용자 목록은 키셋 페이지 단위로 스트리밍하며, 진행 상황은 coupon.cache.warmup.* 지표로 확인할 수 있습니다.
  */
 @Slf4j
 @Component
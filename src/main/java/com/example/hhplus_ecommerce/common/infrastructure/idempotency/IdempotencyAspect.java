@@ -0,0 +1,187 @@
+package com.example.hhplus_ecommerce.common.infrastructure.idempotency;
+
+import com.example.hhplus_ecommerce.common.infrastructure.redis.IdempotencyRedisRepository;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.IdempotencyErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.BadRequestException;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 멱등 처리 AOP
+ * <p>
+ * @Idempotent 어노테이션이 붙은 컨트롤러 메서드에 대해 Idempotency-Key 헤더 기반 멱등 처리를 적용합니다.
+ * 요청 지문(HTTP 메서드, URI, 인자 JSON의 SHA-256)과 완료된 응답을 Redis에 보관합니다.
+ * <p>
+ * 처리 흐름:
+ * - 완료된 키: 메서드를 실행하지 않고 저장된 응답을 반환 (Idempotent-Replayed: true 헤더 추가)
+ * - 처리 중인 키: 409 Conflict로 거절하여 동시 중복 요청이 사가·락·DB에 닿지 않게 함
+ * - 지문이 다른 키: 400 Bad Request로 거절 (같은 키로 다른 요청을 보낸 경우)
+ * - 새 키: SET NX로 처리 중 상태를 선점한 뒤 실행
+ * <p>
+ * 중복 요청은 Redis GET 한 번으로 처리되며, 선점 경쟁에서 진 경우에만 한 번 더 조회합니다.
+ * 예외가 발생하거나 2xx가 아닌 응답은 저장하지 않고 선점을 해제하므로, 같은 키로 다시 시도할 수 있습니다.
+ * 처리 중 상태는 idempotency.in-progress-ttl-ms가 지나면 만료되어, 응답 전에 종료된 서버가 키를 영구히 잡지 않습니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Pattern VALID_KEY = Pattern.compile("[\\x21-\\x7E]{1,255}");
+
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${idempotency.in-progress-ttl-ms:60000}")
+    private long inProgressTtlMs;
+
+    @Around("@annotation(idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        String key = request != null ? request.getHeader(IDEMPOTENCY_KEY_HEADER) : null;
+        if (key == null) {
+            return joinPoint.proceed();
+        }
+        if (!VALID_KEY.matcher(key).matches()) {
+            throw new BadRequestException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String scope = idempotent.value();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String fingerprint = fingerprint(request, joinPoint.getArgs());
+
+        IdempotencyRecord existing = idempotencyRedisRepository.find(scope, key);
+        if (existing != null) {
+            return replay(scope, key, existing, fingerprint, method);
+        }
+
+        IdempotencyRecord inProgress = IdempotencyRecord.inProgress(fingerprint);
+        if (!idempotencyRedisRepository.tryStart(scope, key, inProgress, Duration.ofMillis(inProgressTtlMs))) {
+            // 조회와 선점 사이에 다른 요청이 먼저 선점한 경우
+            IdempotencyRecord winner = idempotencyRedisRepository.find(scope, key);
+            if (winner == null) {
+                throw new ConflictException(IdempotencyErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            return replay(scope, key, winner, fingerprint, method);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            idempotencyRedisRepository.release(scope, key, inProgress);
+            throw e;
+        }
+        store(scope, key, inProgress, result, idempotent);
+        return result;
+    }
+
+    /**
+     * 이미 기록된 키의 상태에 따라 저장된 응답을 반환하거나 요청을 거절합니다.
+     */
+    private Object replay(String scope, String key, IdempotencyRecord existing, String fingerprint, Method method)
+        throws Exception {
+        if (!existing.matches(fingerprint)) {
+            log.warn("멱등 키 재사용 거절: scope={}, key={}", scope, key);
+            throw new BadRequestException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        if (!existing.completed()) {
+            throw new ConflictException(IdempotencyErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+        }
+
+        log.info("멱등 키 응답 재사용: scope={}, key={}", scope, key);
+        JavaType returnType = objectMapper.getTypeFactory().constructType(method.getGenericReturnType());
+        if (!ResponseEntity.class.isAssignableFrom(returnType.getRawClass())) {
+            return readBody(existing.body(), returnType);
+        }
+        Object body = readBody(existing.body(), returnType.containedTypeOrUnknown(0));
+        return ResponseEntity.status(existing.status())
+            .header(REPLAYED_HEADER, "true")
+            .body(body);
+    }
+
+    /**
+     * 2xx 응답이면 저장하고, 아니면 선점을 해제합니다.
+     * <p>
+     * 저장에 실패해도 요청 자체는 이미 처리되었으므로 응답은 그대로 반환합니다.
+     */
+    private void store(String scope, String key, IdempotencyRecord inProgress, Object result, Idempotent idempotent) {
+        int status = 200;
+        Object body = result;
+        if (result instanceof ResponseEntity<?> response) {
+            status = response.getStatusCode().value();
+            body = response.getBody();
+        }
+
+        try {
+            if (status < 200 || status >= 300) {
+                idempotencyRedisRepository.release(scope, key, inProgress);
+                return;
+            }
+            IdempotencyRecord completed = IdempotencyRecord.completed(
+                inProgress.fingerprint(), status, body != null ? objectMapper.writeValueAsString(body) : null);
+            Duration ttl = Duration.ofMillis(idempotent.timeUnit().toMillis(idempotent.ttl()));
+            if (!idempotencyRedisRepository.complete(scope, key, inProgress, completed, ttl)) {
+                log.warn("멱등 키 선점 만료로 응답 저장 생략: scope={}, key={}", scope, key);
+            }
+        } catch (Exception e) {
+            log.error("멱등 키 응답 저장 실패: scope={}, key={}", scope, key, e);
+        }
+    }
+
+    private Object readBody(String body, JavaType type) throws Exception {
+        return body != null ? objectMapper.readValue(body, type) : null;
+    }
+
+    private String fingerprint(HttpServletRequest request, Object[] args) throws Exception {
+        MessageDigest digest = sha256();
+        digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(objectMapper.writeValueAsBytes(args));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
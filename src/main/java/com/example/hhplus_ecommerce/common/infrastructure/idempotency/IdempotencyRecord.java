@@ -0,0 +1,59 @@
+package com.example.hhplus_ecommerce.common.infrastructure.idempotency;
+
+import java.util.UUID;
+
+/**
+ * 멱등 키에 저장되는 요청 처리 상태
+ * <p>
+ * - 처리 중: 요청 지문과 소유 토큰 (토큰이 같을 때만 완료·해제할 수 있음)
+ * - 완료: 요청 지문, 응답 상태 코드, JSON 응답 본문
+ * <p>
+ * 형식: {@code P|<fingerprint>|<token>} 또는 {@code C|<fingerprint>|<status>|<body>}
+ */
+public record IdempotencyRecord(boolean completed, String fingerprint, String token, int status, String body) {
+
+    private static final String IN_PROGRESS_PREFIX = "P";
+    private static final String COMPLETED_PREFIX = "C";
+    private static final char SEPARATOR = '|';
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(false, fingerprint, UUID.randomUUID().toString(), 0, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, int status, String body) {
+        return new IdempotencyRecord(true, fingerprint, null, status, body);
+    }
+
+    /**
+     * 상태를 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        if (completed) {
+            return COMPLETED_PREFIX + SEPARATOR + fingerprint + SEPARATOR + status + SEPARATOR + (body != null ? body : "");
+        }
+        return IN_PROGRESS_PREFIX + SEPARATOR + fingerprint + SEPARATOR + token;
+    }
+
+    /**
+     * 문자열 상태를 디코딩합니다.
+     *
+     * @param value 인코딩된 상태
+     * @return 요청 처리 상태
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static IdempotencyRecord decode(String value) {
+        String[] parts = value.split("\\|", 4);
+        if (parts.length == 3 && IN_PROGRESS_PREFIX.equals(parts[0])) {
+            return new IdempotencyRecord(false, parts[1], parts[2], 0, null);
+        }
+        if (parts.length == 4 && COMPLETED_PREFIX.equals(parts[0])) {
+            return new IdempotencyRecord(true, parts[1], null, Integer.parseInt(parts[2]),
+                parts[3].isEmpty() ? null : parts[3]);
+        }
+        throw new IllegalArgumentException("잘못된 멱등 키 상태: " + value);
+    }
+
+    public boolean matches(String otherFingerprint) {
+        return fingerprint.equals(otherFingerprint);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hhplus_ecommerce.common.infrastructure.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Idempotency-Key 헤더 기반 멱등 처리를 적용하기 위한 어노테이션
+ * <p>
+ * 컨트롤러 메서드에 붙이며, 같은 키로 다시 들어온 요청은 메서드를 실행하지 않고 저장된 응답을 돌려줍니다.
+ * 헤더가 없는 요청은 그대로 실행합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+
+    /**
+     * 키 공간을 구분하는 이름 (예: "payment", "point-charge")
+     * 같은 키가 다른 API에서 쓰여도 서로 영향을 주지 않습니다.
+     */
+    String value();
+
+    /**
+     * 완료된 응답을 보관하는 시간 (기본값: 24시간)
+     */
+    long ttl() default 24L;
+
+    /**
+     * 시간 단위 (기본값: 시간)
+     */
+    TimeUnit timeUnit() default TimeUnit.HOURS;
+}
@@ -28,7 +28,7 @@ public @interface DistributedLock {
 
     /**
      * 락을 획득한 후 자동으로 해제되는 시간 (기본값: 3초)
-     * Watchdog가 자동으로 갱신하므로 일반적으로 짧게 설정
+     * 0 이하(-1)로 설정하면 고정 점유 시간 대신 Watchdog가 메서드가 끝날 때까지 점유 시간을 자동 연장
      */
     long leaseTime() default 3L;
 
@@ -36,4 +36,18 @@ public @interface DistributedLock {
      * 시간 단위 (기본값: 초)
      */
     TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 공정 락 사용 여부 (기본값: false)
+     * 대기자가 요청 순서대로 락을 얻으므로 경합이 심할 때 대기 시간의 꼬리(p99)가 예측 가능해짐
+     * 같은 키를 쓰는 모든 락은 같은 모드를 사용해야 함
+     */
+    boolean fair() default false;
+
+    /**
+     * 펜싱 토큰 사용 가능 여부 (기본값: false)
+     * lock.fencing.enabled=true이면 락 획득 시 키별로 단조 증가하는 토큰을 발급하며, 메서드 안에서 {@link FencingToken#current()}로 조회
+     * 설정이 꺼져 있으면 토큰을 발급하지 않으므로 쓰기 쪽은 토큰이 없을 때도 동작해야 함
+     */
+    boolean fencing() default false;
 }
\ No newline at end of file
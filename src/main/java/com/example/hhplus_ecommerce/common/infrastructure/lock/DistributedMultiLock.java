@@ -0,0 +1,48 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 키의 분산락을 한 번에 적용하기 위한 어노테이션
+ * <p>
+ * 키 목록을 정렬·중복 제거한 뒤 Redisson 멀티 락(RedissonMultiLock) 하나로 획득합니다.
+ * 모든 호출이 같은 순서로 락을 잡으므로 교착 상태가 생기지 않고,
+ * 대기/점유 시간은 키 개수와 관계없이 한 번만 적용됩니다.
+ * {@link DistributedLock}과 같은 키를 사용하면 단일 락과 섞여도 같은 자원은 순차 처리됩니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DistributedMultiLock {
+
+    /**
+     * 락 키 목록을 반환하는 SpEL 표현식
+     * 컬렉션, 배열 또는 단일 값 사용 가능 (예: "#reservations.!['product:' + productId() + ':stock']")
+     */
+    String keys();
+
+    /**
+     * 모든 락 획득을 시도하는 최대 대기 시간 (기본값: 5초)
+     */
+    long waitTime() default 5L;
+
+    /**
+     * 락을 획득한 후 자동으로 해제되는 시간 (기본값: 3초)
+     */
+    long leaseTime() default 3L;
+
+    /**
+     * 시간 단위 (기본값: 초)
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+    /**
+     * 펜싱 토큰 사용 가능 여부 (기본값: false, lock.fencing.enabled=true일 때만 발급)
+     * 락 획득 시 키마다 {@link DistributedLock#fencing()}과 같은 "{키}:fence" 카운터를 증가시키며,
+     * 메서드 안에서 {@link FencingToken#current(String)}로 키별 토큰을 조회
+     */
+    boolean fencing() default false;
+}
@@ -0,0 +1,87 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * 현재 스레드가 보유한 락의 펜싱 토큰
+ * <p>
+ * {@link DistributedLock#fencing()}이 켜진 락을 획득하면 키별로 단조 증가하는 토큰이 발급되고,
+ * 락이 걸린 메서드 안에서 {@link #current()}로 조회할 수 있습니다.
+ * 쓰기 시 "저장된 토큰 < 내 토큰" 조건으로 토큰을 갱신하면,
+ * 점유 시간(lease)이 GC 멈춤 등으로 만료된 뒤 늦게 도착한 쓰기를 거부할 수 있습니다.
+ * <p>
+ * {@link DistributedMultiLock#fencing()}이 켜진 멀티 락은 키마다 토큰을 발급하며,
+ * {@link #current(String)}로 키별 토큰을 조회합니다.
+ * 같은 자원을 단일 락과 멀티 락으로 모두 쓴다면 두 경로 모두 펜싱을 켜야 서로의 늦은 쓰기를 거부할 수 있습니다.
+ */
+public final class FencingToken {
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Long>> BY_KEY = new ThreadLocal<>();
+
+    private FencingToken() {
+    }
+
+    /**
+     * 현재 스레드가 보유한 락의 펜싱 토큰을 반환합니다.
+     *
+     * @return 펜싱 토큰 (펜싱 락 밖이면 비어 있음)
+     */
+    public static OptionalLong current() {
+        Long token = CURRENT.get();
+        return token != null ? OptionalLong.of(token) : OptionalLong.empty();
+    }
+
+    /**
+     * 현재 스레드가 보유한 멀티 락에서 주어진 키의 펜싱 토큰을 반환합니다.
+     *
+     * @param lockKey 락 키
+     * @return 펜싱 토큰 (펜싱 멀티 락 밖이거나 키가 없으면 비어 있음)
+     */
+    public static OptionalLong current(String lockKey) {
+        Map<String, Long> tokens = BY_KEY.get();
+        Long token = tokens != null ? tokens.get(lockKey) : null;
+        return token != null ? OptionalLong.of(token) : OptionalLong.empty();
+    }
+
+    /**
+     * 토큰을 현재 스레드에 바인딩하고 이전 토큰을 반환합니다.
+     */
+    static Long bind(Long token) {
+        Long previous = CURRENT.get();
+        CURRENT.set(token);
+        return previous;
+    }
+
+    /**
+     * 이전 토큰으로 되돌립니다. (중첩된 락에서 바깥 락의 토큰 복원)
+     */
+    static void restore(Long previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * 멀티 락의 키별 토큰을 현재 스레드에 바인딩하고 이전 토큰들을 반환합니다.
+     */
+    static Map<String, Long> bindAll(Map<String, Long> tokens) {
+        Map<String, Long> previous = BY_KEY.get();
+        BY_KEY.set(tokens);
+        return previous;
+    }
+
+    /**
+     * 이전 키별 토큰들로 되돌립니다.
+     */
+    static void restoreAll(Map<String, Long> previous) {
+        if (previous == null) {
+            BY_KEY.remove();
+        } else {
+            BY_KEY.set(previous);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 펜싱 토큰 발급기
+ * <p>
+ * 락 키마다 "{키}:fence" Redis 카운터를 증가시켜 단조 증가하는 토큰을 발급합니다.
+ * <p>
+ * 카운터는 Redis에만 있으므로 FLUSH, AOF 없는 장애 조치, 축출 등으로 사라지면
+ * DB에 저장된 fence_token보다 작은 값부터 다시 시작합니다.
+ * 이때 쓰기는 만료된 토큰으로 거부되며, 거부한 쪽이 저장된 토큰으로 {@link #catchUp}을 호출해
+ * 카운터를 끌어올리므로 다음 락 보유자부터는 정상적으로 쓸 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FencingTokenIssuer {
+
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * 락 키의 펜싱 토큰을 발급합니다.
+     */
+    long issue(String lockKey) {
+        return redissonClient.getAtomicLong(lockKey + FENCE_SUFFIX).incrementAndGet();
+    }
+
+    /**
+     * 키마다 펜싱 토큰을 발급합니다. 카운터 증가는 배치 한 번으로 보냅니다.
+     */
+    Map<String, Long> issueAll(List<String> lockKeys) {
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Long>> futures = lockKeys.stream()
+            .map(lockKey -> batch.getAtomicLong(lockKey + FENCE_SUFFIX).incrementAndGetAsync())
+            .toList();
+        batch.execute();
+
+        Map<String, Long> tokens = new HashMap<>(lockKeys.size() * 2);
+        for (int i = 0; i < lockKeys.size(); i++) {
+            tokens.put(lockKeys.get(i), futures.get(i).toCompletableFuture().join());
+        }
+        return tokens;
+    }
+
+    /**
+     * 카운터가 저장된 토큰보다 작으면 저장된 토큰까지 끌어올립니다.
+     * <p>
+     * 만료된 토큰으로 쓰기가 거부되었을 때 호출합니다. 이미 카운터가 더 크면 아무것도 하지 않습니다.
+     *
+     * @param lockKey     락 키
+     * @param storedToken DB에 저장된 펜싱 토큰
+     */
+    public void catchUp(String lockKey, long storedToken) {
+        RAtomicLong counter = redissonClient.getAtomicLong(lockKey + FENCE_SUFFIX);
+        long current = counter.get();
+        while (current < storedToken) {
+            if (counter.compareAndSet(current, storedToken)) {
+                log.warn("펜싱 토큰 카운터 복구: lockKey={}, from={}, to={}", lockKey, current, storedToken);
+                return;
+            }
+            current = counter.get();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 로컬 락 저장소
+ * <p>
+ * 같은 JVM 안에서 같은 키를 기다리는 스레드를 메모리의 공정 락으로 줄 세웁니다.
+ * 락은 사용 중인 스레드 수(참조 수)를 세어, 아무도 쓰지 않으면 바로 제거되므로
+ * 키가 무한히 쌓이지 않습니다.
+ * <p>
+ * - {@link #acquire(String)}로 얻은 락은 반드시 {@link #release(String, ReentrantLock)}로 반납
+ * - 참조 수 변경은 ConcurrentHashMap의 compute 안에서만 일어나므로 별도 동기화가 필요 없음
+ */
+public final class LocalLockRegistry {
+
+    private final ConcurrentHashMap<String, RefCountedLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 키에 해당하는 로컬 락을 가져오고 참조 수를 늘립니다.
+     *
+     * @param key 락 키
+     * @return 로컬 락 (잠그지 않은 상태)
+     */
+    public ReentrantLock acquire(String key) {
+        return locks.compute(key, (k, existing) -> {
+            RefCountedLock lock = existing != null ? existing : new RefCountedLock();
+            lock.refCount++;
+            return lock;
+        }).lock;
+    }
+
+    /**
+     * 로컬 락의 참조 수를 줄이고, 더 이상 쓰는 스레드가 없으면 제거합니다.
+     *
+     * @param key  락 키
+     * @param lock {@link #acquire(String)}로 얻은 로컬 락
+     */
+    public void release(String key, ReentrantLock lock) {
+        locks.computeIfPresent(key, (k, existing) -> {
+            if (existing.lock != lock) {
+                return existing;
+            }
+            return --existing.refCount == 0 ? null : existing;
+        });
+    }
+
+    /**
+     * 현재 보관 중인 로컬 락 수를 반환합니다.
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    private static final class RefCountedLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int refCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 분산 락 경합 현황 Actuator 엔드포인트 (/actuator/locks)
+ * <p>
+ * 접두어별 대기·점유 시간 요약과 현재 윈도우의 상위 인기 키를 보여줍니다.
+ * waitTime/leaseTime 튜닝 시 어느 키가 경합하는지 확인하는 용도입니다.
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockEndpoint {
+
+    private final LockMetrics lockMetrics;
+
+    @Value("${lock.metrics.hot-keys.top-n:20}")
+    private int topN;
+
+    @ReadOperation
+    public LockReport locks() {
+        return new LockReport(lockMetrics.getPrefixSummaries(), lockMetrics.getHotKeys(topN));
+    }
+
+    public record LockReport(List<LockMetrics.PrefixSummary> prefixes, List<LockMetrics.HotKey> hotKeys) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 락 키 해석기
+ * <p>
+ * 락 키 표현식을 메서드별로 한 번만 해석해 캐시합니다.
+ * - 단순 템플릿('prefix:' + #param + ':suffix'): SpEL 없이 문자열을 바로 이어 붙임
+ * - 그 외 표현식: 컴파일 모드(MIXED) SpEL로 한 번 파싱한 뒤 재사용
+ * 락이 걸리는 모든 재고·포인트 변경 요청에서 매번 하던 SpEL 파싱과 리플렉션 비용을 없앱니다.
+ */
+public final class LockKeyResolver {
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.MIXED, LockKeyResolver.class.getClassLoader()));
+    private final ParameterNameDiscoverer discoverer = new DefaultParameterNameDiscoverer();
+    private final Map<CacheKey, CompiledKey> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 메서드 인자로 락 키를 만듭니다.
+     *
+     * @param method     락이 걸린 메서드
+     * @param expression 락 키 표현식
+     * @param args       메서드 인자
+     * @return 락 키
+     */
+    public String resolve(Method method, String expression, Object[] args) {
+        return cache.computeIfAbsent(new CacheKey(method, expression), this::compile).resolve(args);
+    }
+
+    /**
+     * 메서드 인자로 여러 락 키를 만듭니다.
+     * <p>
+     * 표현식 결과가 컬렉션이나 배열이면 원소마다 키를 만들고, 그 외에는 키 하나를 만듭니다.
+     * 결과는 정렬·중복 제거되어 있으므로 모든 호출이 같은 순서로 락을 잡습니다.
+     *
+     * @param method     락이 걸린 메서드
+     * @param expression 락 키 목록 표현식
+     * @param args       메서드 인자
+     * @return 정렬·중복 제거된 락 키 목록
+     */
+    public List<String> resolveAll(Method method, String expression, Object[] args) {
+        Object value = cache.computeIfAbsent(new CacheKey(method, expression), this::compile).evaluate(args);
+        Stream<?> keys;
+        if (value instanceof Collection<?> collection) {
+            keys = collection.stream();
+        } else if (value instanceof Object[] array) {
+            keys = Arrays.stream(array);
+        } else {
+            keys = Stream.of(value);
+        }
+        return keys
+            .map(String::valueOf)
+            .distinct()
+            .sorted()
+            .toList();
+    }
+
+    private CompiledKey compile(CacheKey cacheKey) {
+        String[] parameterNames = discoverer.getParameterNames(cacheKey.method());
+        if (parameterNames == null) {
+            parameterNames = new String[0];
+        }
+        CompiledKey template = TemplateKey.parse(cacheKey.expression(), parameterNames);
+        if (template != null) {
+            return template;
+        }
+        return new SpelKey(parser.parseExpression(cacheKey.expression()), parameterNames);
+    }
+
+    private record CacheKey(Method method, String expression) {
+    }
+
+    private interface CompiledKey {
+        Object evaluate(Object[] args);
+
+        String resolve(Object[] args);
+    }
+
+    /**
+     * 컴파일 모드 SpEL 표현식
+     */
+    private record SpelKey(Expression expression, String[] parameterNames) implements CompiledKey {
+
+        @Override
+        public Object evaluate(Object[] args) {
+            return expression.getValue(createContext(args));
+        }
+
+        @Override
+        public String resolve(Object[] args) {
+            return expression.getValue(createContext(args), String.class);
+        }
+
+        private StandardEvaluationContext createContext(Object[] args) {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+            return context;
+        }
+    }
+
+    /**
+     * 문자열 리터럴과 파라미터 참조를 + 로 이은 단순 템플릿
+     * <p>
+     * parts의 각 원소는 리터럴(String) 또는 인자 위치(Integer)입니다.
+     * SpEL은 숫자끼리의 +를 덧셈으로 처리하므로, 리터럴로 시작하는 템플릿만 변환합니다.
+     */
+    private record TemplateKey(Object[] parts) implements CompiledKey {
+
+        @Override
+        public Object evaluate(Object[] args) {
+            return resolve(args);
+        }
+
+        @Override
+        public String resolve(Object[] args) {
+            StringBuilder key = new StringBuilder(32);
+            for (Object part : parts) {
+                if (part instanceof Integer index) {
+                    key.append(args[index]);
+                } else {
+                    key.append((String) part);
+                }
+            }
+            return key.toString();
+        }
+
+        /**
+         * 표현식을 단순 템플릿으로 해석합니다.
+         *
+         * @return 단순 템플릿이 아니면 null
+         */
+        static TemplateKey parse(String expression, String[] parameterNames) {
+            List<Object> parts = new ArrayList<>();
+            int length = expression.length();
+            int i = 0;
+            boolean expectOperand = true;
+
+            while (i < length) {
+                char c = expression.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (!expectOperand) {
+                    if (c != '+') {
+                        return null;
+                    }
+                    expectOperand = true;
+                    i++;
+                } else if (c == '\'') {
+                    int end = expression.indexOf('\'', i + 1);
+                    // 닫는 따옴표가 없거나 이스케이프된 따옴표('')가 있으면 SpEL로 처리
+                    if (end < 0 || (end + 1 < length && expression.charAt(end + 1) == '\'')) {
+                        return null;
+                    }
+                    parts.add(expression.substring(i + 1, end));
+                    expectOperand = false;
+                    i = end + 1;
+                } else if (c == '#') {
+                    int end = i + 1;
+                    while (end < length && Character.isJavaIdentifierPart(expression.charAt(end))) {
+                        end++;
+                    }
+                    int index = indexOf(parameterNames, expression.substring(i + 1, end));
+                    if (index < 0) {
+                        return null;
+                    }
+                    parts.add(index);
+                    expectOperand = false;
+                    i = end;
+                } else {
+                    return null;
+                }
+            }
+
+            if (expectOperand || !(parts.getFirst() instanceof String)) {
+                return null;
+            }
+            return new TemplateKey(parts.toArray());
+        }
+
+        private static int indexOf(String[] parameterNames, String name) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                if (parameterNames[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.hhplus_ecommerce.common.infrastructure.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 분산 락 경합 지표
+ * <p>
+ * 락 키의 숫자 부분을 *로 바꾼 접두어(예: product:*:stock) 단위로 다음 지표를 기록합니다.
+ * - lock.wait: 락 획득까지 대기 시간 (result=acquired|failed)
+ * - lock.hold: 락 점유 시간
+ * - lock.acquire.failures: 락 획득 실패 수
+ * - lock.lease.near-expiry: 점유 시간이 leaseTime에 가까워진 횟수
+ * <p>
+ * 지표는 접두어별로 처음 기록할 때 한 번만 등록하고, 이후에는 보관한 지표에 바로 기록합니다.
+ * <p>
+ * 대기가 발생한 키는 전체 키 단위로 세어 상위 N개 인기 키를 뽑습니다.
+ * 카운트는 hot-keys.window-ms마다 초기화되고, 추적하는 키 수는 max-tracked로 제한됩니다.
+ */
+@Slf4j
+@Component
+public class LockMetrics {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("(?<=^|:)\\d+(?=:|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final long contentionThresholdNanos;
+    private final double leaseWarnRatio;
+    private final int maxTrackedKeys;
+
+    private final Map<String, LongAdder> contendedKeys = new ConcurrentHashMap<>();
+
+    // 접두어별 지표 (접두어 수는 락 키 형태 수로 제한됨)
+    private final Map<String, Timer> acquiredWaitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failedWaitTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> nearExpiryCounters = new ConcurrentHashMap<>();
+
+    public LockMetrics(
+        MeterRegistry meterRegistry,
+        @Value("${lock.metrics.contention-threshold-ms:1}") long contentionThresholdMs,
+        @Value("${lock.metrics.lease-warn-ratio:0.8}") double leaseWarnRatio,
+        @Value("${lock.metrics.hot-keys.max-tracked:10000}") int maxTrackedKeys
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.contentionThresholdNanos = TimeUnit.MILLISECONDS.toNanos(contentionThresholdMs);
+        this.leaseWarnRatio = leaseWarnRatio;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    /**
+     * 락 획득을 기록합니다.
+     *
+     * @param lockKey   락 키
+     * @param waitNanos 획득까지 대기한 시간
+     */
+    public void recordAcquired(String lockKey, long waitNanos) {
+        acquiredWaitTimers.computeIfAbsent(toPrefix(lockKey), prefix -> waitTimer(prefix, "acquired"))
+            .record(waitNanos, TimeUnit.NANOSECONDS);
+        recordContention(lockKey, waitNanos);
+    }
+
+    /**
+     * 락 획득 실패를 기록합니다.
+     *
+     * @param lockKey   락 키
+     * @param waitNanos 실패까지 대기한 시간
+     */
+    public void recordFailed(String lockKey, long waitNanos) {
+        String prefix = toPrefix(lockKey);
+        failedWaitTimers.computeIfAbsent(prefix, key -> waitTimer(key, "failed"))
+            .record(waitNanos, TimeUnit.NANOSECONDS);
+        failureCounters.computeIfAbsent(prefix, key -> Counter.builder("lock.acquire.failures")
+                .description("락 획득 실패 수")
+                .tag("prefix", key)
+                .register(meterRegistry))
+            .increment();
+        recordContention(lockKey, waitNanos);
+    }
+
+    /**
+     * 락 해제를 기록하고, 점유 시간이 leaseTime에 가까웠으면 경고합니다.
+     *
+     * @param lockKey    락 키
+     * @param holdNanos  점유한 시간
+     * @param leaseNanos 점유 시간 제한 (0 이하이면 Watchdog 연장이므로 경고하지 않음)
+     */
+    public void recordReleased(String lockKey, long holdNanos, long leaseNanos) {
+        String prefix = toPrefix(lockKey);
+        holdTimers.computeIfAbsent(prefix, key -> Timer.builder("lock.hold")
+                .description("락 점유 시간")
+                .tag("prefix", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+            .record(holdNanos, TimeUnit.NANOSECONDS);
+
+        if (leaseNanos > 0 && holdNanos >= leaseNanos * leaseWarnRatio) {
+            nearExpiryCounters.computeIfAbsent(prefix, key -> Counter.builder("lock.lease.near-expiry")
+                    .description("점유 시간이 leaseTime에 가까워진 횟수")
+                    .tag("prefix", key)
+                    .register(meterRegistry))
+                .increment();
+            log.warn("락 점유 시간 임박: lockKey={}, holdMs={}, leaseMs={}",
+                lockKey, TimeUnit.NANOSECONDS.toMillis(holdNanos), TimeUnit.NANOSECONDS.toMillis(leaseNanos));
+        }
+    }
+
+    /**
+     * 현재 윈도우에서 대기가 가장 많이 발생한 키를 반환합니다.
+     *
+     * @param limit 반환할 키 수
+     * @return 대기 횟수 내림차순 키 목록
+     */
+    public List<HotKey> getHotKeys(int limit) {
+        return contendedKeys.entrySet().stream()
+            .map(entry -> new HotKey(entry.getKey(), entry.getValue().sum()))
+            .sorted(Comparator.comparingLong(HotKey::contendedCount).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * 접두어별 대기·점유 시간 요약을 반환합니다.
+     */
+    public List<PrefixSummary> getPrefixSummaries() {
+        Map<String, PrefixSummary> summaries = new ConcurrentHashMap<>();
+        for (Timer timer : meterRegistry.find("lock.wait").tag("result", "acquired").timers()) {
+            String prefix = timer.getId().getTag("prefix");
+            Timer hold = meterRegistry.find("lock.hold").tag("prefix", prefix).timer();
+            Counter failures = meterRegistry.find("lock.acquire.failures").tag("prefix", prefix).counter();
+            summaries.put(prefix, new PrefixSummary(
+                prefix,
+                timer.count(),
+                failures != null ? (long) failures.count() : 0L,
+                timer.mean(TimeUnit.MILLISECONDS),
+                timer.max(TimeUnit.MILLISECONDS),
+                hold != null ? hold.mean(TimeUnit.MILLISECONDS) : 0.0,
+                hold != null ? hold.max(TimeUnit.MILLISECONDS) : 0.0
+            ));
+        }
+        return summaries.values().stream()
+            .sorted(Comparator.comparing(PrefixSummary::prefix))
+            .toList();
+    }
+
+    /**
+     * 인기 키 카운트를 초기화합니다.
+     */
+    @Scheduled(fixedDelayString = "${lock.metrics.hot-keys.window-ms:60000}")
+    public void resetHotKeys() {
+        contendedKeys.clear();
+    }
+
+    /**
+     * 락 키의 숫자 부분을 *로 바꿔 지표 태그로 쓸 접두어를 만듭니다.
+     */
+    static String toPrefix(String lockKey) {
+        return NUMERIC_SEGMENT.matcher(lockKey).replaceAll("*");
+    }
+
+    private Timer waitTimer(String prefix, String result) {
+        return Timer.builder("lock.wait")
+            .description("락 획득까지 대기 시간")
+            .tag("prefix", prefix)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+    }
+
+    private void recordContention(String lockKey, long waitNanos) {
+        if (waitNanos < contentionThresholdNanos) {
+            return;
+        }
+        LongAdder count = contendedKeys.get(lockKey);
+        if (count == null) {
+            if (contendedKeys.size() >= maxTrackedKeys) {
+                return;
+            }
+            count = contendedKeys.computeIfAbsent(lockKey, key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    public record HotKey(String lockKey, long contendedCount) {
+    }
+
+    public record PrefixSummary(
+        String prefix,
+        long acquiredCount,
+        long failedCount,
+        double meanWaitMs,
+        double maxWaitMs,
+        double meanHoldMs,
+        double maxHoldMs
+    ) {
+    }
+}
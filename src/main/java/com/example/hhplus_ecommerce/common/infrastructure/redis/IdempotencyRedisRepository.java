@@ -0,0 +1,127 @@
+package com.example.hhplus_ecommerce.common.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.common.infrastructure.idempotency.IdempotencyRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 멱등 키 Redis 저장소
+ * <p>
+ * - String: 요청 처리 상태 (idempotency:{scope}:{key}, 형식은 {@link IdempotencyRecord} 참고)
+ * <p>
+ * 처리 중 상태는 SET NX로 하나의 요청만 선점하고,
+ * 완료·해제는 선점한 요청의 상태 값이 그대로일 때만 반영합니다.
+ * 처리 중 TTL이 지나 다른 요청이 키를 다시 선점했다면, 늦게 끝난 요청이 그 상태를 덮거나 지우지 않습니다.
+ */
+@Slf4j
+@Repository
+public class IdempotencyRedisRepository extends AbstractRedisRepository {
+
+    private static final String IDEMPOTENCY_KEY = "idempotency:%s:%s";   // String: 요청 처리 상태
+
+    /**
+     * 선점 상태 확인 후 완료 저장 스크립트
+     * <p>
+     * KEYS[1]: 요청 처리 상태
+     * ARGV[1]: 선점한 처리 중 상태, ARGV[2]: 완료 상태, ARGV[3]: TTL(ms)
+     * <p>
+     * 반환값: 1 = 저장, 0 = 다른 요청이 선점했거나 만료됨
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    /**
+     * 선점 상태 확인 후 해제 스크립트
+     * <p>
+     * KEYS[1]: 요청 처리 상태
+     * ARGV[1]: 선점한 처리 중 상태
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('DEL', KEYS[1])
+        """, Long.class);
+
+    public IdempotencyRedisRepository(StringRedisTemplate redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /**
+     * 멱등 키의 요청 처리 상태를 조회합니다.
+     *
+     * @param scope 키 공간
+     * @param key   Idempotency-Key
+     * @return 요청 처리 상태 (없거나 형식이 올바르지 않으면 null)
+     */
+    public IdempotencyRecord find(String scope, String key) {
+        String value = get(idempotencyKey(scope, key));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return IdempotencyRecord.decode(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("멱등 키 상태 파싱 실패: scope={}, key={}", scope, key);
+            return null;
+        }
+    }
+
+    /**
+     * 멱등 키를 처리 중 상태로 선점합니다.
+     *
+     * @param scope      키 공간
+     * @param key        Idempotency-Key
+     * @param inProgress 처리 중 상태
+     * @param ttl        처리 중 상태 유지 시간
+     * @return 선점 여부
+     */
+    public boolean tryStart(String scope, String key, IdempotencyRecord inProgress, Duration ttl) {
+        Boolean started = redisTemplate.opsForValue()
+            .setIfAbsent(idempotencyKey(scope, key), inProgress.encode(), ttl);
+        return Boolean.TRUE.equals(started);
+    }
+
+    /**
+     * 선점한 멱등 키에 완료된 응답을 저장합니다.
+     *
+     * @param scope      키 공간
+     * @param key        Idempotency-Key
+     * @param inProgress 선점한 처리 중 상태
+     * @param completed  완료 상태
+     * @param ttl        완료 상태 유지 시간
+     * @return 저장 여부
+     */
+    public boolean complete(String scope, String key, IdempotencyRecord inProgress,
+                            IdempotencyRecord completed, Duration ttl) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(idempotencyKey(scope, key)),
+            inProgress.encode(), completed.encode(), String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 선점한 멱등 키를 해제하여 같은 키로 다시 시도할 수 있게 합니다.
+     *
+     * @param scope      키 공간
+     * @param key        Idempotency-Key
+     * @param inProgress 선점한 처리 중 상태
+     */
+    public void release(String scope, String key, IdempotencyRecord inProgress) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(idempotencyKey(scope, key)), inProgress.encode());
+    }
+
+    private String idempotencyKey(String scope, String key) {
+        return String.format(IDEMPOTENCY_KEY, scope, key);
+    }
+}
@@ -13,7 +13,8 @@ public enum CouponErrorCode implements ErrorCode {
     COUPON_ALREADY_USED(HttpStatus.CONFLICT, "이미 사용된 쿠폰입니다."),
     COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "이미 발급받은 쿠폰입니다."),
     COUPON_NOT_USED(HttpStatus.CONFLICT, "사용되지 않은 쿠폰입니다."),
-    COUPON_ISSUE_CONFLICT(HttpStatus.CONFLICT, "쿠폰 발급 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요.");
+    COUPON_ISSUE_CONFLICT(HttpStatus.CONFLICT, "쿠폰 발급 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요."),
+    COUPON_ISSUE_USER_OUT_OF_RANGE(HttpStatus.BAD_REQUEST, "쿠폰을 발급할 수 없는 사용자 ID입니다.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -0,0 +1,16 @@
+package com.example.hhplus_ecommerce.common.presentation.errorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum IdempotencyErrorCode implements ErrorCode {
+    INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.BAD_REQUEST, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 처리 중입니다.");
+
+    private final HttpStatus httpStatus;
+    private final String message;
+}
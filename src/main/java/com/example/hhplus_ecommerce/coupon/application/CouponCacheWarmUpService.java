@@ -0,0 +1,191 @@
+package com.example.hhplus_ecommerce.coupon.application;
+
+import com.example.hhplus_ecommerce.coupon.domain.Coupon;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.IssuedUserIndexType;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 Redis 캐시 워밍업 서비스
+ * <p>
+ * 발급 사용자 목록을 UserCoupon 엔티티 대신 사용자 ID 컬럼만 키셋 페이지 단위로 읽어
+ * 페이지마다 Redis에 파이프라인으로 복원합니다. 메모리 사용량이 페이지 크기로 고정되므로
+ * 발급 이력이 많아도 시작 시간이 선형으로만 늘어나고 OOM 위험이 없습니다.
+ * <p>
+ * - 쿠폰 단위로 병렬 처리 (coupon.cache.warmup.parallelism)
+ * - 진행 상황은 Micrometer 지표로 노출
+ *   (coupon.cache.warmup.coupons.pending, coupon.cache.warmup.coupons, coupon.cache.warmup.users, coupon.cache.warmup.duration)
+ */
+@Slf4j
+@Service
+public class CouponCacheWarmUpService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final CouponIssueGate couponIssueGate;
+    private final int pageSize;
+    private final int parallelism;
+    private final int bitmapThreshold;
+    private final List<Long> bitmapCouponIds;
+
+    private final AtomicInteger pendingCoupons = new AtomicInteger();
+    private final Counter warmedUpCoupons;
+    private final Counter failedCoupons;
+    private final Counter restoredUsers;
+    private final Timer warmUpTimer;
+
+    public CouponCacheWarmUpService(
+        CouponRepository couponRepository,
+        UserCouponRepository userCouponRepository,
+        CouponIssueRedisRepository couponIssueRedisRepository,
+        CouponIssueGate couponIssueGate,
+        MeterRegistry meterRegistry,
+        @Value("${coupon.cache.warmup.page-size:5000}") int pageSize,
+        @Value("${coupon.cache.warmup.parallelism:4}") int parallelism,
+        @Value("${coupon.issue.index.bitmap-threshold:100000}") int bitmapThreshold,
+        @Value("${coupon.issue.index.bitmap-coupon-ids:}") List<Long> bitmapCouponIds
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.couponIssueRedisRepository = couponIssueRedisRepository;
+        this.couponIssueGate = couponIssueGate;
+        this.pageSize = pageSize;
+        this.parallelism = parallelism;
+        this.bitmapThreshold = bitmapThreshold;
+        this.bitmapCouponIds = bitmapCouponIds;
+
+        Gauge.builder("coupon.cache.warmup.coupons.pending", pendingCoupons, AtomicInteger::get)
+            .description("워밍업이 끝나지 않은 쿠폰 수")
+            .register(meterRegistry);
+        this.warmedUpCoupons = Counter.builder("coupon.cache.warmup.coupons")
+            .tag("result", "success")
+            .register(meterRegistry);
+        this.failedCoupons = Counter.builder("coupon.cache.warmup.coupons")
+            .tag("result", "failure")
+            .register(meterRegistry);
+        this.restoredUsers = Counter.builder("coupon.cache.warmup.users")
+            .description("Redis에 복원한 발급 사용자 수")
+            .register(meterRegistry);
+        this.warmUpTimer = Timer.builder("coupon.cache.warmup.duration")
+            .description("전체 쿠폰 캐시 워밍업 소요 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 모든 쿠폰의 Redis 캐시를 병렬로 워밍업합니다.
+     * <p>
+     * 한 쿠폰의 실패는 다른 쿠폰의 워밍업에 영향을 주지 않습니다.
+     */
+    public void warmUpAll() {
+        warmUpTimer.record(() -> {
+            List<Coupon> coupons = couponRepository.findAll();
+            pendingCoupons.set(coupons.size());
+            log.info("전체 쿠폰 캐시 워밍업 시작: couponCount={}, parallelism={}, pageSize={}",
+                coupons.size(), parallelism, pageSize);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(
+                    parallelism, Thread.ofVirtual().name("coupon-cache-warmup-", 0).factory())) {
+                List<CompletableFuture<Void>> futures = new ArrayList<>(coupons.size());
+                for (Coupon coupon : coupons) {
+                    futures.add(CompletableFuture.runAsync(() -> warmUpSafely(coupon), executor));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            }
+
+            log.info("전체 쿠폰 캐시 워밍업 완료: couponCount={}, failed={}",
+                coupons.size(), (long) failedCoupons.count());
+        });
+    }
+
+    /**
+     * 특정 쿠폰의 Redis 캐시를 워밍업합니다.
+     * <p>
+     * - 재고 수량 (stock) 설정
+     * - 발급 사용자 인덱스 종류 (Set 또는 Bitmap) 선택
+     * - 기존 발급된 사용자 목록을 키셋 페이지 단위로 복원
+     * - 활성 쿠폰 레지스트리에 등록 (발급 큐 컨슈머가 처리 대상으로 인식)
+     * - 노드 로컬 발급 상태 초기화 (다른 노드에도 전파)
+     *
+     * @param coupon 쿠폰
+     * @return 복원한 발급 사용자 수
+     */
+    public long warmUp(Coupon coupon) {
+        Long couponId = coupon.getId();
+
+        // 1. 재고 수량 및 발급 사용자 인덱스 설정
+        couponIssueRedisRepository.setStock(couponId, (long) coupon.getTotalQuantity());
+        couponIssueRedisRepository.setIssuedUserIndex(couponId, resolveIssuedUserIndex(coupon));
+
+        // 2. 기존 발급된 사용자 목록 복원 (user_id 키셋 페이지)
+        long restored = 0;
+        long lastUserId = 0L;
+        while (true) {
+            List<Long> userIds = userCouponRepository.findIssuedUserIdsAfter(couponId, lastUserId, Limit.of(pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            couponIssueRedisRepository.bulkAddUserToIssuedSet(couponId, userIds);
+            restored += userIds.size();
+            restoredUsers.increment(userIds.size());
+            lastUserId = userIds.getLast();
+            if (userIds.size() < pageSize) {
+                break;
+            }
+        }
+
+        // 3. 활성 쿠폰 레지스트리 등록
+        couponIssueRedisRepository.registerActiveCoupon(couponId);
+
+        // 4. 로컬 발급 상태 초기화
+        couponIssueGate.open(couponId, coupon.getValidUntil());
+
+        log.info("쿠폰 Redis 캐시 초기화: couponId={}, stock={}, issuedCount={}",
+            couponId, coupon.getTotalQuantity(), restored);
+        return restored;
+    }
+
+    private void warmUpSafely(Coupon coupon) {
+        try {
+            warmUp(coupon);
+            warmedUpCoupons.increment();
+        } catch (Exception e) {
+            failedCoupons.increment();
+            log.error("쿠폰 캐시 워밍업 실패: couponId={}", coupon.getId(), e);
+        } finally {
+            pendingCoupons.decrementAndGet();
+        }
+    }
+
+    /**
+     * 쿠폰에 사용할 발급 사용자 인덱스 종류를 결정합니다.
+     * <p>
+     * - 설정된 쿠폰 ID 목록에 포함되거나 총 수량이 임계값 이상이면 Bitmap
+     * - 그 외에는 Set
+     */
+    private IssuedUserIndexType resolveIssuedUserIndex(Coupon coupon) {
+        if (bitmapCouponIds.contains(coupon.getId())) {
+            return IssuedUserIndexType.BITMAP;
+        }
+        if (bitmapThreshold > 0 && coupon.getTotalQuantity() >= bitmapThreshold) {
+            return IssuedUserIndexType.BITMAP;
+        }
+        return IssuedUserIndexType.SET;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.hhplus_ecommerce.coupon.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponJdbcRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 일괄 저장 서비스
+ * <p>
+ * 발급 큐에서 꺼낸 배치를 쿠폰 단위로 한 트랜잭션에 저장합니다.
+ * - 기존 발급 여부: IN 쿼리 1회로 배치 전체를 확인
+ * - 사용자 쿠폰 저장: 다중 행 INSERT
+ * - 발급 수량 갱신: 원자적 UPDATE 1회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueBatchService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+
+    /**
+     * 쿠폰 발급 배치를 저장합니다.
+     * <p>
+     * 이미 DB에 저장된 사용자와 배치 내 중복 사용자는 건너뜁니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  발급받은 사용자 ID 목록
+     * @return 새로 저장된 발급 수
+     * @throws NotFoundException 쿠폰을 찾을 수 없는 경우
+     */
+    @Transactional
+    public int persistIssued(Long couponId, List<Long> userIds) {
+        Set<Long> candidates = new LinkedHashSet<>(userIds);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // 이미 발급된 사용자 제외 (중복 방지)
+        Set<Long> alreadyIssued = new HashSet<>(userCouponRepository.findIssuedUserIds(couponId, candidates));
+        if (!alreadyIssued.isEmpty()) {
+            log.warn("이미 DB에 저장된 쿠폰: couponId={}, count={}", couponId, alreadyIssued.size());
+            candidates.removeAll(alreadyIssued);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // Coupon issuedQuantity 원자적 업데이트
+        int count = candidates.size();
+        if (couponRepository.incrementIssuedQuantity(couponId, count) == 0) {
+            throw new NotFoundException(CouponErrorCode.COUPON_NOT_FOUND);
+        }
+
+        // UserCoupon 일괄 저장
+        userCouponJdbcRepository.bulkInsertIssued(couponId, List.copyOf(candidates));
+
+        log.info("쿠폰 발급 완료: couponId={}, count={}", couponId, count);
+        return count;
+    }
+}
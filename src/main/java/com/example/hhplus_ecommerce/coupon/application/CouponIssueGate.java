@@ -0,0 +1,158 @@
+package com.example.hhplus_ecommerce.coupon.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 로컬 쿠폰 발급 상태 캐시
+ * <p>
+ * 소진되었거나 발급 기간이 지난 쿠폰의 발급 요청을 Redis 호출 없이 JVM 안에서 바로 거절합니다.
+ * - 소진: 발급 시 재고 부족이 확인되면 기록하고, 다른 노드에 SOLD_OUT 이벤트 발행
+ * - 만료: 쿠폰 캐시 초기화 시 발급 종료 시각을 기록
+ * - 초기화: 쿠폰 캐시를 다시 초기화하면 로컬 상태를 지우고, 다른 노드에 RESET 이벤트 발행
+ * <p>
+ * 이벤트는 Redis Pub/Sub(coupon:issue:events)으로 전파되며, 형식은 다음과 같습니다.
+ * - SOLD_OUT:{couponId}
+ * - RESET:{couponId}:{validUntil} 또는 RESET:* (전체)
+ * <p>
+ * 다른 노드의 SOLD_OUT은 RESET보다 늦게 도착할 수 있으므로, Redis의 발급 수가 재고 이상일 때만 반영합니다.
+ * RESET은 발급 종료 시각을 함께 전달하여 모든 노드가 같은 발급 기간을 적용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueGate {
+
+    private static final String SOLD_OUT_EVENT = "SOLD_OUT";
+    private static final String RESET_EVENT = "RESET";
+    private static final String ALL_COUPONS = "*";
+
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+
+    private final Set<Long> soldOutCouponIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, LocalDateTime> validUntilByCouponId = new ConcurrentHashMap<>();
+
+    /**
+     * 쿠폰이 발급 가능한 상태인지 로컬 캐시로 확인합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @throws ConflictException 쿠폰이 소진되었거나 발급 기간이 종료된 경우
+     */
+    public void checkOpen(Long couponId) {
+        if (soldOutCouponIds.contains(couponId)) {
+            throw new ConflictException(CouponErrorCode.COUPON_SOLD_OUT);
+        }
+        LocalDateTime validUntil = validUntilByCouponId.get(couponId);
+        if (validUntil != null && LocalDateTime.now().isAfter(validUntil)) {
+            throw new ConflictException(CouponErrorCode.COUPON_EXPIRED, "쿠폰 발급 기간이 종료되었습니다.");
+        }
+    }
+
+    /**
+     * 쿠폰을 소진 상태로 기록하고 다른 노드에 알립니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void markSoldOut(Long couponId) {
+        if (soldOutCouponIds.add(couponId)) {
+            couponIssueRedisRepository.publishEvent(SOLD_OUT_EVENT + ":" + couponId);
+            log.info("쿠폰 소진 기록: couponId={}", couponId);
+        }
+    }
+
+    /**
+     * 쿠폰 캐시 초기화 후 로컬 상태를 다시 설정하고 다른 노드에 알립니다.
+     *
+     * @param couponId   쿠폰 ID
+     * @param validUntil 발급 종료 시각
+     */
+    public void open(Long couponId, LocalDateTime validUntil) {
+        resetLocal(couponId, validUntil);
+        String target = validUntil != null ? couponId + ":" + validUntil : String.valueOf(couponId);
+        couponIssueRedisRepository.publishEvent(RESET_EVENT + ":" + target);
+    }
+
+    /**
+     * 모든 로컬 상태를 지우고 다른 노드에 알립니다.
+     */
+    public void resetAll() {
+        clearLocal();
+        couponIssueRedisRepository.publishEvent(RESET_EVENT + ":" + ALL_COUPONS);
+    }
+
+    /**
+     * 다른 노드에서 발행한 이벤트를 로컬 상태에 반영합니다.
+     * <p>
+     * 자신이 발행한 이벤트도 수신되지만, 같은 발행자의 메시지는 순서대로 도착하므로 최종 상태는 같습니다.
+     * 발행자가 다른 SOLD_OUT과 RESET은 순서가 보장되지 않으므로, SOLD_OUT은 Redis에서 소진 여부를 다시 확인합니다.
+     *
+     * @param message 이벤트 메시지
+     */
+    public void onEvent(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            log.warn("알 수 없는 쿠폰 발급 이벤트: message={}", message);
+            return;
+        }
+        String type = message.substring(0, separator);
+        String target = message.substring(separator + 1);
+        try {
+            switch (type) {
+                case SOLD_OUT_EVENT -> applySoldOut(Long.valueOf(target));
+                case RESET_EVENT -> applyReset(target);
+                default -> log.warn("알 수 없는 쿠폰 발급 이벤트: message={}", message);
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            log.warn("알 수 없는 쿠폰 발급 이벤트: message={}", message);
+        }
+    }
+
+    private void applySoldOut(Long couponId) {
+        Long stock = couponIssueRedisRepository.getStock(couponId);
+        if (stock == null || couponIssueRedisRepository.getIssuedCount(couponId) < stock) {
+            // RESET 이후 늦게 도착한 이벤트
+            log.debug("소진 이벤트 무시 (발급 가능): couponId={}", couponId);
+            return;
+        }
+        soldOutCouponIds.add(couponId);
+    }
+
+    private void applyReset(String target) {
+        if (ALL_COUPONS.equals(target)) {
+            clearLocal();
+            return;
+        }
+        int separator = target.indexOf(':');
+        if (separator < 0) {
+            Long couponId = Long.valueOf(target);
+            soldOutCouponIds.remove(couponId);
+            validUntilByCouponId.remove(couponId);
+            return;
+        }
+        resetLocal(Long.valueOf(target.substring(0, separator)), LocalDateTime.parse(target.substring(separator + 1)));
+    }
+
+    private void resetLocal(Long couponId, LocalDateTime validUntil) {
+        soldOutCouponIds.remove(couponId);
+        if (validUntil != null) {
+            validUntilByCouponId.put(couponId, validUntil);
+        } else {
+            validUntilByCouponId.remove(couponId);
+        }
+    }
+
+    private void clearLocal() {
+        soldOutCouponIds.clear();
+        validUntilByCouponId.clear();
+    }
+}
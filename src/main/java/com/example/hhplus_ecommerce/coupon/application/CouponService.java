@@ -3,6 +3,7 @@ package com.example.hhplus_ecommerce.coupon.application;
 import com.example.hhplus_ecommerce.coupon.domain.Coupon;
 import com.example.hhplus_ecommerce.coupon.domain.UserCoupon;
 import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueResult;
 import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
 import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
 import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
@@ -15,6 +16,7 @@ import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.IssueCoupon
 import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.UserCouponResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,14 @@ public class CouponService {
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
     private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final CouponIssueGate couponIssueGate;
+    private final CouponCacheWarmUpService couponCacheWarmUpService;
+
+    /**
+     * Lua 스크립트 발급 모드 사용 여부 (false면 명령별 왕복 방식으로 발급)
+     */
+    @Value("${coupon.issue.script-enabled:true}")
+    private boolean scriptEnabled;
 
     public List<CouponResponse> getCoupons() {
         List<Coupon> coupons = couponRepository.findAll();
@@ -45,15 +55,15 @@ public class CouponService {
      * 쿠폰 발급을 요청합니다. (비동기 처리)
      * <p>
      * Redis를 사용한 선착순 쿠폰 발급 시스템:
-     * 1. Set에 userId 추가 (SADD - 원자적 연산, 중복 발급 방지)
-     * 2. 재고 확인 (Set size vs stock)
-     * 3. 발급 큐에 추가 (List RPUSH)
-     * 4. 사용자에게 즉시 응답 (실제 DB 저장은 스케줄러가 처리)
+     * 1. 중복 발급 확인 및 재고 확인
+     * 2. 발급 큐에 추가 (List RPUSH)
+     * 3. 사용자에게 즉시 응답 (실제 DB 저장은 스케줄러가 처리)
      * <p>
-     * 동시성 제어:
-     * - Redis SADD: 원자적 연산으로 중복 발급 방지
-     * - Redis SCARD: Set 크기로 현재 발급 수 확인
-     * - 실패 시 SREM으로 롤백 (원자적)
+     * 발급 모드 (coupon.issue.script-enabled):
+     * - true: Lua 스크립트로 모든 단계를 한 번의 EVALSHA 호출로 처리 (기본값)
+     * - false: SADD/GET/SCARD/RPUSH를 각각 호출하고 실패 시 SREM으로 롤백
+     * <p>
+     * 이미 소진되었거나 발급 기간이 종료된 쿠폰은 노드 로컬 캐시({@link CouponIssueGate})로 Redis 호출 없이 거절합니다.
      *
      * @param userId 쿠폰을 발급받을 사용자 ID
      * @param request 쿠폰 발급 요청 정보 (쿠폰 ID)
@@ -61,8 +71,58 @@ public class CouponService {
      * @throws ConflictException 쿠폰이 이미 발급되었거나 재고가 없는 경우
      */
     public void issueCoupon(Long userId, IssueCouponRequest request) {
-        Long couponId = request.couponId();
+        couponIssueGate.checkOpen(request.couponId());
+
+        if (scriptEnabled) {
+            issueCouponWithScript(userId, request.couponId());
+        } else {
+            issueCouponWithRoundTrips(userId, request.couponId());
+        }
+    }
+
+    /**
+     * Lua 스크립트로 쿠폰 발급을 처리합니다.
+     * <p>
+     * 동시성 제어:
+     * - 스크립트는 Redis에서 원자적으로 실행되므로 중복 확인과 재고 확인 사이에 경합이 없음
+     * - 재고 초과 시 Set에 추가하지 않으므로 롤백이 필요 없음
+     */
+    private void issueCouponWithScript(Long userId, Long couponId) {
+        CouponIssueQueueItem queueItem = CouponIssueQueueItem.create(userId, couponId);
+        CouponIssueResult result = couponIssueRedisRepository.issue(couponId, userId, queueItem);
+
+        switch (result) {
+            case ISSUED -> log.info("쿠폰 발급 큐 추가 완료: userId={}, couponId={}", userId, couponId);
+            case ALREADY_ISSUED -> {
+                log.warn("쿠폰 중복 발급 시도: userId={}, couponId={}", userId, couponId);
+                throw new ConflictException(CouponErrorCode.COUPON_ALREADY_ISSUED);
+            }
+            case STOCK_NOT_FOUND -> {
+                log.error("쿠폰 재고 캐시 없음: couponId={}", couponId);
+                throw new NotFoundException(CouponErrorCode.COUPON_NOT_FOUND);
+            }
+            case SOLD_OUT -> {
+                log.warn("쿠폰 재고 부족: couponId={}, userId={}", couponId, userId);
+                couponIssueGate.markSoldOut(couponId);
+                throw new ConflictException(CouponErrorCode.COUPON_SOLD_OUT);
+            }
+        }
+    }
 
+    /**
+     * Redis 명령을 각각 호출하여 쿠폰 발급을 처리합니다.
+     * <p>
+     * 동시성 제어:
+     * - Redis SADD: 원자적 연산으로 중복 발급 방지
+     * - Redis SCARD: Set 크기로 현재 발급 수 확인
+     * - 실패 시 SREM으로 롤백 (원자적)
+     * <p>
+     * SADD와 SCARD 사이에 다른 요청이 끼어들면 Set 크기가 잠시 재고를 넘을 수 있습니다.
+     * 이때는 남은 재고가 있어도 두 요청이 모두 실패할 수 있고, 롤백 후 다시 읽은 발급 수도
+     * 다른 요청의 롤백 전 값일 수 있으므로 이 방식에서는 로컬 소진 기록({@link CouponIssueGate#markSoldOut})을 남기지 않습니다.
+     * 소진 기록은 확인과 추가가 원자적인 스크립트 방식의 결과로만 남깁니다.
+     */
+    private void issueCouponWithRoundTrips(Long userId, Long couponId) {
         // 1. Set에 userId 추가 (SADD - 원자적, 중복 시 0 반환)
         Long added = couponIssueRedisRepository.addUserToIssuedSet(couponId, userId);
         if (added == null || added == 0) {
@@ -89,6 +149,7 @@ public class CouponService {
                 couponIssueRedisRepository.removeUserFromIssuedSet(couponId, userId);
                 log.warn("쿠폰 재고 부족: couponId={}, currentSize={}, stock={}",
                     couponId, currentSize, stock);
+                // 동시 SADD로 인한 일시적 초과일 수 있으므로 소진으로 기록하지 않음
                 throw new ConflictException(CouponErrorCode.COUPON_SOLD_OUT);
             }
 
@@ -121,58 +182,22 @@ public class CouponService {
     /**
      * 특정 쿠폰의 Redis 캐시를 초기화합니다.
      * <p>
-     * - 재고 수량 (stock) 설정
-     * - 기존 발급된 사용자 목록 (Set) 복원
+     * 실제 복원은 {@link CouponCacheWarmUpService}가 사용자 ID 키셋 페이지 단위로 수행합니다.
      *
      * @param couponId 쿠폰 ID
      */
     public void initializeCouponCache(Long couponId) {
         Coupon coupon = couponRepository.findByIdOrThrow(couponId);
-
-        // 1. 재고 수량 설정
-        couponIssueRedisRepository.setStock(couponId, (long) coupon.getTotalQuantity());
-
-        // 2. 기존 발급된 사용자 목록 복원
-        List<UserCoupon> issuedUserCoupons = userCouponRepository.findByCoupon_Id(couponId);
-        if (!issuedUserCoupons.isEmpty()) {
-            List<Long> userIds = issuedUserCoupons.stream()
-                .map(UserCoupon::getUserId)
-                .toList();
-            couponIssueRedisRepository.bulkAddUserToIssuedSet(couponId, userIds);
-        }
-
-        log.info("쿠폰 Redis 캐시 초기화: couponId={}, stock={}, issuedCount={}",
-            couponId, coupon.getTotalQuantity(), issuedUserCoupons.size());
+        couponCacheWarmUpService.warmUp(coupon);
     }
 
     /**
      * DB의 모든 쿠폰 정보를 Redis에 일괄 초기화합니다.
      * <p>
-     * 서버 시작 시 또는 수동 API 호출로 실행됩니다.
+     * 서버 시작 시 또는 수동 API 호출로 실행되며, 쿠폰 단위로 병렬 처리합니다.
      */
-    @Transactional(readOnly = true)
     public void initializeAllCouponCache() {
-        log.info("전체 쿠폰 캐시 초기화 시작");
-
-        List<Coupon> allCoupons = couponRepository.findAll();
-
-        for (Coupon coupon : allCoupons) {
-            Long couponId = coupon.getId();
-
-            // 1. 재고 수량 설정
-            couponIssueRedisRepository.setStock(couponId, (long) coupon.getTotalQuantity());
-
-            // 2. 기존 발급된 사용자 목록 복원
-            List<UserCoupon> issuedUserCoupons = userCouponRepository.findByCoupon_Id(couponId);
-            if (!issuedUserCoupons.isEmpty()) {
-                List<Long> userIds = issuedUserCoupons.stream()
-                    .map(UserCoupon::getUserId)
-                    .toList();
-                couponIssueRedisRepository.bulkAddUserToIssuedSet(couponId, userIds);
-            }
-        }
-
-        log.info("전체 쿠폰 캐시 초기화 완료: {} 개 쿠폰", allCoupons.size());
+        couponCacheWarmUpService.warmUpAll();
     }
 
     /**
@@ -180,6 +205,7 @@ public class CouponService {
      */
     public void clearCache() {
         couponIssueRedisRepository.clearAll();
+        couponIssueGate.resetAll();
         log.info("쿠폰 캐시 삭제 완료");
     }
 
@@ -11,7 +11,11 @@ import java.time.Instant;
 /**
  * 쿠폰 발급 큐에 저장되는 아이템
  * <p>
- * Redis List에 JSON 형태로 저장되며, 스케줄러에 의해 처리됩니다.
+ * Redis 큐에 압축 문자열 형태로 저장되며, 스케줄러에 의해 처리됩니다.
+ * <p>
+ * 압축 형식 (버전 1): {@code 1:<userId>:<couponId>:<queuedAt epoch millis>}
+ * - 숫자는 36진수로 기록하여 JSON 대비 약 1/3 크기
+ * - 첫 글자는 형식 버전, '{'로 시작하면 이전 JSON 형식으로 간주하여 하위 호환 유지
  */
 public record CouponIssueQueueItem(
     @JsonProperty("userId") Long userId,
@@ -21,6 +25,10 @@ public record CouponIssueQueueItem(
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
         .registerModule(new JavaTimeModule());
 
+    private static final char FORMAT_V1 = '1';
+    private static final char SEPARATOR = ':';
+    private static final int RADIX = Character.MAX_RADIX;
+
     /**
      * JSON 역직렬화를 위한 생성자
      */
@@ -67,4 +75,55 @@ public record CouponIssueQueueItem(
             throw new IllegalStateException("쿠폰 발급 큐 아이템 역직렬화 실패: " + json, e);
         }
     }
+
+    /**
+     * 큐에 저장할 압축 문자열로 인코딩합니다.
+     * <p>
+     * 리플렉션 없이 문자열을 직접 조립하며, 대기 시각은 밀리초 단위로 기록합니다.
+     *
+     * @return 버전 1 압축 문자열
+     */
+    public String encode() {
+        return new StringBuilder(32)
+            .append(FORMAT_V1).append(SEPARATOR)
+            .append(Long.toString(userId, RADIX)).append(SEPARATOR)
+            .append(Long.toString(couponId, RADIX)).append(SEPARATOR)
+            .append(Long.toString(queuedAt.toEpochMilli(), RADIX))
+            .toString();
+    }
+
+    /**
+     * 큐에 저장된 문자열을 디코딩합니다.
+     * <p>
+     * 압축 형식과 이전 JSON 형식을 모두 지원합니다.
+     *
+     * @param value 큐에 저장된 문자열
+     * @return CouponIssueQueueItem 객체
+     * @throws IllegalStateException 알 수 없는 형식이거나 디코딩 실패 시
+     */
+    public static CouponIssueQueueItem decode(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalStateException("쿠폰 발급 큐 아이템이 비어있습니다.");
+        }
+        char format = value.charAt(0);
+        if (format == '{') {
+            return fromJson(value);
+        }
+        if (format != FORMAT_V1 || value.length() < 2 || value.charAt(1) != SEPARATOR) {
+            throw new IllegalStateException("알 수 없는 쿠폰 발급 큐 아이템 형식: " + value);
+        }
+        try {
+            int userIdEnd = value.indexOf(SEPARATOR, 2);
+            int couponIdEnd = value.indexOf(SEPARATOR, userIdEnd + 1);
+            if (userIdEnd < 0 || couponIdEnd < 0) {
+                throw new IllegalStateException("쿠폰 발급 큐 아이템 디코딩 실패: " + value);
+            }
+            long userId = Long.parseLong(value, 2, userIdEnd, RADIX);
+            long couponId = Long.parseLong(value, userIdEnd + 1, couponIdEnd, RADIX);
+            long queuedAtMillis = Long.parseLong(value, couponIdEnd + 1, value.length(), RADIX);
+            return new CouponIssueQueueItem(userId, couponId, Instant.ofEpochMilli(queuedAtMillis));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("쿠폰 발급 큐 아이템 디코딩 실패: " + value, e);
+        }
+    }
 }
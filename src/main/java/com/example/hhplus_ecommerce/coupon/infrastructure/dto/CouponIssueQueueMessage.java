@@ -0,0 +1,26 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.dto;
+
+/**
+ * 발급 대기 큐에서 가져온 메시지
+ * <p>
+ * ACK/NACK 시 원본 항목을 식별하기 위해 백엔드별 ID와 원본 문자열을 함께 보관합니다.
+ * - List 백엔드: ID는 원본 문자열과 같음
+ * - Stream 백엔드: ID는 스트림 항목 ID (예: 1700000000000-0)
+ *
+ * @param id      메시지 ID
+ * @param payload 큐에 저장된 원본 문자열
+ */
+public record CouponIssueQueueMessage(
+    String id,
+    String payload
+) {
+    /**
+     * List 백엔드의 메시지를 생성합니다.
+     *
+     * @param payload 큐에 저장된 원본 문자열
+     * @return 원본 문자열을 ID로 사용하는 메시지
+     */
+    public static CouponIssueQueueMessage of(String payload) {
+        return new CouponIssueQueueMessage(payload, payload);
+    }
+}
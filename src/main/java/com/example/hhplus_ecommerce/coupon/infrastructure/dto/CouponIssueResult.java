@@ -0,0 +1,38 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.dto;
+
+import java.util.Arrays;
+
+/**
+ * 쿠폰 발급 Lua 스크립트의 실행 결과
+ * <p>
+ * 스크립트는 결과를 정수 코드로 반환하며, 이 enum으로 변환하여 사용합니다.
+ */
+public enum CouponIssueResult {
+    ISSUED(1L),
+    ALREADY_ISSUED(0L),
+    STOCK_NOT_FOUND(-1L),
+    SOLD_OUT(-2L);
+
+    private final long code;
+
+    CouponIssueResult(long code) {
+        this.code = code;
+    }
+
+    /**
+     * 스크립트 반환 코드를 결과로 변환합니다.
+     *
+     * @param code 스크립트 반환 코드
+     * @return 발급 결과
+     * @throws IllegalStateException 알 수 없는 코드인 경우
+     */
+    public static CouponIssueResult fromCode(Long code) {
+        if (code == null) {
+            throw new IllegalStateException("쿠폰 발급 스크립트 결과가 없습니다.");
+        }
+        return Arrays.stream(values())
+            .filter(result -> result.code == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 쿠폰 발급 스크립트 결과: " + code));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.dto;
+
+/**
+ * 쿠폰별 발급 사용자 인덱스 종류
+ * <p>
+ * - SET: 사용자 ID를 문자열로 저장하는 Redis Set (기본값, 발급 수가 적은 쿠폰에 적합)
+ * - BITMAP: 사용자 ID를 비트 오프셋으로 사용하는 Redis Bitmap + 발급 수 카운터
+ *   (발급 수가 많은 쿠폰에 적합, 메모리는 최대 사용자 ID / 8 바이트로 고정)
+ */
+public enum IssuedUserIndexType {
+    SET,
+    BITMAP;
+
+    /**
+     * Redis에 저장된 값을 인덱스 종류로 변환합니다.
+     *
+     * @param value 저장된 값 (없으면 null)
+     * @return 인덱스 종류 (값이 없으면 SET)
+     */
+    public static IssuedUserIndexType fromValue(String value) {
+        return value == null ? SET : valueOf(value);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.coupon.application.CouponIssueGate;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 쿠폰 발급 상태 변경 이벤트 구독자
+ * <p>
+ * coupon:issue:events 채널을 구독하여 수신한 이벤트를 로컬 발급 상태 캐시({@link CouponIssueGate})에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueEventSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final CouponIssueGate couponIssueGate;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(CouponIssueRedisRepository.COUPON_EVENT_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("쿠폰 발급 이벤트 수신: message={}", body);
+        couponIssueGate.onEvent(body);
+    }
+}
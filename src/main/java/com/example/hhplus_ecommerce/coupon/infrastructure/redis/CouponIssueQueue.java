@@ -0,0 +1,70 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 대기 큐의 소비 측 추상화
+ * <p>
+ * coupon.issue.queue.backend 설정으로 구현체를 선택합니다.
+ * - list (기본값): Redis List 기반 ({@link ListCouponIssueQueue})
+ * - stream: Redis Stream 컨슈머 그룹 기반 ({@link StreamCouponIssueQueue})
+ */
+public interface CouponIssueQueue {
+
+    /**
+     * 처리할 항목 수를 반환합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 큐 깊이
+     */
+    long size(Long couponId);
+
+    /**
+     * 최대 count개의 항목을 가져옵니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param count    최대 항목 수
+     * @return 가져온 메시지 목록 (없으면 빈 목록)
+     */
+    List<CouponIssueQueueMessage> take(Long couponId, int count);
+
+    /**
+     * 항목이 들어올 때까지 최대 timeout만큼 대기한 뒤, 최대 count개의 항목을 가져옵니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param count    최대 항목 수
+     * @param timeout  최대 대기 시간
+     * @return 가져온 메시지 목록 (timeout 시 빈 목록)
+     */
+    List<CouponIssueQueueMessage> blockingTake(Long couponId, int count, Duration timeout);
+
+    /**
+     * DB 커밋이 끝난 메시지를 확인 처리합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param messages 처리 완료된 메시지 목록
+     */
+    void acknowledge(Long couponId, List<CouponIssueQueueMessage> messages);
+
+    /**
+     * 처리에 실패한 메시지를 재시도하거나 데드레터 큐로 보냅니다.
+     *
+     * @param couponId   쿠폰 ID
+     * @param messages   실패한 메시지 목록
+     * @param maxRetries 최대 재시도 횟수 (0이면 바로 데드레터 큐로 이동)
+     * @return 데드레터 큐로 보낸 메시지 수
+     */
+    long reject(Long couponId, List<CouponIssueQueueMessage> messages, int maxRetries);
+
+    /**
+     * staleAfter 이상 확인 처리되지 않은 메시지를 다시 처리할 수 있도록 되돌립니다.
+     *
+     * @param couponId   쿠폰 ID
+     * @param staleAfter 오래된 것으로 판단할 시간
+     * @return 되돌린 메시지 수
+     */
+    long reclaimStale(Long couponId, Duration staleAfter);
+}
@@ -1,34 +1,342 @@
 package com.example.hhplus_ecommerce.coupon.infrastructure.redis;
 
 import com.example.hhplus_ecommerce.common.infrastructure.redis.AbstractRedisRepository;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.BadRequestException;
 import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueResult;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.IssuedUserIndexType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * 쿠폰 선착순 발급 Redis 저장소
  * <p>
  * Redis를 사용한 선착순 쿠폰 발급 시스템:
- * - Set: 발급받은 사용자 목록 (중복 발급 방지)
+ * - Set 또는 Bitmap: 발급받은 사용자 목록 (중복 발급 방지, 쿠폰별로 선택)
  * - String: 재고 수량
  * - List: 발급 대기 큐
+ * - Set: 활성 쿠폰 레지스트리 (KEYS 스캔 없이 쿠폰 키를 찾기 위함)
+ * <p>
+ * 발급 요청은 Lua 스크립트로 중복 확인, 재고 확인, 큐 추가를 한 번의 EVALSHA 호출로 처리합니다.
+ * <p>
+ * 신뢰성 큐 모드에서는 다음 키를 추가로 사용합니다:
+ * - List: 처리 중 목록 (큐에서 LMOVE로 옮겨진 항목, ACK 전까지 보관)
+ * - Sorted Set: 처리 시작 시각 (오래된 처리 중 항목 회수용)
+ * - Hash: 항목별 재시도 횟수
+ * - List: 데드레터 큐 (재시도를 모두 소진했거나 파싱할 수 없는 항목)
+ * <p>
+ * Stream 백엔드(coupon.issue.queue.backend=stream)에서는 발급 대기 큐로 List 대신 Stream을 사용하며,
+ * 컨슈머 그룹(XREADGROUP/XACK/XAUTOCLAIM)으로 여러 노드가 항목을 나누어 처리합니다.
  */
 @Slf4j
 @Repository
 public class CouponIssueRedisRepository extends AbstractRedisRepository {
 
     private static final String COUPON_USER_SET_KEY = "coupon:user:%d";      // Set: 발급받은 사용자 목록
+    private static final String COUPON_USER_BITMAP_KEY = "coupon:user:bitmap:%d"; // Bitmap: 발급받은 사용자 목록
+    private static final String COUPON_USER_COUNT_KEY = "coupon:user:count:%d";   // String: Bitmap 인덱스의 발급 수
+    private static final String COUPON_USER_INDEX_KEY = "coupon:user:index:%d";   // String: 발급 사용자 인덱스 종류
     private static final String COUPON_STOCK_KEY = "coupon:stock:%d";         // String: 재고 수량
     private static final String COUPON_QUEUE_KEY = "coupon:issue:queue:%d";   // List: 발급 대기 큐
+    private static final String ACTIVE_COUPON_SET_KEY = "coupon:active";      // Set: 활성 쿠폰 ID 목록
+    private static final String COUPON_PROCESSING_KEY = "coupon:issue:processing:%d"; // List: 처리 중 목록
+    private static final String COUPON_INFLIGHT_KEY = "coupon:issue:inflight:%d";     // Sorted Set: 처리 시작 시각
+    private static final String COUPON_RETRY_KEY = "coupon:issue:retry:%d";           // Hash: 재시도 횟수
+    private static final String COUPON_DLQ_KEY = "coupon:issue:dlq:%d";               // List: 데드레터 큐
+    private static final String COUPON_STREAM_KEY = "coupon:issue:stream:%d";         // Stream: 발급 대기 스트림
+    private static final String STREAM_ITEM_FIELD = "item";
+    private static final long MAX_BITMAP_OFFSET = (1L << 32) - 1;
+    private static final int SADD_CHUNK_SIZE = 1000;
+    public static final String COUPON_EVENT_CHANNEL = "coupon:issue:events";         // Pub/Sub: 발급 상태 변경 이벤트
+    private static final String QUEUE_BACKEND_STREAM = "stream";
+
+    /**
+     * 쿠폰 발급 스크립트
+     * <p>
+     * KEYS[1]: 발급 사용자 Set, KEYS[2]: 재고, KEYS[3]: 발급 대기 큐 (List 또는 Stream),
+     * KEYS[4]: 발급 사용자 Bitmap, KEYS[5]: Bitmap 발급 수, KEYS[6]: 발급 사용자 인덱스 종류
+     * ARGV[1]: 사용자 ID, ARGV[2]: 큐 아이템, ARGV[3]: 큐 백엔드 (list, stream)
+     * <p>
+     * 반환값: 1 = 발급, 0 = 중복 발급, -1 = 재고 캐시 없음, -2 = 재고 소진
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('GET', KEYS[2])
+        if not stock then
+            return -1
+        end
+        if redis.call('GET', KEYS[6]) == 'BITMAP' then
+            if redis.call('GETBIT', KEYS[4], ARGV[1]) == 1 then
+                return 0
+            end
+            if tonumber(redis.call('GET', KEYS[5]) or '0') >= tonumber(stock) then
+                return -2
+            end
+            redis.call('SETBIT', KEYS[4], ARGV[1], 1)
+            redis.call('INCR', KEYS[5])
+        else
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                return 0
+            end
+            if redis.call('SCARD', KEYS[1]) >= tonumber(stock) then
+                return -2
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+        end
+        if ARGV[3] == 'stream' then
+            redis.call('XADD', KEYS[3], '*', 'item', ARGV[2])
+        else
+            redis.call('RPUSH', KEYS[3], ARGV[2])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * 처리 중 목록으로 배치를 옮기는 스크립트
+     * <p>
+     * KEYS[1]: 발급 대기 큐, KEYS[2]: 처리 중 목록, KEYS[3]: 처리 시작 시각
+     * ARGV[1]: 최대 항목 수, ARGV[2]: 현재 시각(ms)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local items = {}
+        for i = 1, tonumber(ARGV[1]) do
+            local item = redis.call('LMOVE', KEYS[1], KEYS[2], 'LEFT', 'RIGHT')
+            if not item then
+                break
+            end
+            redis.call('ZADD', KEYS[3], ARGV[2], item)
+            items[#items + 1] = item
+        end
+        return items
+        """, List.class);
+
+    /**
+     * 처리 완료된 항목을 정리하는 스크립트 (ACK)
+     * <p>
+     * KEYS[1]: 처리 중 목록, KEYS[2]: 처리 시작 시각, KEYS[3]: 재시도 횟수
+     * ARGV: 처리 완료된 항목들
+     */
+    private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+        for _, item in ipairs(ARGV) do
+            redis.call('LREM', KEYS[1], 1, item)
+            redis.call('ZREM', KEYS[2], item)
+            redis.call('HDEL', KEYS[3], item)
+        end
+        return #ARGV
+        """, Long.class);
+
+    /**
+     * 처리 실패한 항목을 재시도 또는 데드레터 큐로 보내는 스크립트 (NACK)
+     * <p>
+     * KEYS[1]: 처리 중 목록, KEYS[2]: 처리 시작 시각, KEYS[3]: 재시도 횟수, KEYS[4]: 발급 대기 큐, KEYS[5]: 데드레터 큐
+     * ARGV[1]: 최대 재시도 횟수, ARGV[2..]: 실패한 항목들
+     * <p>
+     * 반환값: 데드레터 큐로 보낸 항목 수
+     */
+    private static final RedisScript<Long> NACK_SCRIPT = new DefaultRedisScript<>("""
+        local maxRetries = tonumber(ARGV[1])
+        local deadLettered = 0
+        for i = 2, #ARGV do
+            local item = ARGV[i]
+            redis.call('LREM', KEYS[1], 1, item)
+            redis.call('ZREM', KEYS[2], item)
+            local retries = redis.call('HINCRBY', KEYS[3], item, 1)
+            if retries > maxRetries then
+                redis.call('RPUSH', KEYS[5], item)
+                deadLettered = deadLettered + 1
+            else
+                redis.call('RPUSH', KEYS[4], item)
+            end
+        end
+        return deadLettered
+        """, Long.class);
+
+    /**
+     * 오래된 처리 중 항목을 발급 대기 큐로 되돌리는 스크립트
+     * <p>
+     * KEYS[1]: 처리 중 목록, KEYS[2]: 처리 시작 시각, KEYS[3]: 발급 대기 큐
+     * ARGV[1]: 기준 시각(ms, 이전에 처리를 시작한 항목을 회수), ARGV[2]: 현재 시각(ms)
+     * <p>
+     * 처리 시작 시각이 기록되지 않은 처리 중 항목은 현재 시각으로 기록하여 다음 회수 대상에 포함시킵니다.
+     */
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+        for _, item in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+            redis.call('ZADD', KEYS[2], 'NX', ARGV[2], item)
+        end
+        local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+        for _, item in ipairs(stale) do
+            redis.call('LREM', KEYS[1], 1, item)
+            redis.call('ZREM', KEYS[2], item)
+            redis.call('LPUSH', KEYS[3], item)
+        end
+        return #stale
+        """, Long.class);
+
+    /**
+     * 처리 완료된 스트림 항목을 정리하는 스크립트 (ACK)
+     * <p>
+     * KEYS[1]: 발급 대기 스트림, KEYS[2]: 재시도 횟수
+     * ARGV[1]: 컨슈머 그룹, ARGV[2..]: (항목 ID, 항목) 쌍
+     */
+    private static final RedisScript<Long> STREAM_ACK_SCRIPT = new DefaultRedisScript<>("""
+        for i = 2, #ARGV, 2 do
+            redis.call('XACK', KEYS[1], ARGV[1], ARGV[i])
+            redis.call('XDEL', KEYS[1], ARGV[i])
+            redis.call('HDEL', KEYS[2], ARGV[i + 1])
+        end
+        return (#ARGV - 1) / 2
+        """, Long.class);
+
+    /**
+     * 처리 실패한 스트림 항목을 재시도 또는 데드레터 큐로 보내는 스크립트 (NACK)
+     * <p>
+     * KEYS[1]: 발급 대기 스트림, KEYS[2]: 재시도 횟수, KEYS[3]: 데드레터 큐
+     * ARGV[1]: 컨슈머 그룹, ARGV[2]: 최대 재시도 횟수, ARGV[3..]: (항목 ID, 항목) 쌍
+     * <p>
+     * 재시도할 항목은 ACK 후 스트림 끝에 다시 추가하여 어느 노드든 가져갈 수 있게 합니다.
+     * 반환값: 데드레터 큐로 보낸 항목 수
+     */
+    private static final RedisScript<Long> STREAM_NACK_SCRIPT = new DefaultRedisScript<>("""
+        local maxRetries = tonumber(ARGV[2])
+        local deadLettered = 0
+        for i = 3, #ARGV, 2 do
+            local item = ARGV[i + 1]
+            redis.call('XACK', KEYS[1], ARGV[1], ARGV[i])
+            redis.call('XDEL', KEYS[1], ARGV[i])
+            local retries = redis.call('HINCRBY', KEYS[2], item, 1)
+            if retries > maxRetries then
+                redis.call('RPUSH', KEYS[3], item)
+                deadLettered = deadLettered + 1
+            else
+                redis.call('XADD', KEYS[1], '*', 'item', item)
+            end
+        end
+        return deadLettered
+        """, Long.class);
+
+    /**
+     * 오래 ACK되지 않은 스트림 항목을 회수하는 스크립트 (XAUTOCLAIM)
+     * <p>
+     * KEYS[1]: 발급 대기 스트림
+     * ARGV[1]: 컨슈머 그룹, ARGV[2]: 회수하는 컨슈머, ARGV[3]: 최소 유휴 시간(ms), ARGV[4]: 최대 항목 수
+     * <p>
+     * 회수한 항목은 ACK 후 스트림 끝에 다시 추가하여 살아있는 노드가 가져가게 합니다.
+     */
+    private static final RedisScript<Long> STREAM_RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local claimed = redis.call('XAUTOCLAIM', KEYS[1], ARGV[1], ARGV[2], ARGV[3], '0-0', 'COUNT', ARGV[4])
+        local reclaimed = 0
+        for _, entry in ipairs(claimed[2]) do
+            if entry then
+                local id, fields = entry[1], entry[2]
+                redis.call('XACK', KEYS[1], ARGV[1], id)
+                redis.call('XDEL', KEYS[1], id)
+                for j = 1, #fields, 2 do
+                    if fields[j] == 'item' then
+                        redis.call('XADD', KEYS[1], '*', 'item', fields[j + 1])
+                        reclaimed = reclaimed + 1
+                    end
+                end
+            end
+        end
+        return reclaimed
+        """, Long.class);
+
+    /**
+     * 컨슈머 그룹이 아직 ACK하지 않은 스트림 항목 수를 구하는 스크립트 (XINFO GROUPS)
+     * <p>
+     * KEYS[1]: 발급 대기 스트림
+     * ARGV[1]: 컨슈머 그룹
+     * <p>
+     * 반환값: lag(그룹에 아직 전달되지 않은 항목 수) + pending(전달되었지만 ACK되지 않은 항목 수)
+     * - 그룹이 없으면 모든 항목이 미전달이므로 XLEN
+     * - 삭제된 항목 때문에 Redis가 lag을 계산하지 못하면 XLEN
+     */
+    private static final RedisScript<Long> STREAM_BACKLOG_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return 0
+        end
+        for _, info in ipairs(redis.call('XINFO', 'GROUPS', KEYS[1])) do
+            local fields = {}
+            for i = 1, #info, 2 do
+                fields[info[i]] = info[i + 1]
+            end
+            if fields['name'] == ARGV[1] then
+                if not fields['lag'] then
+                    return redis.call('XLEN', KEYS[1])
+                end
+                return fields['lag'] + fields['pending']
+            end
+        end
+        return redis.call('XLEN', KEYS[1])
+        """, Long.class);
+
+    @Value("${coupon.issue.queue.backend:list}")
+    private String queueBackend;
 
     public CouponIssueRedisRepository(StringRedisTemplate redisTemplate) {
         super(redisTemplate);
     }
 
+    /**
+     * Lua 스크립트로 쿠폰 발급을 원자적으로 처리합니다.
+     * <p>
+     * 중복 확인(SISMEMBER/GETBIT), 재고 확인(SCARD/카운터 vs stock), 사용자 추가(SADD/SETBIT), 큐 추가(RPUSH/XADD)를
+     * Redis 서버에서 한 번에 실행하므로 네트워크 왕복이 1회로 줄고, 롤백(SREM)이 필요 없습니다.
+     * 스크립트는 SHA1으로 캐싱되어 EVALSHA로 호출됩니다.
+     * <p>
+     * Bitmap 오프셋 범위를 벗어난 사용자 ID는 Bitmap 인덱스 쿠폰이면 스크립트 실행 전에 거부합니다.
+     * (스크립트 안의 GETBIT 오류는 Redis 예외로 올라오므로)
+     * 범위 안의 사용자 ID는 인덱스 종류를 따로 조회하지 않습니다.
+     *
+     * @param couponId  쿠폰 ID
+     * @param userId    발급받을 사용자 ID
+     * @param queueItem 발급 대기 항목
+     * @return 발급 결과
+     * @throws BadRequestException Bitmap 인덱스 쿠폰에 저장할 수 없는 사용자 ID인 경우
+     */
+    public CouponIssueResult issue(Long couponId, Long userId, CouponIssueQueueItem queueItem) {
+        if (!isBitOffset(userId) && getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            toBitOffset(userId); // 범위를 벗어났으므로 예외
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_USER_SET_KEY, couponId),
+            String.format(COUPON_STOCK_KEY, couponId),
+            getQueueKey(couponId),
+            String.format(COUPON_USER_BITMAP_KEY, couponId),
+            String.format(COUPON_USER_COUNT_KEY, couponId),
+            String.format(COUPON_USER_INDEX_KEY, couponId)
+        );
+        Long code = redisTemplate.execute(ISSUE_SCRIPT, keys, userId.toString(), queueItem.encode(), queueBackend);
+        CouponIssueResult result = CouponIssueResult.fromCode(code);
+        log.debug("쿠폰 발급 스크립트 실행: couponId={}, userId={}, result={}", couponId, userId, result);
+        return result;
+    }
+
     /**
      * 쿠폰을 발급받을 사용자를 Set에 추가합니다. (중복 발급 방지)
      * <p>
@@ -39,8 +347,17 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @return 추가 성공 여부 (0 = 이미 존재, 1 = 새로 추가)
      */
     public Long addUserToIssuedSet(Long couponId, Long userId) {
-        String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
-        Long added = redisTemplate.opsForSet().add(userSetKey, userId.toString());
+        Long added;
+        if (getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            Boolean previous = redisTemplate.opsForValue()
+                .setBit(String.format(COUPON_USER_BITMAP_KEY, couponId), toBitOffset(userId), true);
+            added = Boolean.TRUE.equals(previous) ? 0L : 1L;
+            if (added == 1L) {
+                redisTemplate.opsForValue().increment(String.format(COUPON_USER_COUNT_KEY, couponId));
+            }
+        } else {
+            added = redisTemplate.opsForSet().add(String.format(COUPON_USER_SET_KEY, couponId), userId.toString());
+        }
         log.debug("쿠폰 발급 사용자 추가: couponId={}, userId={}, added={}", couponId, userId, added);
         return added;
     }
@@ -52,8 +369,15 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @param userId   제거할 사용자 ID
      */
     public void removeUserFromIssuedSet(Long couponId, Long userId) {
-        String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
-        redisTemplate.opsForSet().remove(userSetKey, userId.toString());
+        if (getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            Boolean previous = redisTemplate.opsForValue()
+                .setBit(String.format(COUPON_USER_BITMAP_KEY, couponId), toBitOffset(userId), false);
+            if (Boolean.TRUE.equals(previous)) {
+                redisTemplate.opsForValue().decrement(String.format(COUPON_USER_COUNT_KEY, couponId));
+            }
+        } else {
+            redisTemplate.opsForSet().remove(String.format(COUPON_USER_SET_KEY, couponId), userId.toString());
+        }
         log.debug("쿠폰 발급 사용자 제거: couponId={}, userId={}", couponId, userId);
     }
 
@@ -64,8 +388,11 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @return 발급 수
      */
     public Long getIssuedCount(Long couponId) {
-        String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
-        Long size = redisTemplate.opsForSet().size(userSetKey);
+        if (getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            String count = redisTemplate.opsForValue().get(String.format(COUPON_USER_COUNT_KEY, couponId));
+            return count != null ? Long.parseLong(count) : 0L;
+        }
+        Long size = redisTemplate.opsForSet().size(String.format(COUPON_USER_SET_KEY, couponId));
         return size != null ? size : 0L;
     }
 
@@ -93,6 +420,68 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
         return stockStr != null ? Long.parseLong(stockStr) : null;
     }
 
+    /**
+     * 쿠폰의 발급 사용자 인덱스 종류를 설정합니다.
+     * <p>
+     * 발급 스크립트는 이 값을 읽어 Set 또는 Bitmap 중 하나로 중복 확인과 재고 확인을 수행합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param type     인덱스 종류
+     */
+    public void setIssuedUserIndex(Long couponId, IssuedUserIndexType type) {
+        redisTemplate.opsForValue().set(String.format(COUPON_USER_INDEX_KEY, couponId), type.name());
+        log.debug("쿠폰 발급 사용자 인덱스 설정: couponId={}, type={}", couponId, type);
+    }
+
+    /**
+     * 쿠폰의 발급 사용자 인덱스 종류를 조회합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 인덱스 종류 (설정되지 않았으면 SET)
+     */
+    public IssuedUserIndexType getIssuedUserIndex(Long couponId) {
+        return IssuedUserIndexType.fromValue(
+            redisTemplate.opsForValue().get(String.format(COUPON_USER_INDEX_KEY, couponId)));
+    }
+
+    /**
+     * Bitmap 비트열에서 켜진 비트의 오프셋을 사용자 ID로 변환합니다.
+     * <p>
+     * Redis Bitmap은 바이트의 최상위 비트가 오프셋 0입니다.
+     */
+    private Set<String> toUserIds(byte[] bitmap) {
+        if (bitmap == null) {
+            return Set.of();
+        }
+        Set<String> userIds = new HashSet<>();
+        for (int i = 0; i < bitmap.length; i++) {
+            int bits = bitmap[i] & 0xFF;
+            while (bits != 0) {
+                int highest = Integer.numberOfLeadingZeros(bits) - 24;
+                userIds.add(Long.toString((long) i * 8 + highest));
+                bits &= ~(0x80 >>> highest);
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * 사용자 ID를 Bitmap 오프셋으로 변환합니다.
+     * <p>
+     * SETBIT 오프셋은 2^32 미만이어야 합니다.
+     */
+    private long toBitOffset(Long userId) {
+        if (!isBitOffset(userId)) {
+            throw new BadRequestException(CouponErrorCode.COUPON_ISSUE_USER_OUT_OF_RANGE,
+                "Bitmap 인덱스에 저장할 수 없는 사용자 ID: " + userId);
+        }
+        return userId;
+    }
+
+    private static boolean isBitOffset(Long userId) {
+        return userId >= 0 && userId <= MAX_BITMAP_OFFSET;
+    }
+
     /**
      * 발급 대기 큐에 항목을 추가합니다.
      *
@@ -100,31 +489,455 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @param queueItem 발급 대기 항목
      */
     public void addToQueue(Long couponId, CouponIssueQueueItem queueItem) {
-        String queueKey = String.format(COUPON_QUEUE_KEY, couponId);
-        redisTemplate.opsForList().rightPush(queueKey, queueItem.toJson());
+        if (isStreamBackend()) {
+            redisTemplate.opsForStream().add(getQueueKey(couponId), Map.of(STREAM_ITEM_FIELD, queueItem.encode()));
+        } else {
+            redisTemplate.opsForList().rightPush(getQueueKey(couponId), queueItem.encode());
+        }
         log.debug("쿠폰 발급 큐 추가: couponId={}, queueItem={}", couponId, queueItem);
     }
 
     /**
      * 발급 대기 큐의 크기를 반환합니다.
+     * <p>
+     * Stream 백엔드에서는 XLEN, 즉 스트림 전체 길이이므로 컨슈머 그룹에 이미 전달된 항목도 포함합니다.
+     * 컨슈머 그룹 기준으로 남은 항목 수는 {@link #getStreamBacklog}를 사용합니다.
      *
      * @param couponId 쿠폰 ID
      * @return 큐 항목 수
      */
     public Long getQueueSize(Long couponId) {
-        String queueKey = String.format(COUPON_QUEUE_KEY, couponId);
-        Long size = redisTemplate.opsForList().size(queueKey);
+        Long size = isStreamBackend()
+            ? redisTemplate.opsForStream().size(getQueueKey(couponId))
+            : redisTemplate.opsForList().size(getQueueKey(couponId));
         return size != null ? size : 0L;
     }
 
     /**
-     * 쿠폰 관련 모든 Redis 키를 조회합니다.
+     * 발급 대기 큐에서 항목을 하나 꺼냅니다. (BLPOP)
+     * <p>
+     * 큐가 비어있으면 항목이 들어오거나 timeout이 지날 때까지 대기합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param timeout  최대 대기 시간
+     * @return 큐 항목 (timeout 시 null)
+     */
+    public String blockingPopFromQueue(Long couponId, Duration timeout) {
+        String queueKey = String.format(COUPON_QUEUE_KEY, couponId);
+        return redisTemplate.opsForList().leftPop(queueKey, timeout);
+    }
+
+    /**
+     * 발급 대기 큐에서 최대 count개의 항목을 꺼냅니다.
+     * <p>
+     * LPOP key count 한 번으로 배치를 가져오므로 항목 수와 관계없이 네트워크 왕복은 1회입니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param count    최대 항목 수
+     * @return 큐 항목 목록 (큐가 비어있으면 빈 목록)
+     */
+    public List<String> popBatchFromQueue(Long couponId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        String queueKey = String.format(COUPON_QUEUE_KEY, couponId);
+        List<String> items = redisTemplate.opsForList().leftPop(queueKey, count);
+        return items != null ? items : List.of();
+    }
+
+    /**
+     * 처리에 실패한 항목들을 발급 대기 큐에 다시 넣습니다.
+     * <p>
+     * 여러 값을 받는 RPUSH 한 번으로 재등록합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param items    다시 넣을 큐 항목 목록
+     */
+    public void requeue(Long couponId, List<String> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        String queueKey = String.format(COUPON_QUEUE_KEY, couponId);
+        redisTemplate.opsForList().rightPushAll(queueKey, items);
+        log.debug("쿠폰 발급 큐 재등록: couponId={}, count={}", couponId, items.size());
+    }
+
+    /**
+     * 발급 대기 큐에서 최대 count개의 항목을 처리 중 목록으로 옮깁니다. (신뢰성 큐)
+     * <p>
+     * 항목은 ACK 또는 NACK 전까지 처리 중 목록에 남아 있으므로,
+     * DB 커밋 전에 프로세스가 종료되어도 유실되지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param count    최대 항목 수
+     * @return 처리 중 목록으로 옮긴 항목 목록
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claimBatch(Long couponId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_QUEUE_KEY, couponId),
+            String.format(COUPON_PROCESSING_KEY, couponId),
+            String.format(COUPON_INFLIGHT_KEY, couponId)
+        );
+        List<String> items = redisTemplate.execute(CLAIM_SCRIPT, keys,
+            String.valueOf(count), String.valueOf(System.currentTimeMillis()));
+        return items != null ? items : List.of();
+    }
+
+    /**
+     * 발급 대기 큐에서 항목을 하나 처리 중 목록으로 옮깁니다. (BLMOVE)
+     * <p>
+     * 큐가 비어있으면 항목이 들어오거나 timeout이 지날 때까지 대기합니다.
+     * 처리 시작 시각은 기록하지 않으며, 회수 시점에 기록되지 않은 항목도 함께 처리됩니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param timeout  최대 대기 시간
+     * @return 옮긴 항목 (timeout 시 null)
+     */
+    public String blockingClaimFromQueue(Long couponId, Duration timeout) {
+        return redisTemplate.opsForList().move(
+            String.format(COUPON_QUEUE_KEY, couponId), RedisListCommands.Direction.LEFT,
+            String.format(COUPON_PROCESSING_KEY, couponId), RedisListCommands.Direction.RIGHT,
+            timeout);
+    }
+
+    /**
+     * DB 커밋이 끝난 항목들을 처리 중 목록에서 제거합니다. (ACK)
+     *
+     * @param couponId 쿠폰 ID
+     * @param items    처리 완료된 항목 목록
+     */
+    public void acknowledge(Long couponId, List<String> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_PROCESSING_KEY, couponId),
+            String.format(COUPON_INFLIGHT_KEY, couponId),
+            String.format(COUPON_RETRY_KEY, couponId)
+        );
+        redisTemplate.execute(ACK_SCRIPT, keys, items.toArray());
+        log.debug("쿠폰 발급 큐 ACK: couponId={}, count={}", couponId, items.size());
+    }
+
+    /**
+     * 처리에 실패한 항목들을 재시도 큐로 되돌리거나 데드레터 큐로 보냅니다. (NACK)
+     * <p>
+     * 재시도 횟수가 maxRetries를 넘은 항목은 데드레터 큐로 보내며, 재시도 횟수는 Hash에 남겨둡니다.
+     * maxRetries가 0이면 모든 항목을 바로 데드레터 큐로 보냅니다. (파싱 불가 항목)
+     *
+     * @param couponId   쿠폰 ID
+     * @param items      실패한 항목 목록
+     * @param maxRetries 최대 재시도 횟수
+     * @return 데드레터 큐로 보낸 항목 수
+     */
+    public long reject(Long couponId, List<String> items, int maxRetries) {
+        if (items == null || items.isEmpty()) {
+            return 0L;
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_PROCESSING_KEY, couponId),
+            String.format(COUPON_INFLIGHT_KEY, couponId),
+            String.format(COUPON_RETRY_KEY, couponId),
+            String.format(COUPON_QUEUE_KEY, couponId),
+            String.format(COUPON_DLQ_KEY, couponId)
+        );
+        Object[] args = new Object[items.size() + 1];
+        args[0] = String.valueOf(maxRetries);
+        for (int i = 0; i < items.size(); i++) {
+            args[i + 1] = items.get(i);
+        }
+        Long deadLettered = redisTemplate.execute(NACK_SCRIPT, keys, args);
+        long result = deadLettered != null ? deadLettered : 0L;
+        log.debug("쿠폰 발급 큐 NACK: couponId={}, count={}, deadLettered={}", couponId, items.size(), result);
+        return result;
+    }
+
+    /**
+     * 처리 시작 후 staleAfter 이상 지난 처리 중 항목을 발급 대기 큐 앞쪽으로 되돌립니다.
+     *
+     * @param couponId   쿠폰 ID
+     * @param staleAfter 처리 중 항목을 오래된 것으로 판단할 시간
+     * @return 되돌린 항목 수
+     */
+    public long reclaimStale(Long couponId, Duration staleAfter) {
+        List<String> keys = List.of(
+            String.format(COUPON_PROCESSING_KEY, couponId),
+            String.format(COUPON_INFLIGHT_KEY, couponId),
+            String.format(COUPON_QUEUE_KEY, couponId)
+        );
+        long now = System.currentTimeMillis();
+        Long reclaimed = redisTemplate.execute(RECLAIM_SCRIPT, keys,
+            String.valueOf(now - staleAfter.toMillis()), String.valueOf(now));
+        return reclaimed != null ? reclaimed : 0L;
+    }
+
+    /**
+     * 데드레터 큐의 항목과 재시도 횟수를 조회합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @return 항목별 재시도 횟수 (데드레터 큐 순서 유지)
+     */
+    public Map<String, Long> getDeadLetters(Long couponId) {
+        List<String> items = redisTemplate.opsForList().range(String.format(COUPON_DLQ_KEY, couponId), 0, -1);
+        if (items == null || items.isEmpty()) {
+            return Map.of();
+        }
+        String retryKey = String.format(COUPON_RETRY_KEY, couponId);
+        List<Object> retries = redisTemplate.opsForHash().multiGet(retryKey, List.copyOf(items));
+        Map<String, Long> deadLetters = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            Object retry = retries.get(i);
+            deadLetters.put(items.get(i), retry != null ? Long.parseLong(retry.toString()) : 0L);
+        }
+        return deadLetters;
+    }
+
+    /**
+     * 발급 대기 스트림에 컨슈머 그룹을 생성합니다.
+     * <p>
+     * 스트림이 없으면 함께 생성하며(MKSTREAM), 그룹 생성 이전에 추가된 항목도 읽을 수 있도록 0부터 읽습니다.
+     * 이미 그룹이 있으면 아무것도 하지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     */
+    public void createStreamGroup(Long couponId, String group) {
+        byte[] streamKey = String.format(COUPON_STREAM_KEY, couponId).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                connection.streamCommands().xGroupCreate(streamKey, group, ReadOffset.from("0"), true));
+            log.info("쿠폰 발급 스트림 컨슈머 그룹 생성: couponId={}, group={}", couponId, group);
+        } catch (RedisSystemException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 컨슈머 그룹으로 발급 대기 스트림에서 새 항목을 읽습니다. (XREADGROUP)
+     * <p>
+     * 같은 그룹의 컨슈머들은 서로 다른 항목을 나누어 받으며, 읽은 항목은 ACK 전까지 그룹의 대기 목록(PEL)에 남습니다.
+     * 컨슈머 그룹이 없으면 생성한 뒤 다시 읽습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     * @param consumer 컨슈머 이름
+     * @param count    최대 항목 수
+     * @param block    최대 대기 시간 (null이면 대기하지 않음)
+     * @return 읽은 항목 목록
+     */
+    public List<CouponIssueQueueMessage> readStreamGroup(Long couponId, String group, String consumer,
+                                                         int count, Duration block) {
+        if (count <= 0) {
+            return List.of();
+        }
+        try {
+            return doReadStreamGroup(couponId, group, consumer, count, block);
+        } catch (RedisSystemException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("NOGROUP")) {
+                throw e;
+            }
+            createStreamGroup(couponId, group);
+            return doReadStreamGroup(couponId, group, consumer, count, block);
+        }
+    }
+
+    private List<CouponIssueQueueMessage> doReadStreamGroup(Long couponId, String group, String consumer,
+                                                            int count, Duration block) {
+        StreamReadOptions options = StreamReadOptions.empty().count(count);
+        if (block != null) {
+            options = options.block(block);
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+            Consumer.from(group, consumer),
+            options,
+            StreamOffset.create(String.format(COUPON_STREAM_KEY, couponId), ReadOffset.lastConsumed()));
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+        return records.stream()
+            .map(record -> new CouponIssueQueueMessage(
+                record.getId().getValue(),
+                String.valueOf(record.getValue().get(STREAM_ITEM_FIELD))))
+            .toList();
+    }
+
+    /**
+     * 컨슈머 그룹에서 ACK되지 않은 스트림 항목 수를 반환합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     * @return 대기 목록(PEL) 항목 수 (그룹이 없으면 0)
+     */
+    public long getStreamPendingCount(Long couponId, String group) {
+        try {
+            PendingMessagesSummary summary = redisTemplate.opsForStream()
+                .pending(String.format(COUPON_STREAM_KEY, couponId), group);
+            return summary != null ? summary.getTotalPendingMessages() : 0L;
+        } catch (RedisSystemException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 컨슈머 그룹이 아직 ACK하지 않은 스트림 항목 수를 반환합니다.
+     * <p>
+     * XINFO GROUPS의 lag(미전달)과 pending(전달되었지만 ACK되지 않음)을 더한 값입니다.
+     * XLEN과 달리 다른 그룹이 남겨둔 항목이나 ACK 후 삭제되지 않은 항목은 세지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     * @return 그룹 기준으로 처리할 항목 수
+     */
+    public long getStreamBacklog(Long couponId, String group) {
+        Long backlog = redisTemplate.execute(STREAM_BACKLOG_SCRIPT,
+            List.of(String.format(COUPON_STREAM_KEY, couponId)), group);
+        return backlog != null ? backlog : 0L;
+    }
+
+    /**
+     * 처리 완료된 스트림 항목을 ACK하고 스트림에서 삭제합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     * @param messages 처리 완료된 항목 목록
+     */
+    public void acknowledgeStream(Long couponId, String group, List<CouponIssueQueueMessage> messages) {
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_STREAM_KEY, couponId),
+            String.format(COUPON_RETRY_KEY, couponId)
+        );
+        redisTemplate.execute(STREAM_ACK_SCRIPT, keys, toStreamArgs(List.of(group), messages));
+        log.debug("쿠폰 발급 스트림 ACK: couponId={}, count={}", couponId, messages.size());
+    }
+
+    /**
+     * 처리에 실패한 스트림 항목을 재시도하거나 데드레터 큐로 보냅니다.
+     *
+     * @param couponId   쿠폰 ID
+     * @param group      컨슈머 그룹 이름
+     * @param messages   실패한 항목 목록
+     * @param maxRetries 최대 재시도 횟수 (0이면 바로 데드레터 큐로 이동)
+     * @return 데드레터 큐로 보낸 항목 수
+     */
+    public long rejectStream(Long couponId, String group, List<CouponIssueQueueMessage> messages, int maxRetries) {
+        if (messages == null || messages.isEmpty()) {
+            return 0L;
+        }
+        List<String> keys = List.of(
+            String.format(COUPON_STREAM_KEY, couponId),
+            String.format(COUPON_RETRY_KEY, couponId),
+            String.format(COUPON_DLQ_KEY, couponId)
+        );
+        Long deadLettered = redisTemplate.execute(STREAM_NACK_SCRIPT, keys,
+            toStreamArgs(List.of(group, String.valueOf(maxRetries)), messages));
+        return deadLettered != null ? deadLettered : 0L;
+    }
+
+    /**
+     * idleTime 이상 ACK되지 않은 스트림 항목을 회수하여 스트림 끝에 다시 추가합니다. (XAUTOCLAIM)
+     *
+     * @param couponId 쿠폰 ID
+     * @param group    컨슈머 그룹 이름
+     * @param consumer 회수하는 컨슈머 이름
+     * @param idleTime 최소 유휴 시간
+     * @param count    한 번에 회수할 최대 항목 수
+     * @return 회수한 항목 수
+     */
+    public long reclaimStaleStream(Long couponId, String group, String consumer, Duration idleTime, int count) {
+        try {
+            Long reclaimed = redisTemplate.execute(STREAM_RECLAIM_SCRIPT,
+                List.of(String.format(COUPON_STREAM_KEY, couponId)),
+                group, consumer, String.valueOf(idleTime.toMillis()), String.valueOf(count));
+            return reclaimed != null ? reclaimed : 0L;
+        } catch (RedisSystemException e) {
+            // 스트림 또는 컨슈머 그룹이 아직 없는 경우
+            return 0L;
+        }
+    }
+
+    private Object[] toStreamArgs(List<String> prefix, List<CouponIssueQueueMessage> messages) {
+        List<String> args = new ArrayList<>(prefix.size() + messages.size() * 2);
+        args.addAll(prefix);
+        for (CouponIssueQueueMessage message : messages) {
+            args.add(message.id());
+            args.add(message.payload());
+        }
+        return args.toArray();
+    }
+
+    /**
+     * 쿠폰 발급 상태 변경 이벤트를 발행합니다. (PUBLISH)
+     * <p>
+     * 각 노드의 로컬 발급 상태 캐시를 갱신하는 데 사용됩니다.
+     *
+     * @param message 이벤트 메시지
+     */
+    public void publishEvent(String message) {
+        redisTemplate.convertAndSend(COUPON_EVENT_CHANNEL, message);
+        log.debug("쿠폰 발급 이벤트 발행: message={}", message);
+    }
+
+    /**
+     * 쿠폰을 활성 쿠폰 레지스트리에 등록합니다.
+     * <p>
+     * 쿠폰 캐시 초기화 시 호출되며, 스케줄러와 컨슈머는 이 레지스트리로 처리할 큐를 찾습니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void registerActiveCoupon(Long couponId) {
+        redisTemplate.opsForSet().add(ACTIVE_COUPON_SET_KEY, couponId.toString());
+        log.debug("활성 쿠폰 등록: couponId={}", couponId);
+    }
+
+    /**
+     * 활성 쿠폰 레지스트리에 등록된 쿠폰 ID 목록을 반환합니다.
+     *
+     * @return 활성 쿠폰 ID 목록
+     */
+    public List<Long> getActiveCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(ACTIVE_COUPON_SET_KEY);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    /**
+     * 쿠폰 관련 모든 Redis 키를 반환합니다.
+     * <p>
+     * KEYS 명령은 키 공간 전체를 스캔하며 Redis를 블로킹하므로,
+     * 활성 쿠폰 레지스트리로부터 키 이름을 계산합니다.
      *
      * @return 쿠폰 관련 키 Set
      */
     public Set<String> getAllCouponKeys() {
-        Set<String> keys = redisTemplate.keys("coupon:*");
-        return keys != null ? keys : Set.of();
+        Set<String> keys = new HashSet<>();
+        for (Long couponId : getActiveCouponIds()) {
+            keys.add(String.format(COUPON_USER_SET_KEY, couponId));
+            keys.add(String.format(COUPON_USER_BITMAP_KEY, couponId));
+            keys.add(String.format(COUPON_USER_COUNT_KEY, couponId));
+            keys.add(String.format(COUPON_USER_INDEX_KEY, couponId));
+            keys.add(String.format(COUPON_STOCK_KEY, couponId));
+            keys.add(String.format(COUPON_QUEUE_KEY, couponId));
+            keys.add(String.format(COUPON_PROCESSING_KEY, couponId));
+            keys.add(String.format(COUPON_INFLIGHT_KEY, couponId));
+            keys.add(String.format(COUPON_RETRY_KEY, couponId));
+            keys.add(String.format(COUPON_DLQ_KEY, couponId));
+            keys.add(String.format(COUPON_STREAM_KEY, couponId));
+        }
+        keys.add(ACTIVE_COUPON_SET_KEY);
+        return keys;
     }
 
     /**
@@ -133,8 +946,11 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @param couponId 쿠폰 ID
      */
     public void clearIssuedUserSet(Long couponId) {
-        String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
-        redisTemplate.delete(userSetKey);
+        redisTemplate.delete(List.of(
+            String.format(COUPON_USER_SET_KEY, couponId),
+            String.format(COUPON_USER_BITMAP_KEY, couponId),
+            String.format(COUPON_USER_COUNT_KEY, couponId)
+        ));
         log.debug("쿠폰 발급 사용자 Set 초기화: couponId={}", couponId);
     }
 
@@ -156,16 +972,30 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
      * @return 큐 키
      */
     public String getQueueKey(Long couponId) {
-        return String.format(COUPON_QUEUE_KEY, couponId);
+        return isStreamBackend()
+            ? String.format(COUPON_STREAM_KEY, couponId)
+            : String.format(COUPON_QUEUE_KEY, couponId);
+    }
+
+    private boolean isStreamBackend() {
+        return QUEUE_BACKEND_STREAM.equals(queueBackend);
     }
 
     /**
      * 특정 쿠폰의 발급 사용자 목록을 조회합니다.
+     * <p>
+     * Bitmap 인덱스는 비트열 전체를 읽어 켜진 비트의 오프셋을 사용자 ID로 변환합니다.
      *
      * @param couponId 쿠폰 ID
      * @return 발급받은 사용자 ID 목록
      */
     public Set<String> getIssuedUserIds(Long couponId) {
+        if (getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            byte[] key = String.format(COUPON_USER_BITMAP_KEY, couponId).getBytes(StandardCharsets.UTF_8);
+            byte[] bitmap = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key));
+            return toUserIds(bitmap);
+        }
         String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
         Set<String> members = redisTemplate.opsForSet().members(userSetKey);
         return members != null ? members : Set.of();
@@ -173,6 +1003,8 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
 
     /**
      * 여러 사용자를 발급 사용자 Set에 한 번에 추가합니다. (초기화용)
+     * <p>
+     * 큰 목록은 1,000개 단위 SADD로 나누어 하나의 파이프라인으로 전송합니다.
      *
      * @param couponId 쿠폰 ID
      * @param userIds 추가할 사용자 ID 목록
@@ -181,11 +1013,44 @@ public class CouponIssueRedisRepository extends AbstractRedisRepository {
         if (userIds == null || userIds.isEmpty()) {
             return;
         }
+        if (getIssuedUserIndex(couponId) == IssuedUserIndexType.BITMAP) {
+            bulkSetIssuedBits(couponId, userIds);
+            return;
+        }
         String userSetKey = String.format(COUPON_USER_SET_KEY, couponId);
-        String[] userIdStrings = userIds.stream()
-            .map(String::valueOf)
-            .toArray(String[]::new);
-        redisTemplate.opsForSet().add(userSetKey, userIdStrings);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int from = 0; from < userIds.size(); from += SADD_CHUNK_SIZE) {
+                String[] chunk = userIds.subList(from, Math.min(from + SADD_CHUNK_SIZE, userIds.size())).stream()
+                    .map(String::valueOf)
+                    .toArray(String[]::new);
+                stringConnection.sAdd(userSetKey, chunk);
+            }
+            return null;
+        });
         log.debug("쿠폰 발급 사용자 일괄 추가: couponId={}, count={}", couponId, userIds.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 사용자를 발급 사용자 Bitmap에 파이프라인으로 한 번에 추가합니다.
+     * <p>
+     * 새로 켜진 비트 수만큼 발급 수 카운터를 증가시킵니다.
+     */
+    private void bulkSetIssuedBits(Long couponId, List<Long> userIds) {
+        String bitmapKey = String.format(COUPON_USER_BITMAP_KEY, couponId);
+        List<Object> previousBits = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : userIds) {
+                stringConnection.setBit(bitmapKey, toBitOffset(userId), true);
+            }
+            return null;
+        });
+        long added = previousBits.stream()
+            .filter(Boolean.FALSE::equals)
+            .count();
+        if (added > 0) {
+            redisTemplate.opsForValue().increment(String.format(COUPON_USER_COUNT_KEY, couponId), added);
+        }
+        log.debug("쿠폰 발급 사용자 Bitmap 일괄 추가: couponId={}, count={}", couponId, added);
+    }
+}
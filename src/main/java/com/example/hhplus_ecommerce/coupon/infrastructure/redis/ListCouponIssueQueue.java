@@ -0,0 +1,92 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis List 기반 쿠폰 발급 대기 큐
+ * <p>
+ * - 기본 모드: LPOP으로 꺼낸 뒤 실패 시 다시 RPUSH
+ * - 신뢰성 큐 모드 (coupon.issue.queue.reliable=true): 처리 중 목록으로 LMOVE 후 ACK/NACK
+ * <p>
+ * 모든 노드가 같은 List를 경쟁적으로 꺼내므로 노드 간 작업 분배는 보장되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.queue.backend", havingValue = "list", matchIfMissing = true)
+public class ListCouponIssueQueue implements CouponIssueQueue {
+
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @Value("${coupon.issue.queue.reliable:false}")
+    private boolean reliable;
+
+    @Override
+    public long size(Long couponId) {
+        return couponIssueRedisRepository.getQueueSize(couponId);
+    }
+
+    @Override
+    public List<CouponIssueQueueMessage> take(Long couponId, int count) {
+        List<String> items = reliable
+            ? couponIssueRedisRepository.claimBatch(couponId, count)
+            : couponIssueRedisRepository.popBatchFromQueue(couponId, count);
+        return items.stream()
+            .map(CouponIssueQueueMessage::of)
+            .toList();
+    }
+
+    @Override
+    public List<CouponIssueQueueMessage> blockingTake(Long couponId, int count, Duration timeout) {
+        String first = reliable
+            ? couponIssueRedisRepository.blockingClaimFromQueue(couponId, timeout)
+            : couponIssueRedisRepository.blockingPopFromQueue(couponId, timeout);
+        if (first == null) {
+            return List.of();
+        }
+        List<CouponIssueQueueMessage> messages = new ArrayList<>();
+        messages.add(CouponIssueQueueMessage.of(first));
+        messages.addAll(take(couponId, count - 1));
+        return messages;
+    }
+
+    @Override
+    public void acknowledge(Long couponId, List<CouponIssueQueueMessage> messages) {
+        if (reliable) {
+            couponIssueRedisRepository.acknowledge(couponId, payloads(messages));
+        }
+    }
+
+    @Override
+    public long reject(Long couponId, List<CouponIssueQueueMessage> messages, int maxRetries) {
+        if (reliable) {
+            return couponIssueRedisRepository.reject(couponId, payloads(messages), maxRetries);
+        }
+        if (maxRetries == 0) {
+            // 기본 모드에서는 파싱할 수 없는 항목을 버림
+            return 0L;
+        }
+        couponIssueRedisRepository.requeue(couponId, payloads(messages));
+        return 0L;
+    }
+
+    @Override
+    public long reclaimStale(Long couponId, Duration staleAfter) {
+        return reliable ? couponIssueRedisRepository.reclaimStale(couponId, staleAfter) : 0L;
+    }
+
+    private List<String> payloads(List<CouponIssueQueueMessage> messages) {
+        return messages.stream()
+            .map(CouponIssueQueueMessage::payload)
+            .toList();
+    }
+}
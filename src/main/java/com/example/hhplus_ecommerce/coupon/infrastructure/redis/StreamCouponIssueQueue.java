@@ -0,0 +1,102 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis Stream 컨슈머 그룹 기반 쿠폰 발급 대기 큐
+ * <p>
+ * 모든 노드가 같은 컨슈머 그룹에 서로 다른 컨슈머 이름으로 참여하므로,
+ * 각 항목은 한 노드에만 전달되고 노드를 늘리면 처리량이 함께 늘어납니다.
+ * <p>
+ * - 읽기: XREADGROUP (ACK 전까지 그룹의 대기 목록(PEL)에 보관)
+ * - 확인: XACK + XDEL
+ * - 회수: XAUTOCLAIM으로 종료된 노드가 남긴 항목을 스트림 끝에 다시 추가
+ * - 배압: 그룹의 대기 목록이 max-pending 이상이면 새 항목을 읽지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.queue.backend", havingValue = "stream")
+public class StreamCouponIssueQueue implements CouponIssueQueue {
+
+    private static final int RECLAIM_BATCH_SIZE = 1000;
+
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final String group;
+    private final String consumer;
+    private final long maxPending;
+
+    public StreamCouponIssueQueue(
+        CouponIssueRedisRepository couponIssueRedisRepository,
+        @Value("${coupon.issue.queue.stream.group:coupon-issue}") String group,
+        @Value("${coupon.issue.queue.stream.consumer:}") String consumer,
+        @Value("${coupon.issue.queue.stream.max-pending:10000}") long maxPending
+    ) {
+        this.couponIssueRedisRepository = couponIssueRedisRepository;
+        this.group = group;
+        this.consumer = consumer.isBlank() ? "consumer-" + UUID.randomUUID() : consumer;
+        this.maxPending = maxPending;
+        log.info("쿠폰 발급 스트림 컨슈머 설정: group={}, consumer={}, maxPending={}", this.group, this.consumer, maxPending);
+    }
+
+    /**
+     * 컨슈머 그룹이 아직 ACK하지 않은 항목 수(lag + pending)를 반환합니다.
+     */
+    @Override
+    public long size(Long couponId) {
+        return couponIssueRedisRepository.getStreamBacklog(couponId, group);
+    }
+
+    @Override
+    public List<CouponIssueQueueMessage> take(Long couponId, int count) {
+        if (isBackpressured(couponId)) {
+            return List.of();
+        }
+        return couponIssueRedisRepository.readStreamGroup(couponId, group, consumer, count, null);
+    }
+
+    @Override
+    public List<CouponIssueQueueMessage> blockingTake(Long couponId, int count, Duration timeout) {
+        if (isBackpressured(couponId)) {
+            // 대기 목록이 줄어들 때까지 읽지 않고 대기
+            try {
+                Thread.sleep(timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of();
+        }
+        return couponIssueRedisRepository.readStreamGroup(couponId, group, consumer, count, timeout);
+    }
+
+    @Override
+    public void acknowledge(Long couponId, List<CouponIssueQueueMessage> messages) {
+        couponIssueRedisRepository.acknowledgeStream(couponId, group, messages);
+    }
+
+    @Override
+    public long reject(Long couponId, List<CouponIssueQueueMessage> messages, int maxRetries) {
+        return couponIssueRedisRepository.rejectStream(couponId, group, messages, maxRetries);
+    }
+
+    @Override
+    public long reclaimStale(Long couponId, Duration staleAfter) {
+        return couponIssueRedisRepository.reclaimStaleStream(couponId, group, consumer, staleAfter, RECLAIM_BATCH_SIZE);
+    }
+
+    private boolean isBackpressured(Long couponId) {
+        long pending = couponIssueRedisRepository.getStreamPendingCount(couponId, group);
+        if (pending >= maxPending) {
+            log.warn("쿠폰 발급 스트림 대기 목록 초과로 읽기 보류: couponId={}, pending={}", couponId, pending);
+            return true;
+        }
+        return false;
+    }
+}
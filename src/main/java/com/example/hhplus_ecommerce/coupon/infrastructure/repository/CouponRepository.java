@@ -6,6 +6,7 @@ import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundExcept
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,6 +30,10 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
                 .orElseThrow(() -> new NotFoundException(CouponErrorCode.COUPON_NOT_FOUND));
     }
 
+    @Modifying
+    @Query(value = "UPDATE coupon SET issued_quantity = issued_quantity + :count WHERE id = :id", nativeQuery = true)
+    int incrementIssuedQuantity(@Param("id") Long id, @Param("count") int count);
+
     Coupon save(Coupon coupon);
     List<Coupon> findAll();
 }
@@ -0,0 +1,78 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.repository;
+
+import com.example.hhplus_ecommerce.coupon.domain.UserCoupon.UserCouponStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 JDBC 저장소
+ * <p>
+ * IDENTITY 전략에서는 JPA saveAll이 행마다 INSERT를 실행하므로,
+ * 대량 발급 시에는 다중 행 INSERT 문을 직접 실행합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final String INSERT_PREFIX =
+        "INSERT INTO user_coupon (user_id, coupon_id, status, created_at, updated_at, version) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 사용자에게 발급된 쿠폰을 다중 행 INSERT로 저장합니다.
+     * <p>
+     * 1,000행 단위로 나누어 INSERT 문 하나씩 실행합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds  발급받은 사용자 ID 목록
+     * @return 저장된 행 수
+     */
+    public int bulkInsertIssued(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = 0; from < userIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, userIds.size()));
+            inserted += jdbcTemplate.update(buildInsertSql(chunk.size()), buildInsertArgs(couponId, chunk, now));
+        }
+        log.debug("사용자 쿠폰 일괄 저장: couponId={}, count={}", couponId, inserted);
+        return inserted;
+    }
+
+    private String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (INSERT_ROW.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(INSERT_ROW);
+        }
+        return sql.toString();
+    }
+
+    private Object[] buildInsertArgs(Long couponId, List<Long> userIds, Timestamp now) {
+        List<Object> args = new ArrayList<>(userIds.size() * 5);
+        for (Long userId : userIds) {
+            args.add(userId);
+            args.add(couponId);
+            args.add(UserCouponStatus.ISSUED.name());
+            args.add(now);
+            args.add(now);
+        }
+        return args.toArray();
+    }
+}
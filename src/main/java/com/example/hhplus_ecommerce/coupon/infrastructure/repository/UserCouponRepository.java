@@ -4,11 +4,13 @@ import com.example.hhplus_ecommerce.coupon.domain.UserCoupon;
 import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
 import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +27,17 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
     List<UserCoupon> findByCoupon_Id(Long couponId);
     Optional<UserCoupon> findByUserIdAndCoupon_Id(Long userId, Long couponId);
 
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.coupon.id = :couponId AND uc.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 쿠폰의 발급 사용자 ID를 user_id 키셋 페이지로 조회합니다. (캐시 워밍업용)
+     * <p>
+     * (coupon_id, user_id) 인덱스만으로 처리되는 커버링 쿼리이며 엔티티를 로딩하지 않습니다.
+     */
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.coupon.id = :couponId AND uc.userId > :lastUserId ORDER BY uc.userId")
+    List<Long> findIssuedUserIdsAfter(@Param("couponId") Long couponId, @Param("lastUserId") Long lastUserId, Limit limit);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.userId = :userId AND uc.coupon.id = :couponId")
     Optional<UserCoupon> findByUserIdAndCouponIdWithLock(@Param("userId") Long userId, @Param("couponId") Long couponId);
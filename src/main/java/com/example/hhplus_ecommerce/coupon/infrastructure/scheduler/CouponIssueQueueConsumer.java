@@ -0,0 +1,133 @@
+package com.example.hhplus_ecommerce.coupon.infrastructure.scheduler;
+
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueQueue;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 발급 큐 컨슈머
+ * <p>
+ * 활성 쿠폰마다 가상 스레드 하나를 띄워 발급 큐를 블로킹 읽기(BLPOP, BLMOVE 또는 XREADGROUP BLOCK)로 기다립니다.
+ * 항목이 들어오는 즉시 깨어나 남은 항목을 큐 깊이에 맞춘 배치로 꺼내 DB에 저장하므로,
+ * 1초 주기 폴링 대비 처리 지연이 밀리초 단위로 줄어듭니다.
+ * <p>
+ * - 컨슈머 목록은 활성 쿠폰 레지스트리와 주기적으로 동기화됩니다.
+ * - 처리에 실패하면 100ms부터 두 배씩 늘려 최대 5초까지 쉬었다가 다시 시도하고, 성공하면 초기화합니다.
+ *   (Redis 장애 시 블로킹 읽기가 즉시 실패하므로, 쉬지 않으면 컨슈머가 오류 로그를 찍으며 헛돕니다)
+ * - coupon.issue.consumer.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "coupon.issue.consumer.enabled", havingValue = "true")
+public class CouponIssueQueueConsumer {
+
+    private static final Duration BLOCKING_TIMEOUT = Duration.ofSeconds(1);
+    private static final long INITIAL_BACKOFF_MS = 100;
+    private static final long MAX_BACKOFF_MS = 5_000;
+
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final CouponIssueQueue couponIssueQueue;
+    private final CouponIssueScheduler couponIssueScheduler;
+
+    private final Map<Long, Thread> consumers = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    /**
+     * 활성 쿠폰 레지스트리와 컨슈머 목록을 동기화합니다.
+     * <p>
+     * 새로 등록된 쿠폰은 컨슈머를 시작하고, 레지스트리에서 빠진 쿠폰은 컨슈머를 중지합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.consumer.sync-interval-ms:5000}")
+    public void syncConsumers() {
+        if (!running) {
+            return;
+        }
+        Set<Long> activeCouponIds = new HashSet<>(couponIssueRedisRepository.getActiveCouponIds());
+
+        for (Long couponId : activeCouponIds) {
+            consumers.computeIfAbsent(couponId, this::startConsumer);
+        }
+
+        for (Long couponId : new ArrayList<>(consumers.keySet())) {
+            if (!activeCouponIds.contains(couponId)) {
+                Thread consumer = consumers.remove(couponId);
+                if (consumer != null) {
+                    consumer.interrupt();
+                    log.info("쿠폰 발급 큐 컨슈머 중지: couponId={}", couponId);
+                }
+            }
+        }
+    }
+
+    private Thread startConsumer(Long couponId) {
+        log.info("쿠폰 발급 큐 컨슈머 시작: couponId={}", couponId);
+        return Thread.ofVirtual()
+            .name("coupon-issue-consumer-" + couponId)
+            .start(() -> consume(couponId));
+    }
+
+    private void consume(Long couponId) {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                int batchSize = couponIssueScheduler.resolveBatchSize(couponId);
+                List<CouponIssueQueueMessage> messages =
+                    couponIssueQueue.blockingTake(couponId, batchSize, BLOCKING_TIMEOUT);
+                if (!messages.isEmpty()) {
+                    couponIssueScheduler.processMessages(couponId, messages);
+                }
+                backoffMs = INITIAL_BACKOFF_MS;
+            } catch (Exception e) {
+                if (!running || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                log.error("쿠폰 발급 큐 컨슈머 처리 실패: couponId={}, backoffMs={}", couponId, backoffMs, e);
+                if (!sleep(backoffMs)) {
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * 실패 후 다시 시도하기 전까지 쉽니다.
+     *
+     * @return 중지 요청(인터럽트) 없이 다 쉬었으면 true
+     */
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 컨슈머를 중지합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        consumers.values().forEach(Thread::interrupt);
+        consumers.clear();
+        log.info("쿠폰 발급 큐 컨슈머 모두 중지");
+    }
+}
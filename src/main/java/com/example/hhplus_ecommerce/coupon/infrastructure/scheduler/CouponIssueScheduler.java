@@ -1,131 +1,179 @@
 package com.example.hhplus_ecommerce.coupon.infrastructure.scheduler;
 
-import com.example.hhplus_ecommerce.coupon.domain.Coupon;
-import com.example.hhplus_ecommerce.coupon.domain.UserCoupon;
+import com.example.hhplus_ecommerce.coupon.application.CouponIssueBatchService;
 import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
-import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
-import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueQueue;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 쿠폰 발급 큐 처리 스케줄러
  * <p>
- * Redis 큐에 쌓인 쿠폰 발급 요청을 1초마다 처리하여 DB에 저장합니다.
+ * Redis 큐에 쌓인 쿠폰 발급 요청을 DB에 저장합니다.
+ * 평상시에는 {@link CouponIssueQueueConsumer}가 블로킹 읽기로 즉시 처리하며,
+ * 이 스케줄러는 컨슈머가 놓친 항목을 주기적으로 정리하는 안전망 역할을 합니다.
+ * <p>
+ * 처리할 큐는 KEYS 스캔 대신 활성 쿠폰 레지스트리에서 찾고,
+ * 큐 접근은 설정된 백엔드({@link CouponIssueQueue})를 통해 수행합니다.
+ * - 저장 성공: DB 커밋 후 ACK
+ * - 저장 실패: NACK (재시도 또는 최대 재시도 초과 시 데드레터 큐로 이동)
+ * - 파싱 실패: 재시도 없이 데드레터 큐로 이동
+ * - 오래된 처리 중 항목은 시작 시점과 주기적으로 회수
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueScheduler {
 
-    private final StringRedisTemplate redisTemplate;
-    private final CouponRepository couponRepository;
-    private final UserCouponRepository userCouponRepository;
+    private final CouponIssueRedisRepository couponIssueRedisRepository;
+    private final CouponIssueQueue couponIssueQueue;
+    private final CouponIssueBatchService couponIssueBatchService;
+
+    @Value("${coupon.issue.batch.min-size:100}")
+    private int minBatchSize;
+
+    @Value("${coupon.issue.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${coupon.issue.queue.max-retries:3}")
+    private int maxRetries;
 
-    private static final String COUPON_QUEUE_KEY_PATTERN = "coupon:issue:queue:*";
-    private static final int BATCH_SIZE = 100;
+    @Value("${coupon.issue.queue.stale-after-ms:60000}")
+    private long staleAfterMs;
 
     /**
-     * 1초마다 쿠폰 발급 큐를 처리합니다.
+     * 활성 쿠폰들의 발급 큐를 주기적으로 처리합니다.
      */
-    @Scheduled(fixedDelay = 1000)
+    @Scheduled(fixedDelayString = "${coupon.issue.sweep-interval-ms:1000}")
     public void processQueue() {
-        // 모든 쿠폰 큐 키 조회
-        var queueKeys = redisTemplate.keys(COUPON_QUEUE_KEY_PATTERN);
-        if (queueKeys == null || queueKeys.isEmpty()) {
-            return;
+        List<Long> couponIds = couponIssueRedisRepository.getActiveCouponIds();
+        for (Long couponId : couponIds) {
+            processQueueForCoupon(couponId);
         }
+    }
 
-        for (String queueKey : queueKeys) {
-            processQueueForKey(queueKey);
+    /**
+     * 특정 쿠폰의 발급 큐에 쌓인 백로그를 처리합니다.
+     * <p>
+     * 배치마다 큐 깊이에 맞춰 배치 크기를 다시 계산하고 한 번의 명령으로 가져옵니다.
+     * 재시도로 다시 들어온 항목 때문에 무한 반복하지 않도록, 시작 시점의 큐 깊이만큼만 처리합니다.
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void processQueueForCoupon(Long couponId) {
+        long remaining = couponIssueQueue.size(couponId);
+        while (remaining > 0) {
+            int batchSize = resolveBatchSize(couponId);
+            List<CouponIssueQueueMessage> messages = couponIssueQueue.take(couponId, batchSize);
+            if (messages.isEmpty()) {
+                return;
+            }
+            processMessages(couponId, messages);
+            remaining -= messages.size();
         }
     }
 
     /**
-     * 특정 쿠폰 큐를 처리합니다.
+     * 큐 깊이에 맞춰 배치 크기를 결정합니다.
+     * <p>
+     * - 큐가 얕으면 최소 배치 크기로 조금씩 처리
+     * - 백로그가 쌓이면 최대 배치 크기까지 키워 왕복 횟수를 줄임
+     *
+     * @param couponId 쿠폰 ID
+     * @return 배치 크기
      */
-    @Transactional
-    public void processQueueForKey(String queueKey) {
-        List<CouponIssueQueueItem> items = new ArrayList<>();
-
-        // LPOP으로 BATCH_SIZE만큼 가져오기
-        for (int i = 0; i < BATCH_SIZE; i++) {
-            String json = redisTemplate.opsForList().leftPop(queueKey);
-            if (json == null) {
-                break;
-            }
+    public int resolveBatchSize(Long couponId) {
+        long queueSize = couponIssueQueue.size(couponId);
+        return Math.clamp(queueSize, minBatchSize, maxBatchSize);
+    }
+
+    /**
+     * 큐에서 가져온 메시지들을 DB에 저장합니다.
+     * <p>
+     * 저장은 쿠폰 단위로 {@link CouponIssueBatchService}의 트랜잭션에서 실행되므로,
+     * 한 쿠폰의 실패가 다른 쿠폰의 저장에 영향을 주지 않습니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param messages 큐에서 가져온 메시지 목록
+     */
+    public void processMessages(Long couponId, List<CouponIssueQueueMessage> messages) {
+        // 쿠폰 ID별로 그룹화 (ACK/NACK를 위해 원본 메시지 유지)
+        Map<Long, Map<CouponIssueQueueMessage, CouponIssueQueueItem>> groupedByCouponId = new LinkedHashMap<>();
+        List<CouponIssueQueueMessage> poisonMessages = new ArrayList<>();
+        for (CouponIssueQueueMessage message : messages) {
             try {
-                items.add(CouponIssueQueueItem.fromJson(json));
+                CouponIssueQueueItem item = CouponIssueQueueItem.decode(message.payload());
+                groupedByCouponId.computeIfAbsent(item.couponId(), key -> new LinkedHashMap<>()).put(message, item);
             } catch (Exception e) {
-                log.error("쿠폰 발급 큐 아이템 파싱 실패: {}", json, e);
+                log.error("쿠폰 발급 큐 아이템 파싱 실패: {}", message.payload(), e);
+                poisonMessages.add(message);
             }
         }
 
-        if (items.isEmpty()) {
-            return;
+        if (!poisonMessages.isEmpty()) {
+            couponIssueQueue.reject(couponId, poisonMessages, 0);
         }
 
-        log.info("쿠폰 발급 큐 처리 시작: queueKey={}, itemCount={}", queueKey, items.size());
+        if (groupedByCouponId.isEmpty()) {
+            return;
+        }
 
-        // 쿠폰 ID별로 그룹화
-        Map<Long, List<CouponIssueQueueItem>> groupedByCouponId = items.stream()
-            .collect(Collectors.groupingBy(CouponIssueQueueItem::couponId));
+        log.info("쿠폰 발급 큐 처리 시작: couponId={}, itemCount={}", couponId, messages.size() - poisonMessages.size());
 
-        for (Map.Entry<Long, List<CouponIssueQueueItem>> entry : groupedByCouponId.entrySet()) {
-            Long couponId = entry.getKey();
-            List<CouponIssueQueueItem> couponItems = entry.getValue();
+        for (Map.Entry<Long, Map<CouponIssueQueueMessage, CouponIssueQueueItem>> entry : groupedByCouponId.entrySet()) {
+            Long itemCouponId = entry.getKey();
+            List<CouponIssueQueueMessage> couponMessages = new ArrayList<>(entry.getValue().keySet());
 
             try {
-                processCouponBatch(couponId, couponItems);
+                processCouponBatch(itemCouponId, List.copyOf(entry.getValue().values()));
+                couponIssueQueue.acknowledge(couponId, couponMessages);
             } catch (Exception e) {
-                log.error("쿠폰 배치 처리 실패: couponId={}", couponId, e);
-                // 실패한 아이템은 다시 큐에 넣기 (재시도)
-                for (CouponIssueQueueItem item : couponItems) {
-                    redisTemplate.opsForList().rightPush(queueKey, item.toJson());
+                log.error("쿠폰 배치 처리 실패: couponId={}", itemCouponId, e);
+                long deadLettered = couponIssueQueue.reject(couponId, couponMessages, maxRetries);
+                if (deadLettered > 0) {
+                    log.warn("재시도 초과 항목 데드레터 이동: couponId={}, count={}", itemCouponId, deadLettered);
                 }
             }
         }
     }
 
     /**
-     * 쿠폰 배치를 처리합니다.
+     * 오래된 처리 중 항목을 다시 처리할 수 있도록 되돌립니다.
+     * <p>
+     * DB 커밋 전에 종료된 인스턴스가 남긴 항목을 애플리케이션 시작 시와 주기적으로 회수합니다.
      */
-    private void processCouponBatch(Long couponId, List<CouponIssueQueueItem> items) {
-        Coupon coupon = couponRepository.findByIdOrThrow(couponId);
-
-        List<UserCoupon> userCoupons = new ArrayList<>();
-        for (CouponIssueQueueItem item : items) {
-            // 이미 발급된 쿠폰인지 확인 (중복 방지)
-            if (userCouponRepository.findByUserIdAndCoupon_Id(item.userId(), couponId).isPresent()) {
-                log.warn("이미 DB에 저장된 쿠폰: userId={}, couponId={}", item.userId(), couponId);
-                continue;
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${coupon.issue.queue.reclaim-interval-ms:30000}")
+    public void reclaimStaleItems() {
+        Duration staleAfter = Duration.ofMillis(staleAfterMs);
+        for (Long couponId : couponIssueRedisRepository.getActiveCouponIds()) {
+            long reclaimed = couponIssueQueue.reclaimStale(couponId, staleAfter);
+            if (reclaimed > 0) {
+                log.warn("처리 중 항목 회수: couponId={}, count={}", couponId, reclaimed);
             }
-
-            UserCoupon userCoupon = UserCoupon.builder()
-                .userId(item.userId())
-                .coupon(coupon)
-                .build();
-            userCoupons.add(userCoupon);
         }
+    }
 
-        if (!userCoupons.isEmpty()) {
-            // UserCoupon 일괄 저장
-            userCouponRepository.saveAll(userCoupons);
-
-            // Coupon issuedQuantity 업데이트
-            coupon.incrementIssuedQuantity(userCoupons.size());
-            couponRepository.save(coupon);
-
-            log.info("쿠폰 발급 완료: couponId={}, count={}", couponId, userCoupons.size());
-        }
+    /**
+     * 쿠폰 배치를 처리합니다.
+     */
+    private void processCouponBatch(Long couponId, List<CouponIssueQueueItem> items) {
+        List<Long> userIds = items.stream()
+            .map(CouponIssueQueueItem::userId)
+            .toList();
+        couponIssueBatchService.persistIssued(couponId, userIds);
     }
 }
@@ -2,6 +2,7 @@ package com.example.hhplus_ecommerce.order.application.usecase;
 
 import com.example.hhplus_ecommerce.order.application.mapper.PaymentCompletedEventMapper;
 import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
 import com.example.hhplus_ecommerce.coupon.application.UserCouponService;
 import com.example.hhplus_ecommerce.user.application.UserPointService;
 import com.example.hhplus_ecommerce.order.domain.model.Order;
@@ -17,8 +18,6 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -50,7 +49,7 @@ public class MakePaymentUseCase {
      * 주문에 대한 결제를 처리합니다.
      * <p>
      * Saga 패턴 실행 순서:
-     * 1. 재고 차감 (여러 상품)
+     * 1. 재고 일괄 차감 (모든 상품이 차감되거나 하나도 차감되지 않음)
      * 2. 쿠폰 사용 처리 (있는 경우)
      * 3. 포인트 차감
      * 4. 주문 확정
@@ -71,20 +70,17 @@ public class MakePaymentUseCase {
         List<OrderItem> orderItems = orderItemRepository.findByOrderId(orderId);
 
         // Saga 보상 트랜잭션을 위한 실행 이력 추적
-        List<Long> processedProductIds = new ArrayList<>();
+        List<StockReservation> reservations = orderItems.stream()
+                .map(item -> new StockReservation(item.getProductId(), item.getQuantity()))
+                .toList();
+        boolean stockReserved = false;
         boolean couponUsed = false;
         boolean pointUsed = false;
 
         try {
-            List<OrderItem> sortedOrderItems = orderItems.stream()
-                    .sorted(Comparator.comparing(OrderItem::getProductId))
-                    .toList();
-
-            for (OrderItem item : sortedOrderItems) {
-                log.info("재고 차감 시작: productId={}, quantity={}", item.getProductId(), item.getQuantity());
-                productStockService.decreaseStock(item.getProductId(), item.getQuantity());
-                processedProductIds.add(item.getProductId());
-            }
+            log.info("재고 일괄 차감 시작: orderId={}, itemCount={}", orderId, reservations.size());
+            productStockService.decreaseStocks(reservations);
+            stockReserved = true;
 
             if (order.getUserCouponId() != null) {
                 log.info("쿠폰 사용 시작: userCouponId={}", order.getUserCouponId());
@@ -119,8 +115,8 @@ public class MakePaymentUseCase {
             log.error("결제 실패: orderId={}, error={}", orderId, e.getMessage());
 
             // Saga 보상 트랜잭션 실행 (역순으로 롤백)
-            compensate(processedProductIds, orderItems, order.getUserCouponId(), order.getUserId(),
-                    order.getFinalAmount(), couponUsed, pointUsed);
+            compensate(reservations, order.getUserCouponId(), order.getUserId(),
+                    order.getFinalAmount(), stockReserved, couponUsed, pointUsed);
 
             order.fail();
             orderRepository.save(order);
@@ -134,17 +130,17 @@ public class MakePaymentUseCase {
      * <p>
      * 성공한 단계들을 역순으로 롤백하여 데이터 일관성을 유지합니다.
      *
-     * @param processedProductIds 재고가 차감된 상품 ID 목록
-     * @param orderItems 주문 항목 (수량 정보 포함)
+     * @param reservations 주문 항목별 재고 예약 목록
      * @param userCouponId 사용자 쿠폰 ID
      * @param userId 사용자 ID
      * @param pointAmount 포인트 금액
+     * @param stockReserved 재고가 차감되었는지 여부
      * @param couponUsed 쿠폰이 사용되었는지 여부
      * @param pointUsed 포인트가 차감되었는지 여부
      */
-    private void compensate(List<Long> processedProductIds, List<OrderItem> orderItems,
+    private void compensate(List<StockReservation> reservations,
                            Long userCouponId, Long userId, Long pointAmount,
-                           boolean couponUsed, boolean pointUsed) {
+                           boolean stockReserved, boolean couponUsed, boolean pointUsed) {
         log.info("보상 트랜잭션 시작");
 
         // Step 3 롤백: 포인트 복구
@@ -167,18 +163,13 @@ public class MakePaymentUseCase {
             }
         }
 
-        // Step 1 롤백: 재고 복구
-        for (Long productId : processedProductIds) {
+        // Step 1 롤백: 재고 복구 (일괄 차감은 전부 성공했거나 전부 실패하므로 한 번에 복구)
+        if (stockReserved) {
             try {
-                OrderItem item = orderItems.stream()
-                        .filter(oi -> oi.getProductId().equals(productId))
-                        .findFirst()
-                        .orElseThrow();
-
-                log.info("재고 복구 시작: productId={}, quantity={}", productId, item.getQuantity());
-                productStockService.increaseStock(productId, item.getQuantity());
+                log.info("재고 일괄 복구 시작: itemCount={}", reservations.size());
+                productStockService.increaseStocks(reservations);
             } catch (Exception e) {
-                log.error("재고 복구 실패: productId={}, error={}", productId, e.getMessage(), e);
+                log.error("재고 일괄 복구 실패: itemCount={}, error={}", reservations.size(), e.getMessage(), e);
             }
         }
 
@@ -1,5 +1,6 @@
 package com.example.hhplus_ecommerce.order.presentation.controller;
 
+import com.example.hhplus_ecommerce.common.infrastructure.idempotency.Idempotent;
 import com.example.hhplus_ecommerce.order.application.service.MakeOrderService;
 import com.example.hhplus_ecommerce.order.application.service.UserOrderService;
 import com.example.hhplus_ecommerce.order.application.usecase.MakePaymentUseCase;
@@ -42,6 +43,12 @@ public class OrderController {
         return ResponseEntity.ok(userOrderService.getUserOrder(userId, orderId));
     }
 
+    /**
+     * 주문을 결제합니다.
+     * <p>
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도해도 결제 사가를 다시 실행하지 않고 첫 응답을 돌려줍니다.
+     */
+    @Idempotent("payment")
     @PostMapping("/orders/{orderId}/payments")
     public ResponseEntity<PaymentResponse> makePayment (
             @PathVariable("orderId") Long orderId
@@ -0,0 +1,77 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductJdbcRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 조건부 UPDATE 기반 재고 엔진 (락 없음)
+ * <p>
+ * {@code UPDATE product SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?}
+ * 한 문장은 MySQL에서 행 잠금으로 원자적으로 실행되므로, 분산 락이나 엔티티 조회 없이 재고를 차감합니다.
+ * <p>
+ * - 갱신된 행 수가 0이면 상품 존재 여부로 재고 부족과 상품 없음을 구분
+ * - 락 대기와 왕복이 없어 같은 상품에 대한 동시 요청에서도 DB 행 잠금 시간만큼만 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.engine", havingValue = "atomic")
+public class AtomicProductStockEngine implements ProductStockEngine {
+
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+
+    @Override
+    public void decrease(Long productId, int quantity) {
+        if (productRepository.decreaseStockIfSufficient(productId, quantity) == 0) {
+            throw resolveFailure(List.of(productId));
+        }
+        log.debug("재고 차감 성공: productId={}, quantity={}", productId, quantity);
+    }
+
+    @Override
+    public void increase(Long productId, int quantity) {
+        if (productRepository.increaseStockQuantity(productId, quantity) == 0) {
+            throw new NotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+        log.debug("재고 복구 성공: productId={}, quantity={}", productId, quantity);
+    }
+
+    @Override
+    public void reserveAll(List<StockReservation> reservations) {
+        if (!productJdbcRepository.decreaseStockQuantities(reservations)) {
+            throw resolveFailure(reservations.stream()
+                .map(StockReservation::productId)
+                .toList());
+        }
+        log.debug("재고 일괄 차감 성공: productCount={}", reservations.size());
+    }
+
+    @Override
+    public void releaseAll(List<StockReservation> reservations) {
+        if (!productJdbcRepository.increaseStockQuantities(reservations)) {
+            throw new NotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+        log.debug("재고 일괄 복구 성공: productCount={}", reservations.size());
+    }
+
+    /**
+     * 차감 실패 원인을 찾습니다. (상품 없음 또는 재고 부족)
+     */
+    private RuntimeException resolveFailure(List<Long> productIds) {
+        if (productRepository.findAllById(productIds).size() != productIds.size()) {
+            return new NotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+        return new ConflictException(ProductErrorCode.INSUFFICIENT_STOCK);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedLock;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedMultiLock;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingToken;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingTokenIssuer;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductJdbcRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분산 락 기반 재고 엔진
+ * <p>
+ * 동시성 제어:
+ * - 분산 락(Redisson RLock)을 사용하여 상품별 동시성 제어
+ * - 다중 서버 환경에서 같은 상품의 재고 차감 순차 처리
+ * - 새로운 트랜잭션에서 실행되어 독립적으로 커밋/롤백
+ * - 펜싱 토큰으로 락 점유 시간이 만료된 뒤의 늦은 쓰기 거부
+ * <p>
+ * 여러 상품을 한 번에 차감할 때는 상품별 락을 멀티 락({@link DistributedMultiLock}) 하나로 잡고
+ * 조건부 UPDATE 한 번으로 모든 상품을 차감합니다.
+ * 단일 상품 차감과 같은 락 키를 사용하므로 두 방식이 섞여도 같은 상품은 순차 처리되며,
+ * UPDATE는 새 트랜잭션에서 커밋된 뒤 락이 해제됩니다.
+ * 멀티 락도 키마다 펜싱 토큰을 발급받아 같은 UPDATE에서 토큰을 확인·갱신하므로,
+ * 단일 락과 멀티 락 중 어느 쪽의 늦은 쓰기든 거부됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.engine", havingValue = "lock", matchIfMissing = true)
+public class LockProductStockEngine implements ProductStockEngine {
+
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final FencingTokenIssuer fencingTokenIssuer;
+
+    @Override
+    @DistributedLock(key = "'product:' + #productId + ':stock'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Long productId, int quantity) {
+        advanceFenceToken(productId);
+        Product product = productRepository.findByIdOrThrow(productId);
+        product.subStockQuantity(quantity);
+        productRepository.save(product);
+
+        log.info("재고 차감 성공: productId={}, quantity={}, remainingStock={}",
+            productId, quantity, product.getStockQuantity());
+    }
+
+    @Override
+    @DistributedLock(key = "'product:' + #productId + ':stock'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increase(Long productId, int quantity) {
+        advanceFenceToken(productId);
+        Product product = productRepository.findByIdOrThrow(productId);
+        product.addStockQuantity(quantity);
+        productRepository.save(product);
+
+        log.info("재고 복구 성공: productId={}, quantity={}, currentStock={}",
+            productId, quantity, product.getStockQuantity());
+    }
+
+    @Override
+    @DistributedMultiLock(keys = "#reservations.!['product:' + productId() + ':stock']", fencing = true)
+    public void reserveAll(List<StockReservation> reservations) {
+        Map<Long, Long> fenceTokens = currentFenceTokens(reservations);
+        if (!productJdbcRepository.decreaseStockQuantities(reservations, fenceTokens)) {
+            throw resolveReservationFailure(reservations, fenceTokens, ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+        log.info("재고 일괄 차감 성공: productCount={}", reservations.size());
+    }
+
+    @Override
+    @DistributedMultiLock(keys = "#reservations.!['product:' + productId() + ':stock']", fencing = true)
+    public void releaseAll(List<StockReservation> reservations) {
+        Map<Long, Long> fenceTokens = currentFenceTokens(reservations);
+        if (!productJdbcRepository.increaseStockQuantities(reservations, fenceTokens)) {
+            throw resolveReservationFailure(reservations, fenceTokens, CommonErrorCode.STALE_LOCK_TOKEN);
+        }
+        log.info("재고 일괄 복구 성공: productCount={}", reservations.size());
+    }
+
+    /**
+     * 펜싱 토큰을 갱신합니다.
+     * <p>
+     * 락 점유 시간이 만료된 뒤 늦게 도착한 쓰기라면, 더 큰 토큰이 이미 저장되어 있으므로 거부합니다.
+     * 거부할 때는 Redis 카운터가 저장된 토큰보다 뒤처졌을 수 있으므로 저장된 토큰까지 끌어올립니다.
+     * 상품이 없는 경우는 이어지는 조회에서 NotFoundException으로 처리합니다.
+     */
+    private void advanceFenceToken(Long productId) {
+        FencingToken.current().ifPresent(token -> {
+            if (productRepository.advanceFenceToken(productId, token) == 0) {
+                productRepository.findFenceToken(productId).ifPresent(storedToken -> {
+                    fencingTokenIssuer.catchUp(stockLockKey(productId), storedToken);
+                    log.warn("만료된 락의 재고 쓰기 거부: productId={}, fenceToken={}, storedToken={}", productId, token, storedToken);
+                    throw new ConflictException(CommonErrorCode.STALE_LOCK_TOKEN);
+                });
+            }
+        });
+    }
+
+    /**
+     * 멀티 락에서 발급된 상품별 펜싱 토큰을 모읍니다.
+     */
+    private Map<Long, Long> currentFenceTokens(List<StockReservation> reservations) {
+        Map<Long, Long> fenceTokens = new HashMap<>(reservations.size() * 2);
+        for (StockReservation reservation : reservations) {
+            FencingToken.current(stockLockKey(reservation.productId()))
+                .ifPresent(token -> fenceTokens.put(reservation.productId(), token));
+        }
+        return fenceTokens.size() == reservations.size() ? fenceTokens : Map.of();
+    }
+
+    private static String stockLockKey(Long productId) {
+        return "product:" + productId + ":stock";
+    }
+
+    /**
+     * 일괄 차감/복구 실패 원인을 찾습니다. (상품 없음, 만료된 펜싱 토큰, 그 외에는 fallback)
+     */
+    private RuntimeException resolveReservationFailure(List<StockReservation> reservations, Map<Long, Long> fenceTokens,
+                                                       ErrorCode fallback) {
+        List<Long> productIds = reservations.stream()
+            .map(StockReservation::productId)
+            .toList();
+        List<Product> products = productRepository.findAllById(productIds);
+        if (products.size() != productIds.size()) {
+            return new NotFoundException(ProductErrorCode.PRODUCT_NOT_FOUND);
+        }
+        for (Product product : products) {
+            Long token = fenceTokens.get(product.getId());
+            if (token != null && product.getFenceToken() >= token) {
+                fencingTokenIssuer.catchUp(stockLockKey(product.getId()), product.getFenceToken());
+                log.warn("만료된 락의 재고 일괄 쓰기 거부: productId={}, fenceToken={}", product.getId(), token);
+                return new ConflictException(CommonErrorCode.STALE_LOCK_TOKEN);
+            }
+        }
+        return new ConflictException(fallback);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedLock;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingToken;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingTokenIssuer;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 재고 일괄 차감 서비스
+ * <p>
+ * 같은 상품에 대한 여러 차감 요청을 락 한 번, UPDATE 한 번으로 처리합니다.
+ * 단일 차감과 같은 락 키를 사용하므로 두 방식이 섞여도 같은 상품은 순차 처리되며,
+ * 같은 펜싱 토큰을 갱신하므로 점유 시간이 만료된 락의 늦은 쓰기도 똑같이 거부됩니다.
+ * <p>
+ * DB 재고를 직접 차감하므로 lock/atomic 재고 엔진에서만 사용합니다. ({@link ProductStockCombiner} 참고)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockBatchService {
+
+    private final ProductRepository productRepository;
+    private final FencingTokenIssuer fencingTokenIssuer;
+
+    /**
+     * 요청 순서대로 재고를 배정하고, 배정된 수량의 합만큼 한 번에 차감합니다.
+     * <p>
+     * 남은 재고보다 큰 요청은 거절하고 다음 요청으로 넘어가므로,
+     * 요청마다 따로 차감했을 때와 같은 결과를 얻습니다.
+     *
+     * @param productId  상품 ID
+     * @param quantities 요청 순서대로의 차감 수량 목록
+     * @return 요청별 차감 여부 (요청 순서와 같음)
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     */
+    @DistributedLock(key = "'product:' + #productId + ':stock'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Boolean> decreaseInOrder(Long productId, List<Integer> quantities) {
+        advanceFenceToken(productId);
+        Product product = productRepository.findByIdOrThrow(productId);
+
+        int remaining = product.getStockQuantity();
+        int total = 0;
+        List<Boolean> accepted = new ArrayList<>(quantities.size());
+        for (int quantity : quantities) {
+            if (quantity <= remaining) {
+                remaining -= quantity;
+                total += quantity;
+                accepted.add(true);
+            } else {
+                accepted.add(false);
+            }
+        }
+
+        if (total > 0 && productRepository.decreaseStockIfSufficient(productId, total) == 0) {
+            // 락 밖에서 재고가 변경된 경우 (다른 엔진과 혼용)
+            throw new ConflictException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+
+        log.info("재고 일괄 차감: productId={}, requestCount={}, decreased={}, remainingStock={}",
+            productId, quantities.size(), total, remaining);
+        return accepted;
+    }
+
+    /**
+     * 펜싱 토큰을 갱신합니다. ({@link LockProductStockEngine}과 같은 규칙)
+     */
+    private void advanceFenceToken(Long productId) {
+        FencingToken.current().ifPresent(token -> {
+            if (productRepository.advanceFenceToken(productId, token) == 0) {
+                productRepository.findFenceToken(productId).ifPresent(storedToken -> {
+                    fencingTokenIssuer.catchUp("product:" + productId + ":stock", storedToken);
+                    log.warn("만료된 락의 재고 일괄 차감 거부: productId={}, fenceToken={}, storedToken={}", productId, token, storedToken);
+                    throw new ConflictException(CommonErrorCode.STALE_LOCK_TOKEN);
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 재고 차감 요청 결합기
+ * <p>
+ * 같은 상품에 몰리는 차감 요청을 짧은 시간(window-ms) 동안 또는 최대 배치 크기만큼 모아
+ * {@link ProductStockBatchService}로 락 한 번, UPDATE 한 번에 처리합니다.
+ * 요청마다 락을 기다리지 않으므로 인기 상품 하나에 요청이 몰려도 처리량이 배치 크기만큼 늘어나고,
+ * 추가 지연은 최대 window-ms로 제한됩니다.
+ * <p>
+ * - 요청 결과는 들어온 순서(FIFO)대로 성공 또는 INSUFFICIENT_STOCK으로 완료
+ * - 결합 대상은 단일 상품 차감({@link ProductStockService#decreaseStock})뿐이며,
+ *   결제의 여러 상품 일괄 차감({@link ProductStockService#decreaseStocks})은 결합하지 않음
+ * - product.stock.combining.enabled=true 이고 재고 엔진이 lock 또는 atomic일 때만 동작
+ *   (redis 엔진은 Redis 재고가 원본이므로 DB를 직접 차감하는 배치와 함께 쓸 수 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${product.stock.combining.enabled:false} and '${product.stock.engine:lock}' != 'redis'")
+public class ProductStockCombiner {
+
+    private final ProductStockBatchService productStockBatchService;
+    private final long windowMs;
+    private final int maxBatchSize;
+
+    private final Map<Long, PendingRequests> pendingByProduct = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("product-stock-combiner-timer").daemon().factory());
+    private final ExecutorService drainExecutor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("product-stock-combiner-", 0).factory());
+
+    public ProductStockCombiner(
+        ProductStockBatchService productStockBatchService,
+        @Value("${product.stock.combining.window-ms:2}") long windowMs,
+        @Value("${product.stock.combining.max-batch-size:200}") int maxBatchSize
+    ) {
+        this.productStockBatchService = productStockBatchService;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 재고 차감 요청을 등록합니다.
+     * <p>
+     * 대기 중인 요청이 max-batch-size에 닿으면 window-ms를 기다리지 않고 바로 처리합니다.
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감할 수량
+     * @return 차감이 끝나면 완료되는 Future (재고 부족 시 ConflictException으로 완료)
+     */
+    public CompletableFuture<Void> decrease(Long productId, int quantity) {
+        PendingRequest request = new PendingRequest(quantity, new CompletableFuture<>());
+        PendingRequests pending = pendingByProduct.computeIfAbsent(productId, id -> new PendingRequests());
+        pending.queue().add(request);
+        int queued = pending.size().incrementAndGet();
+
+        if (queued >= maxBatchSize) {
+            drainExecutor.execute(() -> drain(productId, pending));
+        } else {
+            scheduleDrain(productId, pending);
+        }
+        return request.future();
+    }
+
+    /**
+     * window-ms 후에 처리하도록 예약합니다. 이미 예약되어 있으면 아무것도 하지 않습니다.
+     */
+    private void scheduleDrain(Long productId, PendingRequests pending) {
+        if (pending.scheduled().compareAndSet(false, true)) {
+            timer.schedule(() -> {
+                pending.scheduled().set(false);
+                drainExecutor.execute(() -> drain(productId, pending));
+            }, windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 모인 요청을 최대 배치 크기씩 꺼내 대기열이 빌 때까지 처리합니다.
+     * <p>
+     * 상품마다 한 번에 하나의 drain만 실행되며, 이미 실행 중이면 실행 중인 drain이 새 요청까지 처리합니다.
+     * 대기열이 비면 상품 항목을 지워, 한 번 차감된 상품이 계속 남아 있지 않게 합니다.
+     */
+    private void drain(Long productId, PendingRequests pending) {
+        if (!pending.draining().compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<PendingRequest> batch;
+            while (!(batch = pollBatch(pending)).isEmpty()) {
+                apply(productId, batch);
+            }
+        } finally {
+            pending.draining().set(false);
+        }
+
+        if (!pending.queue().isEmpty()) {
+            // 마지막 poll과 draining 해제 사이에 들어온 요청
+            if (pending.size().get() >= maxBatchSize) {
+                drainExecutor.execute(() -> drain(productId, pending));
+            } else {
+                scheduleDrain(productId, pending);
+            }
+        } else if (!pending.scheduled().get()) {
+            // 지운 뒤에 이 항목에 추가된 요청은 추가한 쪽이 예약한 drain이 처리
+            pendingByProduct.remove(productId, pending);
+        }
+    }
+
+    private List<PendingRequest> pollBatch(PendingRequests pending) {
+        List<PendingRequest> batch = new ArrayList<>();
+        PendingRequest request;
+        while (batch.size() < maxBatchSize && (request = pending.queue().poll()) != null) {
+            batch.add(request);
+        }
+        pending.size().addAndGet(-batch.size());
+        return batch;
+    }
+
+    private void apply(Long productId, List<PendingRequest> batch) {
+        List<Integer> quantities = batch.stream()
+            .map(PendingRequest::quantity)
+            .toList();
+        try {
+            List<Boolean> accepted = productStockBatchService.decreaseInOrder(productId, quantities);
+            for (int i = 0; i < batch.size(); i++) {
+                if (accepted.get(i)) {
+                    batch.get(i).future().complete(null);
+                } else {
+                    batch.get(i).future().completeExceptionally(new ConflictException(ProductErrorCode.INSUFFICIENT_STOCK));
+                }
+            }
+        } catch (Exception e) {
+            log.error("재고 일괄 차감 실패: productId={}, requestCount={}", productId, batch.size(), e);
+            batch.forEach(failed -> failed.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 결합기 스레드를 정리합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdown();
+        drainExecutor.shutdown();
+    }
+
+    private record PendingRequest(int quantity, CompletableFuture<Void> future) {
+    }
+
+    private record PendingRequests(Queue<PendingRequest> queue, AtomicInteger size,
+                                   AtomicBoolean scheduled, AtomicBoolean draining) {
+        PendingRequests() {
+            this(new ConcurrentLinkedQueue<>(), new AtomicInteger(), new AtomicBoolean(false), new AtomicBoolean(false));
+        }
+    }
+}
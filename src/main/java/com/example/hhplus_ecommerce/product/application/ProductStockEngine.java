@@ -0,0 +1,52 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+
+import java.util.List;
+
+/**
+ * 상품 재고 차감/복구 엔진
+ * <p>
+ * 구현체는 product.stock.engine 설정으로 선택합니다.
+ * - lock: 상품별 분산 락 + DB 재고 갱신 (기본값, {@link LockProductStockEngine})
+ * - atomic: 락 없이 조건부 UPDATE 한 문장으로 차감 ({@link AtomicProductStockEngine})
+ * - redis: Redis 원자적 재고 예약 + 쓰기 지연 DB 반영 ({@link RedisProductStockEngine})
+ */
+public interface ProductStockEngine {
+
+    /**
+     * 상품 재고를 차감합니다.
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감할 수량
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     * @throws ConflictException 재고가 부족한 경우
+     */
+    void decrease(Long productId, int quantity);
+
+    /**
+     * 상품 재고를 복구합니다.
+     *
+     * @param productId 상품 ID
+     * @param quantity  복구할 수량
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     */
+    void increase(Long productId, int quantity);
+
+    /**
+     * 여러 상품의 재고를 모두 차감하거나 하나도 차감하지 않습니다.
+     *
+     * @param reservations 상품별로 합쳐진 재고 예약 목록 (상품 ID 오름차순)
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     * @throws ConflictException 하나라도 재고가 부족한 경우
+     */
+    void reserveAll(List<StockReservation> reservations);
+
+    /**
+     * 여러 상품의 재고를 한 번에 복구합니다.
+     *
+     * @param reservations 상품별로 합쳐진 재고 예약 목록 (상품 ID 오름차순)
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     */
+    void releaseAll(List<StockReservation> reservations);
+}
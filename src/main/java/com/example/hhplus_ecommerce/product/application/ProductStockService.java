@@ -1,49 +1,56 @@
 package com.example.hhplus_ecommerce.product.application;
 
-import com.example.hhplus_ecommerce.product.domain.Product;
-import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedLock;
-import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * 상품 재고 관리 서비스
  * <p>
  * 상품 재고의 차감 및 복구를 담당합니다.
- * 분산 락을 사용하여 다중 서버 환경에서의 재고 동시성을 제어합니다.
+ * 실제 처리는 product.stock.engine 설정으로 선택된 {@link ProductStockEngine}이 수행합니다.
+ * - lock: 분산 락을 사용하여 다중 서버 환경에서의 재고 동시성 제어 (기본값)
+ * - atomic: 락 없이 조건부 UPDATE로 원자적 차감
+ * - redis: Redis에서 원자적으로 재고를 예약하고 DB에는 일괄 반영
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductStockService {
 
-    private final ProductRepository productRepository;
+    private final ProductStockEngine productStockEngine;
+    private final ObjectProvider<ProductStockCombiner> productStockCombiner;
 
     /**
      * 상품 재고를 차감합니다.
      * <p>
-     * 동시성 제어:
-     * - 분산 락(Redisson RLock)을 사용하여 상품별 동시성 제어
-     * - 다중 서버 환경에서 같은 상품의 재고 차감 순차 처리
-     * - 새로운 트랜잭션에서 실행되어 독립적으로 커밋/롤백
+     * product.stock.combining.enabled=true이면 같은 상품에 동시에 들어온 요청을
+     * {@link ProductStockCombiner}로 모아 락 한 번, UPDATE 한 번으로 처리합니다.
      *
      * @param productId 재고를 차감할 상품 ID
      * @param quantity 차감할 수량
      * @throws NotFoundException 상품을 찾을 수 없는 경우
      * @throws ConflictException 재고가 부족한 경우
      */
-    @DistributedLock(key = "'product:' + #productId + ':stock'")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void decreaseStock(Long productId, int quantity) {
-        Product product = productRepository.findByIdOrThrow(productId);
-        product.subStockQuantity(quantity);
-        productRepository.save(product);
-
-        log.info("재고 차감 성공: productId={}, quantity={}, remainingStock={}",
-            productId, quantity, product.getStockQuantity());
+        ProductStockCombiner combiner = productStockCombiner.getIfAvailable();
+        if (combiner == null) {
+            productStockEngine.decrease(productId, quantity);
+            return;
+        }
+        try {
+            combiner.decrease(productId, quantity).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     /**
@@ -55,14 +62,38 @@ public class ProductStockService {
      * @param productId 재고를 복구할 상품 ID
      * @param quantity 복구할 수량
      */
-    @DistributedLock(key = "'product:' + #productId + ':stock'")
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void increaseStock(Long productId, int quantity) {
-        Product product = productRepository.findByIdOrThrow(productId);
-        product.addStockQuantity(quantity);
-        productRepository.save(product);
+        productStockEngine.increase(productId, quantity);
+    }
 
-        log.info("재고 복구 성공: productId={}, quantity={}, currentStock={}",
-            productId, quantity, product.getStockQuantity());
+    /**
+     * 여러 상품의 재고를 한 번에 차감합니다.
+     * <p>
+     * 모든 상품이 차감되거나 하나도 차감되지 않으므로, 실패 시 상품별 보상 처리가 필요 없습니다.
+     * 같은 상품이 여러 번 포함되면 수량을 합쳐 한 번만 차감합니다.
+     *
+     * @param reservations 재고 예약 목록
+     * @throws NotFoundException 상품을 찾을 수 없는 경우
+     * @throws ConflictException 하나라도 재고가 부족한 경우
+     */
+    public void decreaseStocks(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        productStockEngine.reserveAll(StockReservation.merge(reservations));
+    }
+
+    /**
+     * 여러 상품의 재고를 한 번에 복구합니다.
+     * <p>
+     * Saga 패턴의 보상 트랜잭션으로 사용됩니다.
+     *
+     * @param reservations 재고 예약 목록
+     */
+    public void increaseStocks(List<StockReservation> reservations) {
+        if (reservations.isEmpty()) {
+            return;
+        }
+        productStockEngine.releaseAll(StockReservation.merge(reservations));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.example.hhplus_ecommerce.product.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.dto.StockReservationResult;
+import com.example.hhplus_ecommerce.product.infrastructure.redis.ProductStockRedisRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 재고 엔진
+ * <p>
+ * 실시간 재고를 Redis에 보관하고 Lua 스크립트로 확인과 차감(DECRBY)을 원자적으로 처리하므로,
+ * 락 대기나 DB 왕복 없이 같은 상품에 대한 요청을 Redis 처리량만큼 받을 수 있습니다.
+ * <p>
+ * - 재고 캐시가 없는 상품은 첫 요청 시 DB 재고로 초기화 (SET NX)
+ * - DB 반영은 {@link com.example.hhplus_ecommerce.product.infrastructure.scheduler.ProductStockFlushScheduler}가 일괄 처리
+ * - 따라서 product.stock_quantity는 반영 주기만큼 지연될 수 있음
+ * - product.stock.redis.bucket-count > 1이면 상품 재고를 여러 버킷으로 나누어 인기 상품의 경합을 분산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.engine", havingValue = "redis")
+public class RedisProductStockEngine implements ProductStockEngine {
+
+    private final ProductStockRedisRepository productStockRedisRepository;
+    private final ProductRepository productRepository;
+
+    @Override
+    public void decrease(Long productId, int quantity) {
+        StockReservationResult result = productStockRedisRepository.reserve(productId, quantity);
+        if (result == StockReservationResult.NOT_LOADED) {
+            loadStock(productId);
+            result = productStockRedisRepository.reserve(productId, quantity);
+        }
+
+        if (result != StockReservationResult.SUCCESS) {
+            throw new ConflictException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+        log.debug("재고 차감 성공: productId={}, quantity={}", productId, quantity);
+    }
+
+    @Override
+    public void increase(Long productId, int quantity) {
+        StockReservationResult result = productStockRedisRepository.release(productId, quantity);
+        if (result == StockReservationResult.NOT_LOADED) {
+            loadStock(productId);
+            result = productStockRedisRepository.release(productId, quantity);
+        }
+
+        if (result != StockReservationResult.SUCCESS) {
+            throw new IllegalStateException("재고 복구 실패: productId=" + productId + ", result=" + result);
+        }
+        log.debug("재고 복구 성공: productId={}, quantity={}", productId, quantity);
+    }
+
+    @Override
+    public void reserveAll(List<StockReservation> reservations) {
+        StockReservationResult result = productStockRedisRepository.reserveAll(reservations);
+        if (result == StockReservationResult.NOT_LOADED) {
+            loadMissingStocks(reservations);
+            result = productStockRedisRepository.reserveAll(reservations);
+        }
+
+        if (result != StockReservationResult.SUCCESS) {
+            throw new ConflictException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+        log.debug("재고 일괄 차감 성공: productCount={}", reservations.size());
+    }
+
+    @Override
+    public void releaseAll(List<StockReservation> reservations) {
+        StockReservationResult result = productStockRedisRepository.releaseAll(reservations);
+        if (result == StockReservationResult.NOT_LOADED) {
+            loadMissingStocks(reservations);
+            result = productStockRedisRepository.releaseAll(reservations);
+        }
+
+        if (result != StockReservationResult.SUCCESS) {
+            throw new IllegalStateException("재고 일괄 복구 실패: productCount=" + reservations.size() + ", result=" + result);
+        }
+        log.debug("재고 일괄 복구 성공: productCount={}", reservations.size());
+    }
+
+    private void loadMissingStocks(List<StockReservation> reservations) {
+        List<Long> productIds = reservations.stream()
+            .map(StockReservation::productId)
+            .toList();
+        Map<Long, Integer> cachedStocks = productStockRedisRepository.getStocks(productIds);
+        productIds.stream()
+            .filter(productId -> !cachedStocks.containsKey(productId))
+            .forEach(this::loadStock);
+    }
+
+    /**
+     * DB 재고로 Redis 재고 캐시를 초기화합니다.
+     * <p>
+     * 다른 요청이 먼저 초기화했다면 그 값을 그대로 사용합니다.
+     */
+    private void loadStock(Long productId) {
+        Product product = productRepository.findByIdOrThrow(productId);
+        if (productStockRedisRepository.initializeStockIfAbsent(productId, product.getStockQuantity())) {
+            log.info("재고 캐시 초기화: productId={}, stock={}", productId, product.getStockQuantity());
+        }
+    }
+}
@@ -21,6 +21,8 @@ public class Product extends BaseEntity {
     private Integer stockQuantity;
     @ColumnDefault("0") @Builder.Default
     private Integer viewCount = 0;
+    @ColumnDefault("0") @Builder.Default
+    private Long fenceToken = 0L;
 
     public void subStockQuantity(Integer stockQuantity) {
         if(!hasSufficientStock(stockQuantity)) {
@@ -0,0 +1,32 @@
+package com.example.hhplus_ecommerce.product.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 예약 단위 (상품 ID, 수량)
+ * <p>
+ * 여러 상품의 재고를 한 번에 차감/복구할 때 사용합니다.
+ */
+public record StockReservation(Long productId, int quantity) {
+
+    /**
+     * 같은 상품의 예약을 합치고 상품 ID 순으로 정렬합니다.
+     * <p>
+     * 상품 ID 순으로 락을 잡아 교착 상태를 방지하고, 같은 상품이 여러 줄에 있어도 한 번만 갱신하기 위해 사용합니다.
+     *
+     * @param reservations 재고 예약 목록
+     * @return 상품별로 합쳐진 예약 목록 (상품 ID 오름차순)
+     */
+    public static List<StockReservation> merge(Collection<StockReservation> reservations) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (StockReservation reservation : reservations) {
+            quantities.merge(reservation.productId(), reservation.quantity(), Integer::sum);
+        }
+        return quantities.entrySet().stream()
+            .map(entry -> new StockReservation(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.hhplus_ecommerce.product.infrastructure.dto;
+
+public record ProductStockSnapshot(Long productId, Integer stockQuantity) {
+}
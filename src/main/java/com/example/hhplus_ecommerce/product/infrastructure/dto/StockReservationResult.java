@@ -0,0 +1,37 @@
+package com.example.hhplus_ecommerce.product.infrastructure.dto;
+
+import java.util.Arrays;
+
+/**
+ * 재고 예약/복구 Lua 스크립트의 실행 결과
+ * <p>
+ * 스크립트는 결과를 정수 코드로 반환하며, 이 enum으로 변환하여 사용합니다.
+ */
+public enum StockReservationResult {
+    SUCCESS(1L),
+    NOT_LOADED(-1L),
+    INSUFFICIENT_STOCK(-2L);
+
+    private final long code;
+
+    StockReservationResult(long code) {
+        this.code = code;
+    }
+
+    /**
+     * 스크립트 반환 코드를 결과로 변환합니다.
+     *
+     * @param code 스크립트 반환 코드
+     * @return 실행 결과
+     * @throws IllegalStateException 알 수 없는 코드인 경우
+     */
+    public static StockReservationResult fromCode(Long code) {
+        if (code == null) {
+            throw new IllegalStateException("재고 스크립트 결과가 없습니다.");
+        }
+        return Arrays.stream(values())
+            .filter(result -> result.code == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 재고 스크립트 결과: " + code));
+    }
+}
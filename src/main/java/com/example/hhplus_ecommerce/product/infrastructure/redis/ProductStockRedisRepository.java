@@ -0,0 +1,567 @@
+package com.example.hhplus_ecommerce.product.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.common.infrastructure.redis.AbstractRedisRepository;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.dto.StockReservationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 Redis 저장소
+ * <p>
+ * Redis 재고 엔진에서 실시간 재고를 Redis에 보관합니다.
+ * - String: 상품별 현재 재고 (product:stock:{productId})
+ * - Set: DB에 아직 반영되지 않은 상품 ID 목록 (product:stock:dirty)
+ * <p>
+ * 재고 확인과 차감/복구, 변경 표시는 Lua 스크립트 한 번으로 원자적으로 처리하며,
+ * DB 반영은 쓰기 지연 스케줄러가 변경된 상품의 현재 값을 일괄 저장합니다.
+ * <p>
+ * 분할 재고 모드 (product.stock.redis.bucket-count > 1):
+ * - 상품 재고를 N개의 버킷 키(product:stock:{productId}:{bucket})로 나누어 보관
+ * - 차감은 임의의 버킷 하나에서 수행하고, 부족하면 다른 버킷에서 가져옴 (전부 부족하면 여러 버킷에서 나누어 차감)
+ * - 차감/복구 스크립트는 버킷 키 하나(와 DB 미반영 Set)만 사용하므로 버킷들이 Redis 클러스터의 여러 샤드에 분산될 수 있음
+ * - 초기화 스크립트만 모든 버킷 키를 함께 사용하므로, 클러스터에서는 초기화 시 버킷 키들이 같은 슬롯에 있어야 함
+ * - 상품 재고는 모든 버킷의 합이며, DB 반영도 합계로 저장
+ */
+@Slf4j
+@Repository
+public class ProductStockRedisRepository extends AbstractRedisRepository {
+
+    private static final String PRODUCT_STOCK_KEY = "product:stock:%d";       // String: 현재 재고
+    private static final String PRODUCT_STOCK_DIRTY_KEY = "product:stock:dirty"; // Set: DB 미반영 상품 ID
+    private static final String PRODUCT_STOCK_BUCKET_KEY = "product:stock:%d:%d"; // String: 분할 재고 버킷
+
+    /**
+     * 재고 예약 스크립트
+     * <p>
+     * KEYS[1]: 상품 재고, KEYS[2]: DB 미반영 상품 Set
+     * ARGV[1]: 상품 ID, ARGV[2]: 차감 수량
+     * <p>
+     * 반환값: 1 = 차감, -1 = 재고 캐시 없음, -2 = 재고 부족
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -1
+        end
+        if tonumber(stock) < tonumber(ARGV[2]) then
+            return -2
+        end
+        redis.call('DECRBY', KEYS[1], ARGV[2])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    /**
+     * 재고 복구 스크립트
+     * <p>
+     * KEYS[1]: 상품 재고, KEYS[2]: DB 미반영 상품 Set
+     * ARGV[1]: 상품 ID, ARGV[2]: 복구 수량
+     * <p>
+     * 반환값: 1 = 복구, -1 = 재고 캐시 없음
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        redis.call('INCRBY', KEYS[1], ARGV[2])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        return 1
+        """, Long.class);
+
+    /**
+     * 여러 상품 재고 일괄 예약 스크립트
+     * <p>
+     * KEYS[1..n]: 상품 재고, KEYS[n+1]: DB 미반영 상품 Set
+     * ARGV[1..n]: 상품 ID, ARGV[n+1..2n]: 차감 수량
+     * <p>
+     * 모든 상품을 먼저 확인한 뒤 차감하므로 모두 차감되거나 하나도 차감되지 않습니다.
+     * 반환값: 1 = 차감, -1 = 재고 캐시 없음, -2 = 재고 부족
+     */
+    private static final RedisScript<Long> RESERVE_ALL_SCRIPT = new DefaultRedisScript<>("""
+        local n = #KEYS - 1
+        for i = 1, n do
+            local stock = redis.call('GET', KEYS[i])
+            if not stock then
+                return -1
+            end
+            if tonumber(stock) < tonumber(ARGV[n + i]) then
+                return -2
+            end
+        end
+        for i = 1, n do
+            redis.call('DECRBY', KEYS[i], ARGV[n + i])
+            redis.call('SADD', KEYS[n + 1], ARGV[i])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * 여러 상품 재고 일괄 복구 스크립트
+     * <p>
+     * KEYS[1..n]: 상품 재고, KEYS[n+1]: DB 미반영 상품 Set
+     * ARGV[1..n]: 상품 ID, ARGV[n+1..2n]: 복구 수량
+     * <p>
+     * 반환값: 1 = 복구, -1 = 재고 캐시 없음
+     */
+    private static final RedisScript<Long> RELEASE_ALL_SCRIPT = new DefaultRedisScript<>("""
+        local n = #KEYS - 1
+        for i = 1, n do
+            if redis.call('EXISTS', KEYS[i]) == 0 then
+                return -1
+            end
+        end
+        for i = 1, n do
+            redis.call('INCRBY', KEYS[i], ARGV[n + i])
+            redis.call('SADD', KEYS[n + 1], ARGV[i])
+        end
+        return 1
+        """, Long.class);
+
+    /**
+     * 버킷 차감 스크립트
+     * <p>
+     * KEYS[1]: 재고 버킷, KEYS[2]: DB 미반영 상품 Set
+     * ARGV[1]: 차감 수량, ARGV[2]: 부분 차감 허용 여부 (1 = 허용), ARGV[3]: 상품 ID
+     * <p>
+     * 차감과 변경 표시를 함께 처리하므로, 차감 직후 장애가 나도 DB 반영 대상에서 빠지지 않습니다.
+     * 반환값: 차감한 수량 (0 = 부족), -1 = 버킷 없음
+     */
+    private static final RedisScript<Long> TAKE_FROM_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -1
+        end
+        stock = tonumber(stock)
+        local quantity = tonumber(ARGV[1])
+        local taken = 0
+        if stock >= quantity then
+            taken = quantity
+        elseif ARGV[2] == '1' and stock > 0 then
+            taken = stock
+        end
+        if taken > 0 then
+            redis.call('DECRBY', KEYS[1], taken)
+            redis.call('SADD', KEYS[2], ARGV[3])
+        end
+        return taken
+        """, Long.class);
+
+    /**
+     * 버킷 복구 스크립트
+     * <p>
+     * KEYS[1]: 재고 버킷, KEYS[2]: DB 미반영 상품 Set
+     * ARGV[1]: 복구 수량, ARGV[2]: 상품 ID
+     * <p>
+     * 반환값: 1 = 복구, -1 = 버킷 없음
+     */
+    private static final RedisScript<Long> RETURN_TO_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        redis.call('INCRBY', KEYS[1], ARGV[1])
+        redis.call('SADD', KEYS[2], ARGV[2])
+        return 1
+        """, Long.class);
+
+    /**
+     * 버킷 초기화 스크립트
+     * <p>
+     * KEYS[1..n]: 재고 버킷
+     * ARGV[1..n]: 버킷별 초기 재고
+     * <p>
+     * 모든 버킷이 없을 때만 초기 재고를 설정합니다. 일부 버킷만 없다면 (만료·축출 등)
+     * 뒤처진 DB 재고로 다시 만들면 이미 차감된 재고가 되살아나므로, 없는 버킷만 0으로 채웁니다.
+     * 반환값: 1 = 초기화, 0 = 이미 초기화됨, -n = 없던 버킷 n개를 0으로 채움
+     */
+    private static final RedisScript<Long> INITIALIZE_BUCKETS_SCRIPT = new DefaultRedisScript<>("""
+        local missing = {}
+        for i = 1, #KEYS do
+            if redis.call('EXISTS', KEYS[i]) == 0 then
+                missing[#missing + 1] = KEYS[i]
+            end
+        end
+        if #missing == #KEYS then
+            for i = 1, #KEYS do
+                redis.call('SET', KEYS[i], ARGV[i])
+            end
+            return 1
+        end
+        for i = 1, #missing do
+            redis.call('SET', missing[i], '0')
+        end
+        return -#missing
+        """, Long.class);
+
+    /**
+     * 여러 버킷에서 나누어 차감할 때, 합계가 부족하면 되돌린 뒤 다시 시도하는 최대 횟수
+     */
+    private static final int GATHER_ATTEMPTS = 3;
+
+    private final int bucketCount;
+
+    public ProductStockRedisRepository(
+        StringRedisTemplate redisTemplate,
+        @Value("${product.stock.redis.bucket-count:1}") int bucketCount
+    ) {
+        super(redisTemplate);
+        this.bucketCount = Math.max(1, bucketCount);
+    }
+
+    /**
+     * 분할 재고 모드 여부를 반환합니다.
+     *
+     * @return 버킷이 2개 이상이면 true
+     */
+    public boolean isStriped() {
+        return bucketCount > 1;
+    }
+
+    /**
+     * 재고를 원자적으로 확인하고 차감합니다. (GET → 비교 → DECRBY → SADD)
+     *
+     * @param productId 상품 ID
+     * @param quantity  차감 수량
+     * @return 실행 결과
+     */
+    public StockReservationResult reserve(Long productId, int quantity) {
+        if (isStriped()) {
+            return reserveFromBuckets(productId, quantity);
+        }
+        Long code = redisTemplate.execute(RESERVE_SCRIPT, stockKeys(productId),
+            productId.toString(), String.valueOf(quantity));
+        return StockReservationResult.fromCode(code);
+    }
+
+    /**
+     * 재고를 원자적으로 복구합니다. (INCRBY → SADD)
+     *
+     * @param productId 상품 ID
+     * @param quantity  복구 수량
+     * @return 실행 결과
+     */
+    public StockReservationResult release(Long productId, int quantity) {
+        if (isStriped()) {
+            int bucket = ThreadLocalRandom.current().nextInt(bucketCount);
+            if (returnToBucket(productId, bucket, quantity) < 0) {
+                return StockReservationResult.NOT_LOADED;
+            }
+            return StockReservationResult.SUCCESS;
+        }
+        Long code = redisTemplate.execute(RELEASE_SCRIPT, stockKeys(productId),
+            productId.toString(), String.valueOf(quantity));
+        return StockReservationResult.fromCode(code);
+    }
+
+    /**
+     * 여러 상품의 재고를 원자적으로 확인하고 모두 차감합니다.
+     * <p>
+     * 분할 재고 모드에서는 버킷 키가 여러 샤드에 나뉠 수 있어 하나의 스크립트로 묶지 않고 상품별로 차감하며,
+     * 하나라도 실패하면 이미 차감한 상품을 복구한 뒤 그 결과를 반환합니다.
+     * 따라서 실패 결과를 받으면 어느 상품도 차감되지 않은 상태이지만, 진행 중에는 일부만 차감된 상태가 보일 수 있습니다.
+     *
+     * @param reservations 재고 예약 목록
+     * @return 실행 결과
+     */
+    public StockReservationResult reserveAll(List<StockReservation> reservations) {
+        if (isStriped()) {
+            return reserveEach(reservations);
+        }
+        Long code = redisTemplate.execute(RESERVE_ALL_SCRIPT, stockKeys(reservations), stockArgs(reservations));
+        return StockReservationResult.fromCode(code);
+    }
+
+    /**
+     * 여러 상품의 재고를 원자적으로 복구합니다.
+     * <p>
+     * 분할 재고 모드에서는 모든 상품의 재고 캐시가 있는지 먼저 확인하고, 없으면 아무것도 복구하지 않고 NOT_LOADED를 반환합니다.
+     * (일부만 복구한 뒤 NOT_LOADED를 반환하면, 호출자가 전체를 다시 시도할 때 같은 수량이 두 번 복구되므로)
+     *
+     * @param reservations 재고 예약 목록
+     * @return 실행 결과
+     */
+    public StockReservationResult releaseAll(List<StockReservation> reservations) {
+        if (isStriped()) {
+            return releaseEach(reservations);
+        }
+        Long code = redisTemplate.execute(RELEASE_ALL_SCRIPT, stockKeys(reservations), stockArgs(reservations));
+        return StockReservationResult.fromCode(code);
+    }
+
+    private StockReservationResult reserveEach(List<StockReservation> reservations) {
+        List<StockReservation> reserved = new ArrayList<>();
+        for (StockReservation reservation : reservations) {
+            StockReservationResult result = reserve(reservation.productId(), reservation.quantity());
+            if (result != StockReservationResult.SUCCESS) {
+                reserved.forEach(done -> release(done.productId(), done.quantity()));
+                return result;
+            }
+            reserved.add(reservation);
+        }
+        return StockReservationResult.SUCCESS;
+    }
+
+    private StockReservationResult releaseEach(List<StockReservation> reservations) {
+        List<Long> productIds = reservations.stream()
+            .map(StockReservation::productId)
+            .toList();
+        if (!getStocks(productIds).keySet().containsAll(productIds)) {
+            return StockReservationResult.NOT_LOADED;
+        }
+        for (StockReservation reservation : reservations) {
+            StockReservationResult result = release(reservation.productId(), reservation.quantity());
+            if (result != StockReservationResult.SUCCESS) {
+                throw new IllegalStateException("재고 복구 실패: productId=" + reservation.productId() + ", result=" + result);
+            }
+        }
+        return StockReservationResult.SUCCESS;
+    }
+
+    /**
+     * 재고 캐시가 없을 때만 DB 재고로 초기화합니다. (SET NX)
+     *
+     * @param productId     상품 ID
+     * @param stockQuantity DB 재고
+     * @return 초기화 여부 (이미 캐시가 있으면 false)
+     */
+    public boolean initializeStockIfAbsent(Long productId, int stockQuantity) {
+        if (isStriped()) {
+            return initializeBucketsIfAbsent(productId, stockQuantity);
+        }
+        Boolean initialized = redisTemplate.opsForValue()
+            .setIfAbsent(String.format(PRODUCT_STOCK_KEY, productId), String.valueOf(stockQuantity));
+        return Boolean.TRUE.equals(initialized);
+    }
+
+    /**
+     * 현재 재고를 조회합니다.
+     *
+     * @param productId 상품 ID
+     * @return 현재 재고 (캐시가 없으면 null)
+     */
+    public Integer getStock(Long productId) {
+        if (isStriped()) {
+            return getStocks(List.of(productId)).get(productId);
+        }
+        String stock = redisTemplate.opsForValue().get(String.format(PRODUCT_STOCK_KEY, productId));
+        return stock != null ? Integer.valueOf(stock) : null;
+    }
+
+    /**
+     * 여러 상품의 현재 재고를 한 번에 조회합니다. (MGET)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID별 현재 재고 (캐시가 없는 상품은 제외)
+     */
+    public Map<Long, Integer> getStocks(List<Long> productIds) {
+        if (isStriped()) {
+            return getBucketStockSums(productIds);
+        }
+        List<String> keys = productIds.stream()
+            .map(productId -> String.format(PRODUCT_STOCK_KEY, productId))
+            .toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Integer> stocks = new LinkedHashMap<>();
+        if (values == null) {
+            return stocks;
+        }
+        for (int i = 0; i < productIds.size(); i++) {
+            if (values.get(i) != null) {
+                stocks.put(productIds.get(i), Integer.valueOf(values.get(i)));
+            }
+        }
+        return stocks;
+    }
+
+    /**
+     * DB 미반영 상품 ID를 최대 count개 꺼냅니다. (SPOP)
+     *
+     * @param count 최대 개수
+     * @return 상품 ID 목록
+     */
+    public List<Long> popDirtyProductIds(int count) {
+        List<String> members = redisTemplate.opsForSet().pop(PRODUCT_STOCK_DIRTY_KEY, count);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    /**
+     * 상품들을 DB 미반영 상태로 표시합니다.
+     * <p>
+     * DB 반영에 실패한 상품을 되돌리거나, 시작 시 Redis 재고를 DB에 다시 반영할 때 사용합니다.
+     *
+     * @param productIds 상품 ID 목록
+     */
+    public void markDirty(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        String[] members = productIds.stream()
+            .map(String::valueOf)
+            .toArray(String[]::new);
+        redisTemplate.opsForSet().add(PRODUCT_STOCK_DIRTY_KEY, members);
+    }
+
+    /**
+     * DB 미반영 상품 수를 조회합니다.
+     *
+     * @return DB 미반영 상품 수
+     */
+    public long getDirtyCount() {
+        Long size = redisTemplate.opsForSet().size(PRODUCT_STOCK_DIRTY_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private List<String> stockKeys(Long productId) {
+        return List.of(String.format(PRODUCT_STOCK_KEY, productId), PRODUCT_STOCK_DIRTY_KEY);
+    }
+
+    private List<String> stockKeys(List<StockReservation> reservations) {
+        List<String> keys = new ArrayList<>(reservations.size() + 1);
+        reservations.forEach(reservation -> keys.add(String.format(PRODUCT_STOCK_KEY, reservation.productId())));
+        keys.add(PRODUCT_STOCK_DIRTY_KEY);
+        return keys;
+    }
+
+    private Object[] stockArgs(List<StockReservation> reservations) {
+        Object[] args = new Object[reservations.size() * 2];
+        for (int i = 0; i < reservations.size(); i++) {
+            args[i] = reservations.get(i).productId().toString();
+            args[reservations.size() + i] = String.valueOf(reservations.get(i).quantity());
+        }
+        return args;
+    }
+
+    /**
+     * 분할 재고에서 차감합니다.
+     * <p>
+     * 1. 임의로 고른 버킷부터 차례로, 한 버킷에서 전체 수량을 차감할 수 있는지 시도 (부족하면 다른 버킷에서 가져옴)
+     * 2. 한 버킷으로 부족하면 여러 버킷에서 나누어 차감하고, 합계도 부족하면 가져온 수량을 되돌림
+     * <p>
+     * 나누어 차감은 버킷마다 별도 호출이므로 원자적이지 않습니다.
+     * 재고를 초과해 차감하는 일은 없지만, 품절 직전에 두 요청이 동시에 나누어 차감하면
+     * 서로 일부씩 가져가 합계가 한 요청을 채울 수 있었는데도 둘 다 부족으로 판단할 수 있습니다.
+     * 이를 줄이기 위해 되돌린 뒤 최대 {@value #GATHER_ATTEMPTS}번까지 다시 시도하며,
+     * 그래도 부족하면 재고 부족으로 처리합니다.
+     */
+    private StockReservationResult reserveFromBuckets(Long productId, int quantity) {
+        int home = ThreadLocalRandom.current().nextInt(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            long taken = takeFromBucket(productId, (home + i) % bucketCount, quantity, false);
+            if (taken < 0) {
+                return StockReservationResult.NOT_LOADED;
+            }
+            if (taken == quantity) {
+                return StockReservationResult.SUCCESS;
+            }
+        }
+
+        for (int attempt = 1; attempt <= GATHER_ATTEMPTS; attempt++) {
+            Map<Integer, Long> takenByBucket = new LinkedHashMap<>();
+            long remaining = quantity;
+            for (int i = 0; i < bucketCount && remaining > 0; i++) {
+                int bucket = (home + i) % bucketCount;
+                long taken = takeFromBucket(productId, bucket, remaining, true);
+                if (taken < 0) {
+                    returnToBuckets(productId, takenByBucket);
+                    return StockReservationResult.NOT_LOADED;
+                }
+                if (taken > 0) {
+                    takenByBucket.put(bucket, taken);
+                    remaining -= taken;
+                }
+            }
+            if (remaining == 0) {
+                log.debug("분할 재고 나누어 차감: productId={}, quantity={}, buckets={}, attempt={}",
+                    productId, quantity, takenByBucket.keySet(), attempt);
+                return StockReservationResult.SUCCESS;
+            }
+            returnToBuckets(productId, takenByBucket);
+        }
+        return StockReservationResult.INSUFFICIENT_STOCK;
+    }
+
+    private long takeFromBucket(Long productId, int bucket, long quantity, boolean allowPartial) {
+        Long taken = redisTemplate.execute(TAKE_FROM_BUCKET_SCRIPT, bucketKeys(productId, bucket),
+            String.valueOf(quantity), allowPartial ? "1" : "0", productId.toString());
+        return taken != null ? taken : -1L;
+    }
+
+    private long returnToBucket(Long productId, int bucket, long quantity) {
+        Long result = redisTemplate.execute(RETURN_TO_BUCKET_SCRIPT, bucketKeys(productId, bucket),
+            String.valueOf(quantity), productId.toString());
+        return result != null ? result : -1L;
+    }
+
+    private List<String> bucketKeys(Long productId, int bucket) {
+        return List.of(String.format(PRODUCT_STOCK_BUCKET_KEY, productId, bucket), PRODUCT_STOCK_DIRTY_KEY);
+    }
+
+    private void returnToBuckets(Long productId, Map<Integer, Long> takenByBucket) {
+        takenByBucket.forEach((bucket, taken) -> returnToBucket(productId, bucket, taken));
+    }
+
+    /**
+     * 재고를 버킷 수로 나누어, 모든 버킷이 없을 때만 스크립트 한 번으로 초기화합니다.
+     * <p>
+     * 일부 버킷만 없으면 DB 재고로 다시 나누지 않고 없는 버킷을 0으로 채웁니다. ({@link #INITIALIZE_BUCKETS_SCRIPT})
+     *
+     * @return 이 호출이 모든 버킷을 초기화했는지 여부
+     */
+    private boolean initializeBucketsIfAbsent(Long productId, int stockQuantity) {
+        List<String> keys = new ArrayList<>(bucketCount);
+        Object[] shares = new Object[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            keys.add(String.format(PRODUCT_STOCK_BUCKET_KEY, productId, bucket));
+            shares[bucket] = String.valueOf(stockQuantity / bucketCount + (bucket < stockQuantity % bucketCount ? 1 : 0));
+        }
+        Long result = redisTemplate.execute(INITIALIZE_BUCKETS_SCRIPT, keys, shares);
+        if (result != null && result < 0) {
+            log.warn("분할 재고 버킷 유실, 0으로 채움: productId={}, missingBuckets={}", productId, -result);
+        }
+        return result != null && result == 1;
+    }
+
+    /**
+     * 상품별 모든 버킷의 합계를 조회합니다. (MGET)
+     * <p>
+     * 버킷이 하나라도 없는 상품은 초기화되지 않은 것으로 보고 제외합니다.
+     */
+    private Map<Long, Integer> getBucketStockSums(List<Long> productIds) {
+        List<String> keys = new ArrayList<>(productIds.size() * bucketCount);
+        for (Long productId : productIds) {
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                keys.add(String.format(PRODUCT_STOCK_BUCKET_KEY, productId, bucket));
+            }
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Integer> stocks = new LinkedHashMap<>();
+        if (values == null) {
+            return stocks;
+        }
+        for (int i = 0; i < productIds.size(); i++) {
+            List<String> buckets = values.subList(i * bucketCount, (i + 1) * bucketCount);
+            if (buckets.stream().allMatch(Objects::nonNull)) {
+                stocks.put(productIds.get(i), buckets.stream().mapToInt(Integer::parseInt).sum());
+            }
+        }
+        return stocks;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.hhplus_ecommerce.product.infrastructure.repository;
+
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 JDBC 저장소
+ * <p>
+ * 여러 상품의 재고를 한 번에 갱신할 때 상품마다 UPDATE를 실행하지 않고
+ * CASE 식을 사용한 다중 행 UPDATE 문을 직접 실행합니다.
+ * - Redis 재고 엔진의 쓰기 지연 반영 (현재 값 저장)
+ * - 여러 상품 재고의 조건부 일괄 차감/복구 (펜싱 토큰 확인 포함)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 상품의 재고를 주어진 값으로 갱신합니다.
+     * <p>
+     * 1,000개 단위로 나누어 UPDATE 문 하나씩 실행합니다.
+     *
+     * @param stocks 상품 ID별 재고
+     * @return 갱신된 행 수
+     */
+    public int updateStockQuantities(Map<Long, Integer> stocks) {
+        if (stocks.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(stocks.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Map.Entry<Long, Integer>> chunk = entries.subList(from, Math.min(from + UPDATE_CHUNK_SIZE, entries.size()));
+            String sql = "UPDATE product SET stock_quantity = " + caseById(chunk.size()) + " WHERE id IN " + inList(chunk.size());
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            chunk.forEach(entry -> {
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            });
+            chunk.forEach(entry -> args.add(entry.getKey()));
+            updated += jdbcTemplate.update(sql, args.toArray());
+        }
+        log.debug("상품 재고 일괄 갱신: count={}", updated);
+        return updated;
+    }
+
+    /**
+     * 여러 상품의 재고를 조건부 UPDATE 한 번으로 차감합니다.
+     *
+     * @see #decreaseStockQuantities(List, Map)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean decreaseStockQuantities(List<StockReservation> reservations) {
+        return decreaseStockQuantities(reservations, Map.of());
+    }
+
+    /**
+     * 여러 상품의 재고를 조건부 UPDATE 한 번으로 차감합니다.
+     * <p>
+     * 재고가 충분한 행만 차감되므로, 차감된 행 수가 상품 수보다 적으면
+     * 트랜잭션을 롤백하여 모든 상품이 차감되거나 하나도 차감되지 않도록 합니다.
+     * 펜싱 토큰이 주어지면 저장된 토큰보다 큰 행만 차감하고 토큰을 갱신합니다.
+     *
+     * @param reservations 상품별로 합쳐진 재고 예약 목록
+     * @param fenceTokens  상품 ID별 펜싱 토큰 (비어 있으면 확인하지 않음)
+     * @return 모든 상품 차감 여부 (false면 상품이 없거나, 재고가 부족하거나, 토큰이 만료되어 롤백됨)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean decreaseStockQuantities(List<StockReservation> reservations, Map<Long, Long> fenceTokens) {
+        int size = reservations.size();
+        boolean fenced = !fenceTokens.isEmpty();
+        String sql = "UPDATE product SET stock_quantity = stock_quantity - " + caseById(size)
+            + (fenced ? ", fence_token = " + caseById(size) : "")
+            + " WHERE id IN " + inList(size)
+            + " AND stock_quantity >= " + caseById(size)
+            + (fenced ? " AND fence_token < " + caseById(size) : "");
+        List<Object> args = new ArrayList<>(size * 9);
+        addCaseArgs(args, reservations);
+        if (fenced) {
+            addFenceArgs(args, reservations, fenceTokens);
+        }
+        reservations.forEach(reservation -> args.add(reservation.productId()));
+        addCaseArgs(args, reservations);
+        if (fenced) {
+            addFenceArgs(args, reservations, fenceTokens);
+        }
+
+        int updated = jdbcTemplate.update(sql, args.toArray());
+        if (updated != size) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.debug("상품 재고 일괄 차감 롤백: requested={}, updated={}", size, updated);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 여러 상품의 재고를 UPDATE 한 번으로 복구합니다.
+     *
+     * @see #increaseStockQuantities(List, Map)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean increaseStockQuantities(List<StockReservation> reservations) {
+        return increaseStockQuantities(reservations, Map.of());
+    }
+
+    /**
+     * 여러 상품의 재고를 UPDATE 한 번으로 복구합니다.
+     * <p>
+     * 복구된 행 수가 상품 수보다 적으면 롤백하여 모든 상품이 복구되거나 하나도 복구되지 않도록 합니다.
+     * 펜싱 토큰이 주어지면 저장된 토큰보다 큰 행만 복구하고 토큰을 갱신합니다.
+     *
+     * @param reservations 상품별로 합쳐진 재고 예약 목록
+     * @param fenceTokens  상품 ID별 펜싱 토큰 (비어 있으면 확인하지 않음)
+     * @return 모든 상품 복구 여부 (false면 상품이 없거나 토큰이 만료되어 롤백됨)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean increaseStockQuantities(List<StockReservation> reservations, Map<Long, Long> fenceTokens) {
+        int size = reservations.size();
+        boolean fenced = !fenceTokens.isEmpty();
+        String sql = "UPDATE product SET stock_quantity = stock_quantity + " + caseById(size)
+            + (fenced ? ", fence_token = " + caseById(size) : "")
+            + " WHERE id IN " + inList(size)
+            + (fenced ? " AND fence_token < " + caseById(size) : "");
+        List<Object> args = new ArrayList<>(size * 7);
+        addCaseArgs(args, reservations);
+        if (fenced) {
+            addFenceArgs(args, reservations, fenceTokens);
+        }
+        reservations.forEach(reservation -> args.add(reservation.productId()));
+        if (fenced) {
+            addFenceArgs(args, reservations, fenceTokens);
+        }
+
+        int updated = jdbcTemplate.update(sql, args.toArray());
+        if (updated != size) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.debug("상품 재고 일괄 복구 롤백: requested={}, updated={}", size, updated);
+            return false;
+        }
+        return true;
+    }
+
+    private String caseById(int rowCount) {
+        StringBuilder sql = new StringBuilder("CASE id");
+        for (int i = 0; i < rowCount; i++) {
+            sql.append(" WHEN ? THEN ?");
+        }
+        return sql.append(" END").toString();
+    }
+
+    private String inList(int rowCount) {
+        StringBuilder sql = new StringBuilder("(");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append('?');
+        }
+        return sql.append(')').toString();
+    }
+
+    private void addCaseArgs(List<Object> args, List<StockReservation> reservations) {
+        for (StockReservation reservation : reservations) {
+            args.add(reservation.productId());
+            args.add(reservation.quantity());
+        }
+    }
+
+    private void addFenceArgs(List<Object> args, List<StockReservation> reservations, Map<Long, Long> fenceTokens) {
+        for (StockReservation reservation : reservations) {
+            args.add(reservation.productId());
+            args.add(fenceTokens.get(reservation.productId()));
+        }
+    }
+}
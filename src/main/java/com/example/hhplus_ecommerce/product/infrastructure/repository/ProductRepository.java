@@ -2,6 +2,7 @@ package com.example.hhplus_ecommerce.product.infrastructure.repository;
 
 import com.example.hhplus_ecommerce.product.domain.Product;
 import com.example.hhplus_ecommerce.product.infrastructure.dto.ProductScore;
+import com.example.hhplus_ecommerce.product.infrastructure.dto.ProductStockSnapshot;
 import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
 import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
 import jakarta.persistence.LockModeType;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -49,7 +51,53 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     """)
     List<ProductScore> findAllProductScores();
 
+    @Query("""
+        SELECT new com.example.hhplus_ecommerce.product.infrastructure.dto.ProductStockSnapshot(p.id, p.stockQuantity)
+        FROM Product p
+    """)
+    List<ProductStockSnapshot> findAllStockSnapshots();
+
     @Modifying
     @Query(value = "UPDATE product SET view_count = view_count + 1 WHERE id = :id", nativeQuery = true)
     void incrementViewCount(@Param("id") Long id);
+
+    /**
+     * 재고가 충분할 때만 원자적으로 차감합니다.
+     *
+     * @return 차감된 행 수 (0이면 상품이 없거나 재고 부족)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE product SET stock_quantity = stock_quantity - :quantity WHERE id = :id AND stock_quantity >= :quantity", nativeQuery = true)
+    int decreaseStockIfSufficient(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 재고를 원자적으로 증가시킵니다.
+     *
+     * @return 증가된 행 수 (0이면 상품이 없음)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE product SET stock_quantity = stock_quantity + :quantity WHERE id = :id", nativeQuery = true)
+    int increaseStockQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * 저장된 펜싱 토큰보다 큰 토큰일 때만 토큰을 갱신합니다.
+     * <p>
+     * 쓰기 트랜잭션의 첫 문장으로 실행하면 행 락을 잡아, 더 큰 토큰의 쓰기가 먼저 커밋된 경우 거부됩니다.
+     *
+     * @return 갱신된 행 수 (0이면 상품이 없거나 만료된 토큰)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE product SET fence_token = :token WHERE id = :id AND fence_token < :token", nativeQuery = true)
+    int advanceFenceToken(@Param("id") Long id, @Param("token") long token);
+
+    /**
+     * 저장된 펜싱 토큰을 조회합니다.
+     *
+     * @return 펜싱 토큰 (행이 없으면 비어 있음)
+     */
+    @Query(value = "SELECT fence_token FROM product WHERE id = :id", nativeQuery = true)
+    Optional<Long> findFenceToken(@Param("id") Long id);
 }
@@ -0,0 +1,124 @@
+package com.example.hhplus_ecommerce.product.infrastructure.scheduler;
+
+import com.example.hhplus_ecommerce.product.infrastructure.dto.ProductStockSnapshot;
+import com.example.hhplus_ecommerce.product.infrastructure.redis.ProductStockRedisRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductJdbcRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 재고 쓰기 지연 반영 스케줄러
+ * <p>
+ * Redis 재고 엔진이 변경한 상품들의 현재 재고를 주기적으로 DB(product.stock_quantity)에 일괄 저장합니다.
+ * 차감량이 아닌 현재 값을 저장하므로 같은 상품을 여러 번 반영해도 결과가 같습니다.
+ * <p>
+ * - 반영: 변경된 상품 ID를 배치로 꺼내 MGET 후 다중 행 UPDATE, 실패 시 변경 표시 복구
+ * - 시작 시 정합성 맞춤: Redis 재고가 있는 상품은 DB에 반영, 없는 상품은 DB 재고로 초기화
+ * - 종료 시 남은 변경분 반영
+ * - 여러 노드가 동시에 반영하지 않도록 분산 락으로 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.stock.engine", havingValue = "redis")
+public class ProductStockFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "product:stock:flush";
+
+    private final ProductStockRedisRepository productStockRedisRepository;
+    private final ProductRepository productRepository;
+    private final ProductJdbcRepository productJdbcRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${product.stock.flush-batch-size:1000}")
+    private int flushBatchSize;
+
+    /**
+     * 변경된 재고를 주기적으로 DB에 반영합니다.
+     * <p>
+     * 다른 노드가 반영 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${product.stock.flush-interval-ms:1000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            flushDirtyStocks();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 Redis 재고와 DB 재고를 맞춥니다.
+     * <p>
+     * - Redis 재고가 있는 상품: 이전 실행에서 반영되지 못했을 수 있으므로 Redis 값을 DB에 반영
+     * - Redis 재고가 없는 상품: DB 재고로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        lock.lock();
+        try {
+            List<ProductStockSnapshot> snapshots = productRepository.findAllStockSnapshots();
+            List<Long> cachedProductIds = new ArrayList<>();
+            for (ProductStockSnapshot snapshot : snapshots) {
+                if (!productStockRedisRepository.initializeStockIfAbsent(snapshot.productId(), snapshot.stockQuantity())) {
+                    cachedProductIds.add(snapshot.productId());
+                }
+            }
+            productStockRedisRepository.markDirty(cachedProductIds);
+            int flushed = flushDirtyStocks();
+
+            log.info("재고 정합성 맞춤 완료: productCount={}, initialized={}, flushed={}",
+                snapshots.size(), snapshots.size() - cachedProductIds.size(), flushed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 변경분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int flushDirtyStocks() {
+        int flushed = 0;
+        while (true) {
+            List<Long> productIds = productStockRedisRepository.popDirtyProductIds(flushBatchSize);
+            if (productIds.isEmpty()) {
+                return flushed;
+            }
+
+            Map<Long, Integer> stocks = productStockRedisRepository.getStocks(productIds);
+            try {
+                productJdbcRepository.updateStockQuantities(stocks);
+                flushed += stocks.size();
+            } catch (Exception e) {
+                // 다음 주기에 다시 반영하도록 변경 표시 복구
+                productStockRedisRepository.markDirty(productIds);
+                log.error("재고 DB 반영 실패: productCount={}", productIds.size(), e);
+                return flushed;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.hhplus_ecommerce.user.application;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.PointErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.UserErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserPointJdbcRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 기반 포인트 엔진 (락 없음)
+ * <p>
+ * {@code UPDATE user SET point = point - ? WHERE id = ? AND point >= ?}
+ * 한 문장은 MySQL에서 행 잠금으로 원자적으로 실행되므로, 분산 락이나 엔티티 조회 없이 포인트를 차감합니다.
+ * 이력(PointHistory)은 같은 트랜잭션에서 저장하고, 잔액은 UPDATE 문이 기록한 값을 사용합니다.
+ * <p>
+ * - 갱신된 행 수가 0이면 사용자 존재 여부로 포인트 부족과 사용자 없음을 구분
+ * - 락 왕복과 엔티티 조회가 없어 작업당 UPDATE 1회 + 잔액 조회 1회 + 이력 INSERT 1회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.point.engine", havingValue = "atomic")
+public class AtomicUserPointEngine implements UserPointEngine {
+
+    private final UserRepository userRepository;
+    private final UserPointJdbcRepository userPointJdbcRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void use(Long userId, Long orderId, Long amount) {
+        User.validateUseAmount(amount);
+        long balance = userPointJdbcRepository.decreasePoint(userId, amount)
+            .orElseThrow(() -> userRepository.existsById(userId)
+                ? new ConflictException(PointErrorCode.INSUFFICIENT_POINT)
+                : new NotFoundException(UserErrorCode.USER_NOT_FOUND));
+
+        pointHistoryRepository.save(PointHistory.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .transactionType(PointHistory.TransactionType.USE)
+                .amount(amount)
+                .balanceAfter(balance)
+                .build());
+
+        log.debug("포인트 차감 성공: userId={}, amount={}, remainingPoint={}", userId, amount, balance);
+    }
+
+    @Override
+    @Transactional
+    public PointResponse charge(Long userId, Long amount) {
+        User.validateChargeAmount(amount);
+        long balance = userPointJdbcRepository.increasePoint(userId, amount)
+            .orElseThrow(() -> new NotFoundException(UserErrorCode.USER_NOT_FOUND));
+
+        pointHistoryRepository.save(PointHistory.builder()
+                .userId(userId)
+                .transactionType(PointHistory.TransactionType.CHARGE)
+                .amount(amount)
+                .balanceAfter(balance)
+                .build());
+
+        log.debug("포인트 충전 성공: userId={}, amount={}, currentPoint={}", userId, amount, balance);
+        return new PointResponse(userId, balance);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refund(Long userId, Long amount) {
+        User.validateChargeAmount(amount);
+        long balance = userPointJdbcRepository.increasePoint(userId, amount)
+            .orElseThrow(() -> new NotFoundException(UserErrorCode.USER_NOT_FOUND));
+
+        pointHistoryRepository.save(PointHistory.builder()
+                .userId(userId)
+                .transactionType(PointHistory.TransactionType.REFUND)
+                .amount(amount)
+                .balanceAfter(balance)
+                .build());
+
+        log.debug("포인트 복구 성공: userId={}, amount={}, currentPoint={}", userId, amount, balance);
+    }
+
+    @Override
+    public long getBalance(User user) {
+        return user.getPoint();
+    }
+}
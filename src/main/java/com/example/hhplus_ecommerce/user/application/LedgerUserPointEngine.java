@@ -0,0 +1,147 @@
+package com.example.hhplus_ecommerce.user.application;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedLock;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingToken;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingTokenIssuer;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.PointErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.UserErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.PointLedgerJdbcRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.OptionalLong;
+
+/**
+ * 원장 기반 포인트 엔진
+ * <p>
+ * point_history를 잔액의 원본(원장)으로 사용합니다. user.point는 갱신하지 않으며,
+ * 잔액은 주기적으로 압축된 스냅샷 + 이후 이력의 합으로 계산합니다. ({@link PointLedgerJdbcRepository})
+ * <p>
+ * - 충전·복구: 잔액을 줄이지 않으므로 락 없이 이력 INSERT 한 번 (사용자 행 잠금 없음)
+ * - 사용: 잔액 검사가 필요하므로 사용자별 분산 락 안에서 잔액 계산 후 이력 추가
+ *   (첫 문장으로 사용자 행을 잠가 DB에서도 사용을 직렬화하며, 충전·복구는 이 행을 건드리지 않음)
+ * - 충전·복구 이력의 balanceAfter는 동시 추가 순서를 보장할 수 없어 기록하지 않음
+ * <p>
+ * 다른 엔진에서 전환할 때는 모든 증감이 이력에 남아 있어야 합니다. (REFUND 이력 추가 이후)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.point.engine", havingValue = "ledger")
+public class LedgerUserPointEngine implements UserPointEngine {
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final FencingTokenIssuer fencingTokenIssuer;
+
+    /**
+     * 사용자별 분산 락 안에서 새로운 트랜잭션으로 실행됩니다.
+     * <p>
+     * 락 점유 시간이 만료되면 이전 보유자의 사용이 아직 커밋되지 않았을 수 있으므로,
+     * 트랜잭션의 첫 문장으로 사용자 행을 잠급니다. (펜싱 토큰 갱신 또는 SELECT ... FOR UPDATE)
+     * REPEATABLE READ의 읽기 시점은 첫 일관된 읽기에서 정해지므로, 행 락을 얻은 뒤의 잔액 계산은
+     * 이전 보유자가 커밋한 사용 이력까지 반영합니다. 행 락보다 먼저 일반 SELECT를 실행하면 안 됩니다.
+     */
+    @Override
+    @DistributedLock(key = "'user:' + #userId + ':point'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void use(Long userId, Long orderId, Long amount) {
+        User.validateUseAmount(amount);
+        lockUserRow(userId);
+
+        long balance = pointLedgerJdbcRepository.getBalance(userId);
+        if (balance < amount) {
+            throw new ConflictException(PointErrorCode.INSUFFICIENT_POINT);
+        }
+
+        pointHistoryRepository.save(PointHistory.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .transactionType(PointHistory.TransactionType.USE)
+                .amount(amount)
+                .balanceAfter(balance - amount)
+                .build());
+
+        log.debug("포인트 차감 성공: userId={}, amount={}, remainingPoint={}", userId, amount, balance - amount);
+    }
+
+    @Override
+    @Transactional
+    public PointResponse charge(Long userId, Long amount) {
+        User.validateChargeAmount(amount);
+        verifyUserExists(userId);
+        append(userId, PointHistory.TransactionType.CHARGE, amount);
+
+        // 같은 트랜잭션에서 조회하므로 방금 추가한 이력이 반영됨
+        long balance = pointLedgerJdbcRepository.getBalance(userId);
+        log.debug("포인트 충전 성공: userId={}, amount={}, currentPoint={}", userId, amount, balance);
+        return new PointResponse(userId, balance);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refund(Long userId, Long amount) {
+        User.validateChargeAmount(amount);
+        verifyUserExists(userId);
+        append(userId, PointHistory.TransactionType.REFUND, amount);
+
+        log.debug("포인트 복구 성공: userId={}, amount={}", userId, amount);
+    }
+
+    @Override
+    public long getBalance(User user) {
+        return pointLedgerJdbcRepository.getBalance(user.getId());
+    }
+
+    private void append(Long userId, PointHistory.TransactionType transactionType, Long amount) {
+        pointHistoryRepository.save(PointHistory.builder()
+                .userId(userId)
+                .transactionType(transactionType)
+                .amount(amount)
+                .build());
+    }
+
+    /**
+     * 사용자 행을 잠급니다.
+     * <p>
+     * 펜싱 토큰이 있으면 토큰 갱신 UPDATE로 잠그고, 더 큰 토큰이 이미 저장되어 있으면 락이 만료된 뒤의 사용이므로 거부합니다.
+     * (거부 시 Redis 카운터를 저장된 토큰까지 끌어올림)
+     * 토큰이 없으면 잠금 조회(SELECT ... FOR UPDATE)로 잠급니다.
+     *
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     * @throws ConflictException 만료된 펜싱 토큰인 경우
+     */
+    private void lockUserRow(Long userId) {
+        OptionalLong token = FencingToken.current();
+        if (token.isEmpty()) {
+            userRepository.findByIdWithLockOrThrow(userId);
+            return;
+        }
+        if (userRepository.advanceFenceToken(userId, token.getAsLong()) == 0) {
+            long storedToken = userRepository.findFenceToken(userId)
+                .orElseThrow(() -> new NotFoundException(UserErrorCode.USER_NOT_FOUND));
+            fencingTokenIssuer.catchUp("user:" + userId + ":point", storedToken);
+            log.warn("만료된 락의 포인트 쓰기 거부: userId={}, fenceToken={}, storedToken={}", userId, token.getAsLong(), storedToken);
+            throw new ConflictException(CommonErrorCode.STALE_LOCK_TOKEN);
+        }
+    }
+
+    private void verifyUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(UserErrorCode.USER_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.hhplus_ecommerce.user.application;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.DistributedLock;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingToken;
+import com.example.hhplus_ecommerce.common.infrastructure.lock.FencingTokenIssuer;
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 분산 락 기반 포인트 엔진
+ * <p>
+ * 동시성 제어:
+ * - 분산 락(Redisson RLock)을 사용하여 사용자별 동시성 제어
+ * - 다중 서버 환경에서 같은 사용자의 포인트 증감 순차 처리
+ * - 펜싱 토큰으로 락 점유 시간이 만료된 뒤 늦게 도착한 쓰기 거부
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.point.engine", havingValue = "lock", matchIfMissing = true)
+public class LockUserPointEngine implements UserPointEngine {
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final FencingTokenIssuer fencingTokenIssuer;
+
+    /**
+     * 새로운 트랜잭션에서 실행되어 독립적으로 커밋/롤백됩니다.
+     */
+    @Override
+    @DistributedLock(key = "'user:' + #userId + ':point'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void use(Long userId, Long orderId, Long amount) {
+        advanceFenceToken(userId);
+        User user = userRepository.findByIdOrThrow(userId);
+        user.usePoint(amount);
+        User savedUser = userRepository.save(user);
+
+        PointHistory pointHistory = PointHistory.builder()
+                .userId(userId)
+                .orderId(orderId)
+                .transactionType(PointHistory.TransactionType.USE)
+                .amount(amount)
+                .balanceAfter(savedUser.getPoint())
+                .build();
+        pointHistoryRepository.save(pointHistory);
+
+        log.info("포인트 차감 성공: userId={}, amount={}, remainingPoint={}",
+            userId, amount, user.getPoint());
+    }
+
+    /**
+     * 일반 트랜잭션으로 실행됩니다. (보상 트랜잭션 불필요)
+     */
+    @Override
+    @DistributedLock(key = "'user:' + #userId + ':point'", fencing = true)
+    @Transactional
+    public PointResponse charge(Long userId, Long amount) {
+        advanceFenceToken(userId);
+        User user = userRepository.findByIdOrThrow(userId);
+        user.chargePoint(amount);
+        User savedUser = userRepository.save(user);
+
+        PointHistory pointHistory = PointHistory.builder()
+                .userId(userId)
+                .transactionType(PointHistory.TransactionType.CHARGE)
+                .amount(amount)
+                .balanceAfter(savedUser.getPoint())
+                .build();
+        pointHistoryRepository.save(pointHistory);
+
+        log.info("포인트 충전 성공: userId={}, amount={}, currentPoint={}",
+            userId, amount, savedUser.getPoint());
+
+        return PointResponse.from(savedUser);
+    }
+
+    /**
+     * 새로운 트랜잭션에서 실행되어 독립적으로 커밋/롤백됩니다.
+     */
+    @Override
+    @DistributedLock(key = "'user:' + #userId + ':point'", fencing = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refund(Long userId, Long amount) {
+        advanceFenceToken(userId);
+        User user = userRepository.findByIdOrThrow(userId);
+        user.chargePoint(amount);
+        User savedUser = userRepository.save(user);
+
+        PointHistory pointHistory = PointHistory.builder()
+                .userId(userId)
+                .transactionType(PointHistory.TransactionType.REFUND)
+                .amount(amount)
+                .balanceAfter(savedUser.getPoint())
+                .build();
+        pointHistoryRepository.save(pointHistory);
+
+        log.info("포인트 복구 성공: userId={}, amount={}, currentPoint={}",
+            userId, amount, user.getPoint());
+    }
+
+    /**
+     * 펜싱 토큰을 갱신합니다.
+     * <p>
+     * 락 점유 시간이 만료된 뒤 늦게 도착한 쓰기라면, 더 큰 토큰이 이미 저장되어 있으므로 거부합니다.
+     * 거부할 때는 Redis 카운터가 저장된 토큰보다 뒤처졌을 수 있으므로 저장된 토큰까지 끌어올립니다.
+     * 사용자가 없는 경우는 이어지는 조회에서 NotFoundException으로 처리합니다.
+     */
+    private void advanceFenceToken(Long userId) {
+        FencingToken.current().ifPresent(token -> {
+            if (userRepository.advanceFenceToken(userId, token) == 0) {
+                userRepository.findFenceToken(userId).ifPresent(storedToken -> {
+                    fencingTokenIssuer.catchUp("user:" + userId + ":point", storedToken);
+                    log.warn("만료된 락의 포인트 쓰기 거부: userId={}, fenceToken={}, storedToken={}", userId, token, storedToken);
+                    throw new ConflictException(CommonErrorCode.STALE_LOCK_TOKEN);
+                });
+            }
+        });
+    }
+
+    @Override
+    public long getBalance(User user) {
+        return user.getPoint();
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.hhplus_ecommerce.user.application;
+
+import com.example.hhplus_ecommerce.user.infrastructure.dto.CachedPointBalance;
+import com.example.hhplus_ecommerce.user.infrastructure.redis.PointBalanceRedisRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 포인트 잔액 2단계 캐시
+ * <p>
+ * 잔액 조회를 로컬 캐시(Caffeine) → Redis → DB 순서로 읽고, 읽은 값을 상위 캐시에 채웁니다.
+ * - 로컬: 노드별 짧은 TTL 캐시, 적재 시점의 무효화 세대와 함께 보관, 같은 사용자의 동시 미스는 한 번만 적재
+ * - Redis: 노드 간 공유 캐시, 무효화 세대가 바뀌지 않았을 때만 저장
+ * <p>
+ * 잔액이 바뀌면 커밋 직후(변경 요청이 응답하기 전) Redis 캐시를 지우고 세대를 올립니다.
+ * 조회마다 Redis의 현재 세대를 읽어 로컬 값의 세대와 다르면 버리고 다시 적재하므로,
+ * 어느 노드에서 조회하든 응답 전에 커밋된 충전·사용이 반영됩니다. (read-your-writes)
+ * 로컬 적중도 세대 조회 한 번이 필요하지만, 잔액 조회와 DB 조회는 생략됩니다.
+ * <p>
+ * 세대를 읽지 못하면(Redis 장애) 캐시를 거치지 않고 DB에서 읽습니다.
+ * 무효화 이벤트(Pub/Sub)는 다른 노드의 로컬 캐시를 미리 비워 메모리를 돌려주는 용도이며, 정합성은 세대 비교로 보장합니다.
+ * 다만 변경 직후의 세대 증가(Redis 무효화) 자체가 실패하면 그 변경은 Redis TTL(redis-ttl-ms)까지 캐시에 가려질 수 있으며,
+ * 이 경우 오류 로그를 남깁니다.
+ * <p>
+ * 지표:
+ * - point.balance.cache.requests: 조회 수 (result=local|redis|miss)
+ * - point.balance.cache.hit.ratio: 누적 적중률 (로컬 + Redis)
+ * - point.balance.cache.age: 캐시 응답 값의 적재 후 경과 시간 (level=local|redis)
+ * - point.balance.cache.invalidation.lag: 무효화 발행부터 로컬 반영까지 걸린 시간
+ * <p>
+ * user.point.cache.enabled=true 일 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "user.point.cache.enabled", havingValue = "true")
+public class PointBalanceCache {
+
+    private static final int GENERATION_TTL_MULTIPLIER = 10;
+
+    private final PointBalanceRedisRepository pointBalanceRedisRepository;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Long, LocalBalance> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Timer invalidationLag;
+    private final Timer localAge;
+    private final Timer redisAge;
+
+    public PointBalanceCache(
+        PointBalanceRedisRepository pointBalanceRedisRepository,
+        MeterRegistry meterRegistry,
+        @Value("${user.point.cache.local-ttl-ms:3000}") long localTtlMs,
+        @Value("${user.point.cache.local-max-size:100000}") long localMaxSize,
+        @Value("${user.point.cache.redis-ttl-ms:60000}") long redisTtlMs
+    ) {
+        this.pointBalanceRedisRepository = pointBalanceRedisRepository;
+        this.meterRegistry = meterRegistry;
+        this.localCache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(localTtlMs))
+            .maximumSize(localMaxSize)
+            .build();
+        this.redisTtl = Duration.ofMillis(redisTtlMs);
+
+        this.localHits = requestCounter("local");
+        this.redisHits = requestCounter("redis");
+        this.misses = requestCounter("miss");
+        this.localAge = ageTimer("local");
+        this.redisAge = ageTimer("redis");
+        this.invalidationLag = Timer.builder("point.balance.cache.invalidation.lag")
+            .description("무효화 발행부터 로컬 캐시 반영까지 걸린 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("point.balance.cache.hit.ratio", this, PointBalanceCache::hitRatio)
+            .description("잔액 캐시 누적 적중률")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 잔액을 반환하고, 없거나 세대가 바뀌었으면 loader로 읽어 캐시에 채웁니다.
+     * <p>
+     * loader가 던진 예외(사용자 없음 등)는 캐시하지 않고 그대로 전파합니다.
+     *
+     * @param userId 사용자 ID
+     * @param loader DB에서 잔액을 읽는 함수
+     * @return 잔액
+     */
+    public long get(Long userId, LongSupplier loader) {
+        long nowMillis = System.currentTimeMillis();
+        String generation;
+        try {
+            generation = pointBalanceRedisRepository.getGeneration(userId);
+        } catch (Exception e) {
+            log.warn("잔액 캐시 세대 조회 실패, DB에서 조회: userId={}", userId, e);
+            misses.increment();
+            return loader.getAsLong();
+        }
+
+        LocalBalance cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            if (cached.generation().equals(generation)) {
+                localHits.increment();
+                localAge.record(cached.balance().ageMillis(nowMillis), TimeUnit.MILLISECONDS);
+                return cached.balance().balance();
+            }
+            // 다른 노드의 변경으로 세대가 바뀐 경우 (무효화 이벤트보다 먼저 조회됨)
+            localCache.asMap().remove(userId, cached);
+        }
+
+        boolean[] loaded = new boolean[1];
+        LocalBalance balance = localCache.get(userId, id -> {
+            loaded[0] = true;
+            return new LocalBalance(loadFromRemote(id, generation, loader), generation);
+        });
+        if (loaded[0]) {
+            return balance.balance().balance();
+        }
+        if (!balance.generation().equals(generation)) {
+            // 같은 노드의 다른 요청이 다른 세대로 적재한 값이면 캐시하지 않고 직접 읽음
+            return loadFromRemote(userId, generation, loader).balance();
+        }
+        // 같은 노드의 다른 요청이 같은 세대로 적재한 값을 받은 경우
+        localHits.increment();
+        localAge.record(balance.balance().ageMillis(nowMillis), TimeUnit.MILLISECONDS);
+        return balance.balance().balance();
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 후 잔액 캐시를 무효화합니다.
+     * <p>
+     * 활성 트랜잭션이 없으면 즉시 무효화합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 잔액 캐시를 무효화하고 다른 노드에 알립니다.
+     * <p>
+     * 캐시 장애가 잔액 변경 자체를 실패시키지 않도록, Redis 오류는 로그만 남기고 로컬 TTL에 맡깁니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        try {
+            // Redis를 먼저 지워야, 로컬을 비운 직후의 조회가 Redis의 이전 잔액을 다시 가져오지 않음
+            pointBalanceRedisRepository.invalidate(userId, redisTtl.multipliedBy(GENERATION_TTL_MULTIPLIER));
+        } catch (Exception e) {
+            log.error("잔액 캐시 무효화 실패: userId={}", userId, e);
+        }
+        localCache.invalidate(userId);
+        try {
+            pointBalanceRedisRepository.publishInvalidation(userId);
+        } catch (Exception e) {
+            log.error("잔액 캐시 무효화 이벤트 발행 실패: userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 이벤트를 로컬 캐시에 반영합니다.
+     * <p>
+     * 자신이 발행한 이벤트도 수신되며, 로컬 캐시를 한 번 더 비우는 것은 무해합니다.
+     *
+     * @param message 이벤트 메시지 ({userId}:{발행시각(ms)})
+     */
+    public void onInvalidation(String message) {
+        int separator = message.indexOf(':');
+        try {
+            Long userId = Long.valueOf(separator < 0 ? message : message.substring(0, separator));
+            localCache.invalidate(userId);
+            if (separator >= 0) {
+                long publishedAt = Long.parseLong(message.substring(separator + 1));
+                invalidationLag.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 잔액 캐시 무효화 이벤트: message={}", message);
+        }
+    }
+
+    /**
+     * 이 노드의 로컬 캐시를 모두 비웁니다.
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 누적 적중률을 반환합니다.
+     */
+    public double hitRatio() {
+        double hits = localHits.count() + redisHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0.0 : hits / total;
+    }
+
+    /**
+     * Redis 캐시 또는 DB에서 잔액을 읽습니다.
+     * <p>
+     * generation은 DB를 읽기 전에 확인한 세대여야, 읽는 도중 커밋된 변경이 이전 잔액으로 덮이지 않습니다.
+     * Redis 잔액은 세대가 오르면 함께 삭제되므로, 남아 있는 값은 확인한 세대 이후의 값입니다.
+     */
+    private CachedPointBalance loadFromRemote(Long userId, String generation, LongSupplier loader) {
+        try {
+            CachedPointBalance cached = pointBalanceRedisRepository.getBalance(userId);
+            if (cached != null) {
+                redisHits.increment();
+                redisAge.record(cached.ageMillis(System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                return cached;
+            }
+        } catch (Exception e) {
+            log.warn("잔액 캐시 조회 실패, DB에서 조회: userId={}", userId, e);
+        }
+
+        misses.increment();
+        CachedPointBalance balance = new CachedPointBalance(loader.getAsLong(), System.currentTimeMillis());
+        try {
+            if (!pointBalanceRedisRepository.putBalanceIfGeneration(userId, generation, balance, redisTtl)) {
+                log.debug("잔액 변경으로 캐시 저장 생략: userId={}", userId);
+            }
+        } catch (Exception e) {
+            log.warn("잔액 캐시 저장 실패: userId={}", userId, e);
+        }
+        return balance;
+    }
+
+    /**
+     * 로컬 캐시 값과 적재 시점의 무효화 세대
+     */
+    private record LocalBalance(CachedPointBalance balance, String generation) {
+    }
+
+    private Counter requestCounter(String result) {
+        return Counter.builder("point.balance.cache.requests")
+            .description("잔액 캐시 조회 수")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private Timer ageTimer(String level) {
+        return Timer.builder("point.balance.cache.age")
+            .description("캐시 응답 값의 적재 후 경과 시간")
+            .tag("level", level)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
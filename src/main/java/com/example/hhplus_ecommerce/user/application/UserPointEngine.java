@@ -0,0 +1,56 @@
+package com.example.hhplus_ecommerce.user.application;
+
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
+
+/**
+ * 사용자 포인트 증감 엔진
+ * <p>
+ * 구현체는 user.point.engine 설정으로 선택합니다.
+ * - lock: 사용자별 분산 락 + 엔티티 조회/갱신 (기본값, {@link LockUserPointEngine})
+ * - atomic: 락 없이 조건부 UPDATE 한 문장으로 증감 ({@link AtomicUserPointEngine})
+ * - ledger: 이력을 원장으로 추가만 하고 잔액은 스냅샷 + 이후 이력으로 계산 ({@link LedgerUserPointEngine})
+ */
+public interface UserPointEngine {
+
+    /**
+     * 포인트를 차감하고 사용 이력을 남깁니다.
+     *
+     * @param userId  사용자 ID
+     * @param orderId 주문 ID
+     * @param amount  차감할 포인트
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     * @throws ConflictException 포인트가 부족한 경우
+     */
+    void use(Long userId, Long orderId, Long amount);
+
+    /**
+     * 포인트를 충전하고 충전 이력을 남깁니다.
+     *
+     * @param userId 사용자 ID
+     * @param amount 충전할 포인트
+     * @return 충전 후 포인트 정보
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     */
+    PointResponse charge(Long userId, Long amount);
+
+    /**
+     * 차감된 포인트를 복구합니다.
+     *
+     * @param userId 사용자 ID
+     * @param amount 복구할 포인트
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     */
+    void refund(Long userId, Long amount);
+
+    /**
+     * 사용자의 현재 잔액을 반환합니다.
+     * <p>
+     * 같은 사용자가 직전에 커밋한 증감이 항상 반영됩니다.
+     * 잔액 캐시({@link PointBalanceCache})는 무효화 세대를 비교하여 이 보장을 유지합니다.
+     *
+     * @param user 사용자
+     * @return 현재 잔액
+     */
+    long getBalance(User user);
+}
@@ -4,25 +4,50 @@ import com.example.hhplus_ecommerce.user.domain.PointHistory;
 import com.example.hhplus_ecommerce.user.domain.User;
 import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
 import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryCursor;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryRow;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointHistoryPageResponse;
 import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointHistoryResponse;
 import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int EXPORT_PAGE_SIZE = 1000;
+
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final UserPointEngine userPointEngine;
+    private final ObjectProvider<PointBalanceCache> pointBalanceCache;
 
+    /**
+     * 사용자의 현재 포인트를 조회합니다.
+     * <p>
+     * 잔액은 설정된 포인트 엔진에서 계산하며, 직전에 커밋된 충전·사용이 항상 반영됩니다. (read-your-writes)
+     * <p>
+     * user.point.cache.enabled=true이면 {@link PointBalanceCache}를 먼저 확인합니다.
+     * 캐시 값은 Redis 무효화 세대와 비교해 변경 이후의 값만 사용하므로, 어느 노드에서 조회해도 같은 보장을 유지합니다.
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PointResponse getPoint(Long userId) {
-        User user = userRepository.findByIdOrThrow(userId);
-        return PointResponse.from(user);
+        PointBalanceCache cache = pointBalanceCache.getIfAvailable();
+        if (cache == null) {
+            return new PointResponse(userId, loadBalance(userId));
+        }
+        return new PointResponse(userId, cache.get(userId, () -> loadBalance(userId)));
     }
 
     public List<PointHistoryResponse> getPointHistory(Long userId) {
@@ -30,4 +55,78 @@ public class UserService {
         List<PointHistory> pointHistories = pointHistoryRepository.findByUserId(userId);
         return PointHistoryResponse.fromList(pointHistories);
     }
+
+    /**
+     * 포인트 이력을 최신순으로 한 페이지 조회합니다.
+     * <p>
+     * (createdAt, id) 키셋 커서로 이어서 조회하므로 이력 길이와 관계없이 페이지당 비용이 일정합니다.
+     *
+     * @param userId 사용자 ID
+     * @param cursor 직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (1 ~ 100)
+     * @return 포인트 이력 페이지
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     * @throws BadRequestException 커서 형식이 올바르지 않은 경우
+     */
+    public PointHistoryPageResponse getPointHistoryPage(Long userId, String cursor, int size) {
+        userRepository.findByIdOrThrow(userId);
+        int pageSize = Math.clamp(size, 1, MAX_HISTORY_PAGE_SIZE);
+        PointHistoryCursor after = cursor == null || cursor.isBlank() ? null : PointHistoryCursor.decode(cursor);
+
+        List<PointHistoryRow> rows = fetchHistoryPage(userId, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<PointHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? PointHistoryCursor.from(page.getLast()).encode() : null;
+        return new PointHistoryPageResponse(
+            page.stream().map(PointHistoryResponse::from).toList(),
+            nextCursor,
+            hasNext
+        );
+    }
+
+    /**
+     * 사용자의 전체 포인트 이력을 최신순으로 페이지 단위로 전달합니다.
+     * <p>
+     * 긴 스트리밍 동안 트랜잭션과 커넥션을 잡고 있지 않도록, 페이지마다 짧은 조회를 반복합니다.
+     *
+     * @param userId       사용자 ID
+     * @param pageConsumer 페이지를 받아 처리할 함수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void forEachPointHistoryPage(Long userId, Consumer<List<PointHistoryResponse>> pageConsumer) {
+        PointHistoryCursor after = null;
+        while (true) {
+            List<PointHistoryRow> rows = fetchHistoryPage(userId, after, EXPORT_PAGE_SIZE);
+            if (rows.isEmpty()) {
+                return;
+            }
+            pageConsumer.accept(rows.stream().map(PointHistoryResponse::from).toList());
+            if (rows.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            after = PointHistoryCursor.from(rows.getLast());
+        }
+    }
+
+    /**
+     * 사용자가 존재하는지 확인합니다.
+     *
+     * @throws NotFoundException 사용자를 찾을 수 없는 경우
+     */
+    public void verifyUserExists(Long userId) {
+        userRepository.findByIdOrThrow(userId);
+    }
+
+    private long loadBalance(Long userId) {
+        User user = userRepository.findByIdOrThrow(userId);
+        return userPointEngine.getBalance(user);
+    }
+
+    private List<PointHistoryRow> fetchHistoryPage(Long userId, PointHistoryCursor after, int limit) {
+        if (after == null) {
+            return pointHistoryRepository.findPageByUserId(userId, Limit.of(limit));
+        }
+        return pointHistoryRepository.findPageByUserIdBefore(userId, after.createdAt(), after.id(), Limit.of(limit));
+    }
 }
\ No newline at end of file
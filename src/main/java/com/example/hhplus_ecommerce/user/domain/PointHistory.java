@@ -24,6 +24,7 @@ public class PointHistory extends BaseEntity {
 
     public enum TransactionType {
         CHARGE,
-        USE
+        USE,
+        REFUND
     }
 }
\ No newline at end of file
@@ -17,13 +17,13 @@ import org.hibernate.annotations.ColumnDefault;
 public class User extends BaseEntity {
     @ColumnDefault("0L") @Builder.Default
     private Long point = 0L;
+    @ColumnDefault("0") @Builder.Default
+    private Long fenceToken = 0L;
 
     private static int CHARGE_AMOUNT_POLICY = 1000;
 
     public void usePoint(Long point) {
-        if(point <= 0) {
-            throw new BadRequestException(PointErrorCode.INVALID_POINT_AMOUNT);
-        }
+        validateUseAmount(point);
         if(this.point < point) {
             throw new ConflictException(PointErrorCode.INSUFFICIENT_POINT);
         }
@@ -31,12 +31,22 @@ public class User extends BaseEntity {
     }
 
     public void chargePoint(Long point) {
+        validateChargeAmount(point);
+        this.point += point;
+    }
+
+    public static void validateUseAmount(Long point) {
+        if(point <= 0) {
+            throw new BadRequestException(PointErrorCode.INVALID_POINT_AMOUNT);
+        }
+    }
+
+    public static void validateChargeAmount(Long point) {
         if(point <= 0) {
             throw new BadRequestException(PointErrorCode.INVALID_CHARGE_AMOUNT);
         }
         if(point % CHARGE_AMOUNT_POLICY != 0) {
             throw new BadRequestException(PointErrorCode.INVALID_CHARGE_AMOUNT, "충전은 "+CHARGE_AMOUNT_POLICY+"원 단위로 가능합니다.");
         }
-        this.point += point;
     }
 }
@@ -1,8 +1,13 @@
 package com.example.hhplus_ecommerce.user.infrastructure;
 
 import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,4 +15,36 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
     Optional<PointHistory> findById(Long pointHistoryId);
     PointHistory save(PointHistory pointHistory);
     List<PointHistory> findByUserId(Long productId);
+
+    /**
+     * 사용자의 최신 이력부터 한 페이지를 조회합니다.
+     * <p>
+     * (user_id, created_at, id) 인덱스를 역순으로 읽어 정렬 없이 limit 건만 조회합니다.
+     */
+    @Query("""
+        SELECT new com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryRow(
+            h.id, h.userId, h.orderId, h.transactionType, h.amount, h.balanceAfter, h.createdAt)
+        FROM PointHistory h
+        WHERE h.userId = :userId
+        ORDER BY h.createdAt DESC, h.id DESC
+        """)
+    List<PointHistoryRow> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * 커서 (createdAt, id)보다 이전 이력부터 한 페이지를 조회합니다.
+     */
+    @Query("""
+        SELECT new com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryRow(
+            h.id, h.userId, h.orderId, h.transactionType, h.amount, h.balanceAfter, h.createdAt)
+        FROM PointHistory h
+        WHERE h.userId = :userId
+          AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.id < :id))
+        ORDER BY h.createdAt DESC, h.id DESC
+        """)
+    List<PointHistoryRow> findPageByUserIdBefore(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Limit limit
+    );
 }
@@ -0,0 +1,139 @@
+package com.example.hhplus_ecommerce.user.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원장 JDBC 저장소
+ * <p>
+ * point_history를 원장으로, point_balance_snapshot을 사용자별 잔액 스냅샷으로 사용합니다.
+ * - 잔액 = 스냅샷 잔액 + 스냅샷 이후(id > last_history_id) 이력의 합
+ * - 충전(CHARGE)·복구(REFUND)는 더하고, 사용(USE)은 뺌
+ * - 압축 워터마크(point_ledger_compaction): 마지막으로 압축한 이력 ID (전체 사용자 공통)
+ * 잔액 조회는 한 문장으로 실행되므로 압축과 동시에 실행되어도 일관된 값을 읽습니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    private static final String SIGNED_AMOUNT =
+        "CASE WHEN h.transaction_type = 'USE' THEN -h.amount ELSE h.amount END";
+
+    private static final String BALANCE_SQL = """
+        SELECT COALESCE((SELECT s.balance FROM point_balance_snapshot s WHERE s.user_id = ?), 0)
+             + COALESCE((SELECT SUM(%s)
+                           FROM point_history h
+                          WHERE h.user_id = ?
+                            AND h.id > COALESCE((SELECT s.last_history_id FROM point_balance_snapshot s WHERE s.user_id = ?), 0)), 0)
+        """.formatted(SIGNED_AMOUNT);
+
+    private static final String HORIZON_SQL =
+        "SELECT id FROM point_history WHERE created_at < ? ORDER BY id DESC LIMIT 1";
+
+    private static final String WATERMARK_SQL =
+        "SELECT last_history_id FROM point_ledger_compaction WHERE id = 1 FOR UPDATE";
+
+    // 워터마크 행이 없으면 (워터마크 도입 전 압축분) 스냅샷의 최대 이력 ID에서 이어서 압축
+    private static final String LEGACY_WATERMARK_SQL =
+        "SELECT COALESCE(MAX(last_history_id), 0) FROM point_balance_snapshot";
+
+    // 범위 안의 커밋되지 않은 INSERT는 행 락(암묵적 락)을 갖고 있으므로, 잠금 읽기는 커밋/롤백될 때까지 기다림
+    private static final String LOCK_RANGE_SQL =
+        "SELECT COUNT(*) FROM point_history WHERE id > ? AND id <= ? FOR SHARE";
+
+    // INSERT ... SELECT는 행 별칭을 쓸 수 없으므로 파생 테이블 열을 참조 (VALUES() 대신)
+    private static final String COMPACT_SQL = """
+        INSERT INTO point_balance_snapshot (user_id, balance, last_history_id, updated_at)
+        SELECT * FROM (
+            SELECT h.user_id, SUM(%s) AS balance, MAX(h.id) AS last_history_id, NOW(6) AS updated_at
+              FROM point_history h
+             WHERE h.id > ?
+               AND h.id <= ?
+             GROUP BY h.user_id
+        ) AS delta
+        ON DUPLICATE KEY UPDATE
+            balance = point_balance_snapshot.balance + delta.balance,
+            last_history_id = delta.last_history_id,
+            updated_at = delta.updated_at
+        """.formatted(SIGNED_AMOUNT);
+
+    private static final String ADVANCE_WATERMARK_SQL = """
+        INSERT INTO point_ledger_compaction (id, last_history_id, updated_at)
+        VALUES (1, ?, NOW(6)) AS new
+        ON DUPLICATE KEY UPDATE
+            last_history_id = new.last_history_id,
+            updated_at = new.updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자의 현재 잔액을 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 스냅샷 잔액 + 이후 이력의 합
+     */
+    public long getBalance(Long userId) {
+        Long balance = jdbcTemplate.queryForObject(BALANCE_SQL, Long.class, userId, userId, userId);
+        return balance != null ? balance : 0L;
+    }
+
+    /**
+     * 압축해도 안전한 마지막 이력 ID를 찾습니다.
+     * <p>
+     * IDENTITY 값은 커밋 순서와 다를 수 있으므로, 기준 시각 이전에 생성된 이력까지만 압축합니다.
+     *
+     * @param before 기준 시각
+     * @return 기준 시각 이전에 생성된 마지막 이력 ID
+     */
+    public Optional<Long> findCompactionHorizon(LocalDateTime before) {
+        List<Long> ids = jdbcTemplate.queryForList(HORIZON_SQL, Long.class, Timestamp.valueOf(before));
+        return ids.stream().findFirst();
+    }
+
+    /**
+     * 이전 워터마크 이후부터 주어진 이력 ID까지의 이력을 사용자별 잔액 스냅샷에 합칩니다.
+     * <p>
+     * 이력은 기본 키 범위(이전 워터마크, maxHistoryId]로만 읽으므로 사용자 수와 관계없이 새 이력만 스캔합니다.
+     * 스냅샷 합산과 워터마크 갱신은 한 트랜잭션에서 실행되어, 같은 이력이 두 번 합쳐지지 않습니다.
+     * <p>
+     * IDENTITY 순서는 커밋 순서가 아니므로, 범위 안에 아직 커밋되지 않은 이력이 있을 수 있습니다.
+     * 워터마크를 넘긴 뒤 커밋되면 스냅샷과 이후 이력 어디에도 포함되지 않으므로,
+     * 합산 전에 범위를 잠금 읽기(FOR SHARE)하여 범위 안의 이력 트랜잭션이 모두 끝날 때까지 기다립니다.
+     * 오래 열린 트랜잭션 때문에 락 대기 시간이 초과되면 예외로 이번 압축을 건너뛰고 다음 주기에 다시 시도합니다.
+     *
+     * @param maxHistoryId 압축할 마지막 이력 ID
+     * @return 갱신된 스냅샷 행 수 (MySQL 기준: 새 행 1, 갱신된 행 2, 이미 압축된 범위면 0)
+     */
+    @Transactional
+    public int compact(long maxHistoryId) {
+        long previousHorizon = findWatermark();
+        if (previousHorizon >= maxHistoryId) {
+            return 0;
+        }
+        jdbcTemplate.queryForObject(LOCK_RANGE_SQL, Long.class, previousHorizon, maxHistoryId);
+        int affected = jdbcTemplate.update(COMPACT_SQL, previousHorizon, maxHistoryId);
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, maxHistoryId);
+        log.debug("포인트 원장 압축: previousHorizon={}, maxHistoryId={}, affected={}",
+            previousHorizon, maxHistoryId, affected);
+        return affected;
+    }
+
+    private long findWatermark() {
+        List<Long> watermarks = jdbcTemplate.queryForList(WATERMARK_SQL, Long.class);
+        if (!watermarks.isEmpty()) {
+            return watermarks.get(0);
+        }
+        Long legacy = jdbcTemplate.queryForObject(LEGACY_WATERMARK_SQL, Long.class);
+        return legacy != null ? legacy : 0L;
+    }
+}
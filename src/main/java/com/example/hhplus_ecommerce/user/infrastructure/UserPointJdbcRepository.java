@@ -0,0 +1,61 @@
+package com.example.hhplus_ecommerce.user.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.OptionalLong;
+
+/**
+ * 사용자 포인트 JDBC 저장소
+ * <p>
+ * 엔티티 조회 없이 조건부 UPDATE 한 문장으로 포인트를 증감합니다.
+ * 갱신 후 잔액은 {@code LAST_INSERT_ID(expr)}로 UPDATE 문 안에서 기록해 두고
+ * 같은 커넥션에서 {@code SELECT LAST_INSERT_ID()}로 읽으므로, 행을 다시 조회하지 않습니다.
+ * 호출자의 트랜잭션(같은 커넥션) 안에서 실행해야 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPointJdbcRepository {
+
+    private static final String DECREASE_SQL =
+        "UPDATE `user` SET point = LAST_INSERT_ID(point - ?) WHERE id = ? AND point >= ?";
+    private static final String INCREASE_SQL =
+        "UPDATE `user` SET point = LAST_INSERT_ID(point + ?) WHERE id = ?";
+    private static final String LAST_INSERT_ID_SQL = "SELECT LAST_INSERT_ID()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 포인트가 충분할 때만 차감합니다.
+     *
+     * @param userId 사용자 ID
+     * @param amount 차감할 포인트
+     * @return 차감 후 잔액 (사용자가 없거나 포인트가 부족하면 비어 있음)
+     */
+    public OptionalLong decreasePoint(Long userId, long amount) {
+        if (jdbcTemplate.update(DECREASE_SQL, amount, userId, amount) == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(readBalance());
+    }
+
+    /**
+     * 포인트를 증가시킵니다.
+     *
+     * @param userId 사용자 ID
+     * @param amount 증가할 포인트
+     * @return 증가 후 잔액 (사용자가 없으면 비어 있음)
+     */
+    public OptionalLong increasePoint(Long userId, long amount) {
+        if (jdbcTemplate.update(INCREASE_SQL, amount, userId) == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(readBalance());
+    }
+
+    private long readBalance() {
+        Long balance = jdbcTemplate.queryForObject(LAST_INSERT_ID_SQL, Long.class);
+        return balance != null ? balance : 0L;
+    }
+}
@@ -6,8 +6,10 @@ import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundExcept
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -29,4 +31,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     }
 
     User save(User user);
+
+    /**
+     * 저장된 펜싱 토큰보다 큰 토큰일 때만 토큰을 갱신합니다.
+     * <p>
+     * 쓰기 트랜잭션의 첫 문장으로 실행하면 행 락을 잡아, 더 큰 토큰의 쓰기가 먼저 커밋된 경우 거부됩니다.
+     *
+     * @return 갱신된 행 수 (0이면 사용자가 없거나 만료된 토큰)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE `user` SET fence_token = :token WHERE id = :id AND fence_token < :token", nativeQuery = true)
+    int advanceFenceToken(@Param("id") Long id, @Param("token") long token);
+
+    /**
+     * 저장된 펜싱 토큰을 조회합니다.
+     *
+     * @return 펜싱 토큰 (행이 없으면 비어 있음)
+     */
+    @Query(value = "SELECT fence_token FROM `user` WHERE id = :id", nativeQuery = true)
+    Optional<Long> findFenceToken(@Param("id") Long id);
 }
@@ -0,0 +1,45 @@
+package com.example.hhplus_ecommerce.user.infrastructure.dto;
+
+/**
+ * 캐시에 저장된 포인트 잔액
+ * <p>
+ * 잔액과 함께 DB에서 읽은 시각을 보관하여, 캐시 응답이 얼마나 오래된 값인지 측정할 수 있게 합니다.
+ * <p>
+ * 형식: {@code <balance>:<loadedAtMillis>}
+ */
+public record CachedPointBalance(long balance, long loadedAtMillis) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 캐시 값을 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        return Long.toString(balance) + SEPARATOR + loadedAtMillis;
+    }
+
+    /**
+     * 문자열 캐시 값을 디코딩합니다.
+     *
+     * @param value 인코딩된 캐시 값
+     * @return 캐시된 잔액
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static CachedPointBalance decode(String value) {
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 잔액 캐시 값: " + value);
+        }
+        return new CachedPointBalance(
+            Long.parseLong(value.substring(0, separator)),
+            Long.parseLong(value.substring(separator + 1))
+        );
+    }
+
+    /**
+     * 적재 후 경과 시간(ms)을 반환합니다.
+     */
+    public long ageMillis(long nowMillis) {
+        return Math.max(0, nowMillis - loadedAtMillis);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.hhplus_ecommerce.user.infrastructure.dto;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 포인트 이력 키셋 페이지 커서
+ * <p>
+ * 직전 페이지 마지막 행의 (createdAt, id)를 가리키며, 다음 페이지는 이 값보다 작은 행부터 조회합니다.
+ * OFFSET 없이 인덱스 위치로 바로 이동하므로 이력이 길어져도 페이지 조회 비용이 일정합니다.
+ * <p>
+ * 형식: {@code <createdAt ISO-8601>|<id>}를 URL-safe Base64로 인코딩한 문자열
+ */
+public record PointHistoryCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PointHistoryCursor from(PointHistoryRow row) {
+        return new PointHistoryCursor(row.createdAt(), row.id());
+    }
+
+    /**
+     * 커서를 문자열로 인코딩합니다.
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 커서를 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 커서
+     * @throws BadRequestException 형식이 올바르지 않은 경우
+     */
+    public static PointHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new PointHistoryCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BadRequestException(CommonErrorCode.INVALID_ARGUMENT, "잘못된 커서입니다.");
+        }
+    }
+}
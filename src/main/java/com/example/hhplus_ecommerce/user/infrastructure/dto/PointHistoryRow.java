@@ -0,0 +1,21 @@
+package com.example.hhplus_ecommerce.user.infrastructure.dto;
+
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 조회 프로젝션
+ * <p>
+ * 엔티티를 만들지 않고 필요한 컬럼만 바로 DTO로 읽어, 영속성 컨텍스트 관리 비용을 없앱니다.
+ */
+public record PointHistoryRow(
+    Long id,
+    Long userId,
+    Long orderId,
+    PointHistory.TransactionType transactionType,
+    Long amount,
+    Long balanceAfter,
+    LocalDateTime createdAt
+) {
+}
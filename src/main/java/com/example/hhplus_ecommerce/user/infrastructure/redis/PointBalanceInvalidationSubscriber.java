@@ -0,0 +1,42 @@
+package com.example.hhplus_ecommerce.user.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.user.application.PointBalanceCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 포인트 잔액 캐시 무효화 이벤트 구독자
+ * <p>
+ * user:point:balance:invalidate 채널을 구독하여 수신한 이벤트를 로컬 잔액 캐시({@link PointBalanceCache})에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.point.cache.enabled", havingValue = "true")
+public class PointBalanceInvalidationSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final PointBalanceCache pointBalanceCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this,
+            new ChannelTopic(PointBalanceRedisRepository.INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        log.debug("잔액 캐시 무효화 이벤트 수신: message={}", body);
+        pointBalanceCache.onInvalidation(body);
+    }
+}
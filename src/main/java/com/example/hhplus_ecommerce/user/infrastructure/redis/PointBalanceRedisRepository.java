@@ -0,0 +1,143 @@
+package com.example.hhplus_ecommerce.user.infrastructure.redis;
+
+import com.example.hhplus_ecommerce.common.infrastructure.redis.AbstractRedisRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.CachedPointBalance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 포인트 잔액 캐시 Redis 저장소
+ * <p>
+ * 노드 간 공유되는 2차 잔액 캐시와 무효화 채널을 관리합니다.
+ * - String: 캐시된 잔액 (user:point:balance:{userId}, 값은 "잔액:적재시각(ms)")
+ * - String: 무효화 세대 (user:point:balance:{userId}:gen)
+ * - Pub/Sub: 무효화 이벤트 (user:point:balance:invalidate, 형식은 "{userId}:{발행시각(ms)}")
+ * <p>
+ * DB에서 읽은 잔액은 읽기 시작 전에 확인한 세대가 그대로일 때만 저장합니다.
+ * 읽는 도중 잔액 변경이 커밋되어 세대가 올라갔다면, 이전 잔액이 캐시에 남지 않도록 저장을 건너뜁니다.
+ */
+@Slf4j
+@Repository
+public class PointBalanceRedisRepository extends AbstractRedisRepository {
+
+    public static final String INVALIDATE_CHANNEL = "user:point:balance:invalidate"; // Pub/Sub: 잔액 무효화 이벤트
+
+    private static final String BALANCE_KEY = "user:point:balance:%d";          // String: 캐시된 잔액
+    private static final String GENERATION_KEY = "user:point:balance:%d:gen";   // String: 무효화 세대
+
+    /**
+     * 세대 확인 후 저장 스크립트
+     * <p>
+     * KEYS[1]: 잔액, KEYS[2]: 세대
+     * ARGV[1]: 읽기 전에 확인한 세대 (없으면 빈 문자열), ARGV[2]: 저장할 값, ARGV[3]: TTL(ms)
+     * <p>
+     * 반환값: 1 = 저장, 0 = 세대 변경으로 건너뜀
+     */
+    private static final RedisScript<Long> PUT_IF_GENERATION_SCRIPT = new DefaultRedisScript<>("""
+        local generation = redis.call('GET', KEYS[2]) or ''
+        if generation ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """, Long.class);
+
+    /**
+     * 무효화 스크립트
+     * <p>
+     * KEYS[1]: 잔액, KEYS[2]: 세대
+     * ARGV[1]: 세대 TTL(ms)
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+        local generation = redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[1])
+        redis.call('DEL', KEYS[1])
+        return generation
+        """, Long.class);
+
+    public PointBalanceRedisRepository(StringRedisTemplate redisTemplate) {
+        super(redisTemplate);
+    }
+
+    /**
+     * 캐시된 잔액을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 캐시된 잔액 (없거나 형식이 올바르지 않으면 null)
+     */
+    public CachedPointBalance getBalance(Long userId) {
+        String value = get(balanceKey(userId));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return CachedPointBalance.decode(value);
+        } catch (IllegalArgumentException e) {
+            log.warn("잔액 캐시 값 파싱 실패: userId={}, value={}", userId, value);
+            return null;
+        }
+    }
+
+    /**
+     * DB 조회 전에 현재 무효화 세대를 확인합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 현재 세대 (없으면 빈 문자열)
+     */
+    public String getGeneration(Long userId) {
+        String generation = get(generationKey(userId));
+        return generation != null ? generation : "";
+    }
+
+    /**
+     * 세대가 바뀌지 않았을 때만 잔액을 저장합니다.
+     *
+     * @param userId     사용자 ID
+     * @param generation DB 조회 전에 확인한 세대
+     * @param balance    저장할 잔액
+     * @param ttl        캐시 유지 시간
+     * @return 저장 여부
+     */
+    public boolean putBalanceIfGeneration(Long userId, String generation, CachedPointBalance balance, Duration ttl) {
+        Long result = redisTemplate.execute(PUT_IF_GENERATION_SCRIPT,
+            List.of(balanceKey(userId), generationKey(userId)),
+            generation, balance.encode(), String.valueOf(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 잔액 캐시를 삭제하고 세대를 올립니다.
+     *
+     * @param userId        사용자 ID
+     * @param generationTtl 세대 유지 시간 (잔액 캐시 TTL보다 충분히 길어야 함)
+     */
+    public void invalidate(Long userId, Duration generationTtl) {
+        redisTemplate.execute(INVALIDATE_SCRIPT,
+            List.of(balanceKey(userId), generationKey(userId)),
+            String.valueOf(generationTtl.toMillis()));
+    }
+
+    /**
+     * 다른 노드에 로컬 잔액 캐시 무효화를 알립니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void publishInvalidation(Long userId) {
+        redisTemplate.convertAndSend(INVALIDATE_CHANNEL, userId + ":" + System.currentTimeMillis());
+        log.debug("잔액 캐시 무효화 발행: userId={}", userId);
+    }
+
+    private String balanceKey(Long userId) {
+        return String.format(BALANCE_KEY, userId);
+    }
+
+    private String generationKey(Long userId) {
+        return String.format(GENERATION_KEY, userId);
+    }
+}
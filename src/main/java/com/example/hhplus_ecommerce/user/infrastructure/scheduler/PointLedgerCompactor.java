@@ -0,0 +1,63 @@
+package com.example.hhplus_ecommerce.user.infrastructure.scheduler;
+
+import com.example.hhplus_ecommerce.user.infrastructure.PointLedgerJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 압축 스케줄러
+ * <p>
+ * 원장(point_history)에 쌓인 이력을 주기적으로 사용자별 잔액 스냅샷에 합쳐,
+ * 잔액 계산 시 읽어야 하는 이력 수를 일정하게 유지합니다.
+ * <p>
+ * - 생성 후 compact-grace-ms가 지난 이력까지만 압축
+ * - 압축 범위 안에 아직 커밋되지 않은 이력이 있으면 커밋/롤백될 때까지 기다린 뒤 압축 (커밋 순서와 ID 순서가 다른 이력 보호)
+ * - 직전 압축 위치(워터마크) 이후의 이력만 기본 키 범위로 읽어 합침
+ * - 여러 노드가 동시에 압축하지 않도록 분산 락으로 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.point.engine", havingValue = "ledger")
+public class PointLedgerCompactor {
+
+    private static final String COMPACT_LOCK_KEY = "user:point:compact";
+
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${user.point.ledger.compact-grace-ms:60000}")
+    private long compactGraceMs;
+
+    /**
+     * 원장을 주기적으로 압축합니다.
+     * <p>
+     * 다른 노드가 압축 중이면 이번 주기는 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${user.point.ledger.compact-interval-ms:60000}")
+    public void compact() {
+        RLock lock = redissonClient.getLock(COMPACT_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime before = LocalDateTime.now().minusNanos(compactGraceMs * 1_000_000L);
+            pointLedgerJdbcRepository.findCompactionHorizon(before).ifPresent(horizon -> {
+                int affected = pointLedgerJdbcRepository.compact(horizon);
+                log.info("포인트 원장 압축 완료: horizon={}, affected={}", horizon, affected);
+            });
+        } catch (Exception e) {
+            log.error("포인트 원장 압축 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
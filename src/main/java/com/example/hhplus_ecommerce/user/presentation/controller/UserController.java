@@ -1,13 +1,23 @@
 package com.example.hhplus_ecommerce.user.presentation.controller;
 
+import com.example.hhplus_ecommerce.common.infrastructure.idempotency.Idempotent;
 import com.example.hhplus_ecommerce.user.application.UserPointService;
 import com.example.hhplus_ecommerce.user.application.UserService;
 import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -17,6 +27,7 @@ public class UserController {
 
     private final UserService userService;
     private final UserPointService userPointService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{userId}/points")
     public ResponseEntity<PointResponse> getPoint(@PathVariable("userId") Long userId) {
@@ -28,6 +39,49 @@ public class UserController {
         return ResponseEntity.ok(userService.getPointHistory(userId));
     }
 
+    @GetMapping("/{userId}/points/history/page")
+    public ResponseEntity<PointHistoryPageResponse> getPointHistoryPage(
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(userService.getPointHistoryPage(userId, cursor, size));
+    }
+
+    /**
+     * 전체 포인트 이력을 NDJSON(한 줄에 JSON 하나)으로 스트리밍합니다.
+     * <p>
+     * 페이지 단위로 조회해 바로 내보내므로 이력 길이와 관계없이 서버 메모리 사용량이 일정합니다.
+     */
+    @GetMapping(value = "/{userId}/points/history/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPointHistory(@PathVariable("userId") Long userId) {
+        userService.verifyUserExists(userId);
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            userService.forEachPointHistoryPage(userId, page -> {
+                try {
+                    for (PointHistoryResponse history : page) {
+                        writer.write(objectMapper.writeValueAsString(history));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * 포인트를 충전합니다.
+     * <p>
+     * Idempotency-Key 헤더가 있으면 같은 키로 재시도해도 한 번만 충전하고 첫 응답을 돌려줍니다.
+     */
+    @Idempotent("point-charge")
     @PostMapping("/{userId}/points/charge")
     public ResponseEntity<PointResponse> chargePoint(
             @PathVariable("userId") Long userId,
@@ -2,6 +2,7 @@ package com.example.hhplus_ecommerce.user.presentation.dto;
 
 import com.example.hhplus_ecommerce.user.domain.PointHistory;
 import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryRow;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
@@ -42,6 +43,18 @@ public class UserDto {
             );
         }
 
+        public static PointHistoryResponse from(PointHistoryRow row) {
+            return new PointHistoryResponse(
+                    row.id(),
+                    row.userId(),
+                    row.orderId(),
+                    row.transactionType().name(),
+                    row.amount(),
+                    row.balanceAfter(),
+                    row.createdAt()
+            );
+        }
+
         public static List<PointHistoryResponse> fromList(List<PointHistory> pointHistories) {
             return pointHistories.stream()
                     .map(PointHistoryResponse::from)
@@ -49,6 +62,13 @@ public class UserDto {
         }
     }
 
+    public record PointHistoryPageResponse(
+            List<PointHistoryResponse> items,
+            String nextCursor,
+            boolean hasNext
+    ) {
+    }
+
     public record ChargePointRequest(
             @NotNull(message = "충전 금액은 필수입니다")
             Long amount
@@ -0,0 +1,128 @@
+package com.example.hhplus_ecommerce.application.service;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.coupon.application.CouponIssueGate;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueGateTest {
+
+    @Mock
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @InjectMocks
+    private CouponIssueGate couponIssueGate;
+
+    @Test
+    @DisplayName("소진 기록 후 발급 요청은 로컬에서 거절되고, 이벤트는 한 번만 발행")
+    void markSoldOut_RejectsLocally() {
+        // when
+        couponIssueGate.markSoldOut(1L);
+        couponIssueGate.markSoldOut(1L);
+
+        // then
+        assertThatThrownBy(() -> couponIssueGate.checkOpen(1L))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_SOLD_OUT);
+        assertThatCode(() -> couponIssueGate.checkOpen(2L)).doesNotThrowAnyException();
+        verify(couponIssueRedisRepository, times(1)).publishEvent("SOLD_OUT:1");
+    }
+
+    @Test
+    @DisplayName("발급 종료 시각이 지난 쿠폰은 로컬에서 만료로 거절")
+    void checkOpen_Expired_RejectsLocally() {
+        // given
+        couponIssueGate.open(1L, LocalDateTime.now().minusMinutes(1));
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueGate.checkOpen(1L))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("캐시 초기화 시 소진 상태를 지우고 다른 노드에 RESET 이벤트 발행")
+    void open_ClearsSoldOut() {
+        // given
+        couponIssueGate.markSoldOut(1L);
+        LocalDateTime validUntil = LocalDateTime.now().plusDays(1);
+
+        // when
+        couponIssueGate.open(1L, validUntil);
+
+        // then
+        assertThatCode(() -> couponIssueGate.checkOpen(1L)).doesNotThrowAnyException();
+        verify(couponIssueRedisRepository).publishEvent("RESET:1:" + validUntil);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 SOLD_OUT/RESET 이벤트를 로컬 상태에 반영")
+    void onEvent_AppliesRemoteEvents() {
+        // given
+        when(couponIssueRedisRepository.getStock(3L)).thenReturn(10L);
+        when(couponIssueRedisRepository.getIssuedCount(3L)).thenReturn(10L);
+
+        // when: 다른 노드에서 소진
+        couponIssueGate.onEvent("SOLD_OUT:3");
+
+        // then
+        assertThatThrownBy(() -> couponIssueGate.checkOpen(3L)).isInstanceOf(ConflictException.class);
+
+        // when: 다른 노드에서 전체 초기화
+        couponIssueGate.onEvent("RESET:*");
+
+        // then
+        assertThatCode(() -> couponIssueGate.checkOpen(3L)).doesNotThrowAnyException();
+        verify(couponIssueRedisRepository, never()).publishEvent(anyString());
+    }
+
+    @Test
+    @DisplayName("RESET 이후 늦게 도착한 SOLD_OUT은 Redis 발급 수가 재고 미만이면 무시")
+    void onEvent_LateSoldOutAfterReset_Ignored() {
+        // given
+        when(couponIssueRedisRepository.getStock(1L)).thenReturn(10L);
+        when(couponIssueRedisRepository.getIssuedCount(1L)).thenReturn(0L);
+        couponIssueGate.onEvent("RESET:1:" + LocalDateTime.now().plusDays(1));
+
+        // when
+        couponIssueGate.onEvent("SOLD_OUT:1");
+
+        // then
+        assertThatCode(() -> couponIssueGate.checkOpen(1L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 RESET 이벤트로 발급 종료 시각을 갱신")
+    void onEvent_RemoteReset_AppliesValidUntil() {
+        // when
+        couponIssueGate.onEvent("RESET:1:" + LocalDateTime.now().minusMinutes(1));
+
+        // then
+        assertThatThrownBy(() -> couponIssueGate.checkOpen(1L))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 이벤트는 무시")
+    void onEvent_Unknown_Ignored() {
+        assertThatCode(() -> {
+            couponIssueGate.onEvent("garbage");
+            couponIssueGate.onEvent("SOLD_OUT:abc");
+            couponIssueGate.onEvent("UNKNOWN:1");
+            couponIssueGate.onEvent("RESET:1:not-a-date");
+        }).doesNotThrowAnyException();
+    }
+}
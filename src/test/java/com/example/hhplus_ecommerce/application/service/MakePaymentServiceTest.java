@@ -11,6 +11,7 @@ import com.example.hhplus_ecommerce.common.presentation.exception.ConflictExcept
 import com.example.hhplus_ecommerce.common.presentation.exception.NotFoundException;
 import com.example.hhplus_ecommerce.order.presentation.dto.OrderDto.PaymentResponse;
 import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
 import com.example.hhplus_ecommerce.user.application.UserPointService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -79,7 +80,7 @@ class MakePaymentServiceTest {
 
         verify(orderRepository).findByIdOrThrow(orderId);
         verify(orderItemRepository).findByOrderId(orderId);
-        verify(productStockService).decreaseStock(1L, 2);
+        verify(productStockService).decreaseStocks(List.of(new StockReservation(1L, 2)));
         verify(userPointService).usePoint(userId, orderId, 20000L);
         verify(orderRepository).save(order);
     }
@@ -135,10 +136,10 @@ class MakePaymentServiceTest {
 
         verify(orderRepository).findByIdOrThrow(orderId);
         verify(orderItemRepository).findByOrderId(orderId);
-        verify(productStockService).decreaseStock(1L, 2);
+        verify(productStockService).decreaseStocks(List.of(new StockReservation(1L, 2)));
         verify(userPointService).usePoint(userId, orderId, 20000L);
         // 보상 트랜잭션 실행 확인
-        verify(productStockService).increaseStock(1L, 2);
+        verify(productStockService).increaseStocks(List.of(new StockReservation(1L, 2)));
         verify(orderRepository).save(order); // order.fail() 저장
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.hhplus_ecommerce.application.service;
 
+import com.example.hhplus_ecommerce.user.application.PointBalanceCache;
+import com.example.hhplus_ecommerce.user.application.UserPointEngine;
 import com.example.hhplus_ecommerce.user.application.UserPointService;
 import com.example.hhplus_ecommerce.user.application.UserService;
 import com.example.hhplus_ecommerce.user.domain.PointHistory;
@@ -19,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.util.List;
 
@@ -42,6 +45,12 @@ class UserServiceTest {
     @Mock
     private UserPointService userPointService;
 
+    @Mock
+    private UserPointEngine userPointEngine;
+
+    @Mock
+    private ObjectProvider<PointBalanceCache> pointBalanceCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -54,6 +63,7 @@ class UserServiceTest {
         user.chargePoint(10000L);
 
         given(userRepository.findByIdOrThrow(userId)).willReturn(user);
+        given(userPointEngine.getBalance(user)).willReturn(user.getPoint());
 
         // when
         PointResponse result = userService.getPoint(userId);
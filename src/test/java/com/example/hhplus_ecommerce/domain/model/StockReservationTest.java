@@ -0,0 +1,32 @@
+package com.example.hhplus_ecommerce.domain.model;
+
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StockReservationTest {
+
+    @Test
+    @DisplayName("같은 상품의 예약은 수량을 합치고 상품 ID 순으로 정렬")
+    void merge_SumsQuantitiesAndSortsByProductId() {
+        // given
+        List<StockReservation> reservations = List.of(
+                new StockReservation(3L, 1),
+                new StockReservation(1L, 2),
+                new StockReservation(3L, 4)
+        );
+
+        // when
+        List<StockReservation> merged = StockReservation.merge(reservations);
+
+        // then
+        assertThat(merged).containsExactly(
+                new StockReservation(1L, 2),
+                new StockReservation(3L, 5)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.hhplus_ecommerce.infrastructure.dto;
+
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@Slf4j
+class CouponIssueQueueItemTest {
+
+    private static final Instant QUEUED_AT = Instant.ofEpochMilli(1_700_000_000_123L);
+
+    @Test
+    @DisplayName("압축 형식으로 인코딩한 값을 디코딩하면 같은 아이템")
+    void encode_Decode_RoundTrip() {
+        // given
+        CouponIssueQueueItem item = new CouponIssueQueueItem(123_456_789L, 42L, QUEUED_AT);
+
+        // when
+        String encoded = item.encode();
+        CouponIssueQueueItem decoded = CouponIssueQueueItem.decode(encoded);
+
+        // then
+        assertAll(
+                () -> assertThat(encoded).startsWith("1:"),
+                () -> assertThat(decoded).isEqualTo(item)
+        );
+    }
+
+    @Test
+    @DisplayName("이전 JSON 형식으로 저장된 아이템도 디코딩")
+    void decode_LegacyJson_BackwardCompatible() {
+        // given
+        CouponIssueQueueItem item = new CouponIssueQueueItem(1L, 2L, QUEUED_AT);
+        String json = item.toJson();
+
+        // when
+        CouponIssueQueueItem decoded = CouponIssueQueueItem.decode(json);
+
+        // then
+        assertThat(decoded).isEqualTo(item);
+    }
+
+    @Test
+    @DisplayName("압축 형식은 JSON 형식보다 작음")
+    void encode_SmallerThanJson() {
+        // given
+        CouponIssueQueueItem item = new CouponIssueQueueItem(10_000_000L, 1_000L, QUEUED_AT);
+
+        // when
+        int encodedBytes = item.encode().getBytes(StandardCharsets.UTF_8).length;
+        int jsonBytes = item.toJson().getBytes(StandardCharsets.UTF_8).length;
+        log.info("큐 아이템 크기: 압축={} bytes, JSON={} bytes", encodedBytes, jsonBytes);
+
+        // then
+        assertThat(encodedBytes).isLessThan(jsonBytes / 2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식이나 손상된 값은 예외 발생")
+    void decode_UnknownOrCorrupted_ThrowsException() {
+        assertAll(
+                () -> assertThatThrownBy(() -> CouponIssueQueueItem.decode("not-an-item"))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThatThrownBy(() -> CouponIssueQueueItem.decode("1:abc"))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThatThrownBy(() -> CouponIssueQueueItem.decode("1:!:2:3"))
+                        .isInstanceOf(IllegalStateException.class),
+                () -> assertThatThrownBy(() -> CouponIssueQueueItem.decode(""))
+                        .isInstanceOf(IllegalStateException.class)
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.hhplus_ecommerce.infrastructure.dto;
+
+import com.example.hhplus_ecommerce.common.presentation.exception.BadRequestException;
+import com.example.hhplus_ecommerce.user.infrastructure.dto.PointHistoryCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PointHistoryCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (createdAt, id)")
+    void encode_Decode_RoundTrip() {
+        // given
+        PointHistoryCursor cursor = new PointHistoryCursor(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 123_456_000), 42L);
+
+        // when
+        PointHistoryCursor decoded = PointHistoryCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 BadRequestException")
+    void decode_Invalid_ThrowsBadRequest() {
+        assertThatThrownBy(() -> PointHistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
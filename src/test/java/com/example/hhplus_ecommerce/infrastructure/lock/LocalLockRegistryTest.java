@@ -0,0 +1,82 @@
+package com.example.hhplus_ecommerce.infrastructure.lock;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.LocalLockRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LocalLockRegistryTest {
+
+    @Test
+    @DisplayName("같은 키는 같은 로컬 락을 공유하고, 모두 반납하면 제거된다")
+    void acquire_SameKey_SharesLockAndEvictsOnRelease() {
+        // given
+        LocalLockRegistry registry = new LocalLockRegistry();
+
+        // when
+        ReentrantLock first = registry.acquire("product:1:stock");
+        ReentrantLock second = registry.acquire("product:1:stock");
+        ReentrantLock other = registry.acquire("product:2:stock");
+        int sizeWhileHeld = registry.size();
+
+        registry.release("product:1:stock", first);
+        registry.release("product:1:stock", second);
+        registry.release("product:2:stock", other);
+
+        // then
+        assertAll(
+                () -> assertThat(first).isSameAs(second),
+                () -> assertThat(first).isNotSameAs(other),
+                () -> assertThat(sizeWhileHeld).isEqualTo(2),
+                () -> assertThat(registry.size()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키를 잡아도 한 번에 하나만 실행되고, 끝나면 락이 남지 않는다")
+    void acquire_Concurrent_MutualExclusion() throws InterruptedException {
+        // given
+        LocalLockRegistry registry = new LocalLockRegistry();
+        int threadCount = 100;
+        AtomicInteger running = new AtomicInteger(0);
+        AtomicInteger maxRunning = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    ReentrantLock lock = registry.acquire("user:1:point");
+                    try {
+                        lock.lock();
+                        try {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            running.decrementAndGet();
+                        } finally {
+                            lock.unlock();
+                        }
+                    } finally {
+                        registry.release("user:1:point", lock);
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(10, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+                () -> assertThat(maxRunning.get()).isEqualTo(1),
+                () -> assertThat(registry.size()).isZero()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.hhplus_ecommerce.infrastructure.lock;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.LockKeyResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LockKeyResolverTest {
+
+    private final LockKeyResolver resolver = new LockKeyResolver();
+
+    @Test
+    @DisplayName("단순 템플릿은 SpEL과 같은 키를 만든다")
+    void resolve_Template_SameAsSpel() throws NoSuchMethodException {
+        // given
+        Method method = LockTarget.class.getDeclaredMethod("decrease", Long.class, int.class);
+
+        // when & then
+        assertAll(
+                () -> assertThat(resolver.resolve(method, "'product:' + #productId + ':stock'", new Object[]{7L, 1}))
+                        .isEqualTo("product:7:stock"),
+                () -> assertThat(resolver.resolve(method, "'product:' + #productId", new Object[]{null, 1}))
+                        .isEqualTo("product:null"),
+                () -> assertThat(resolver.resolve(method, "'p:' + #productId + ':' + #quantity", new Object[]{7L, 3}))
+                        .isEqualTo("p:7:3")
+        );
+    }
+
+    @Test
+    @DisplayName("단순 템플릿이 아닌 표현식은 SpEL로 평가한다")
+    void resolve_NonTemplate_FallsBackToSpel() throws NoSuchMethodException {
+        // given
+        Method method = LockTarget.class.getDeclaredMethod("decrease", Long.class, int.class);
+
+        // when & then
+        assertAll(
+                // 숫자끼리의 +는 덧셈
+                () -> assertThat(resolver.resolve(method, "#productId + #quantity", new Object[]{7L, 3}))
+                        .isEqualTo("10"),
+                () -> assertThat(resolver.resolve(method, "'product:' + #productId.toString().length()", new Object[]{123L, 1}))
+                        .isEqualTo("product:3"),
+                () -> assertThat(resolver.resolve(method, "'it''s:' + #productId", new Object[]{1L, 1}))
+                        .isEqualTo("it's:1")
+        );
+    }
+
+    @Test
+    @DisplayName("여러 키 표현식은 정렬·중복 제거된 키 목록을 만든다")
+    void resolveAll_Collection_SortedAndDistinct() throws NoSuchMethodException {
+        // given
+        Method method = LockTarget.class.getDeclaredMethod("reserveAll", List.class);
+        List<Long> productIds = List.of(3L, 1L, 3L, 2L);
+
+        // when
+        List<String> keys = resolver.resolveAll(method, "#productIds.!['product:' + #this + ':stock']", new Object[]{productIds});
+
+        // then
+        assertThat(keys).containsExactly("product:1:stock", "product:2:stock", "product:3:stock");
+    }
+
+    @Test
+    @DisplayName("여러 키 표현식의 결과가 단일 값이면 키 하나를 만든다")
+    void resolveAll_SingleValue_OneKey() throws NoSuchMethodException {
+        // given
+        Method method = LockTarget.class.getDeclaredMethod("decrease", Long.class, int.class);
+
+        // when
+        List<String> keys = resolver.resolveAll(method, "'user:' + #productId + ':point'", new Object[]{5L, 1});
+
+        // then
+        assertThat(keys).containsExactly("user:5:point");
+    }
+
+    @SuppressWarnings("unused")
+    private static class LockTarget {
+        void decrease(Long productId, int quantity) {
+        }
+
+        void reserveAll(List<Long> productIds) {
+        }
+    }
+}
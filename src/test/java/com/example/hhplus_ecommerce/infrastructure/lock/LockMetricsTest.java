@@ -0,0 +1,74 @@
+package com.example.hhplus_ecommerce.infrastructure.lock;
+
+import com.example.hhplus_ecommerce.common.infrastructure.lock.LockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LockMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockMetrics lockMetrics = new LockMetrics(meterRegistry, 1, 0.8, 100);
+
+    @Test
+    @DisplayName("락 키의 숫자 부분을 *로 바꾼 접두어 단위로 대기·실패 지표를 기록한다")
+    void record_GroupsByKeyPrefix() {
+        // when
+        lockMetrics.recordAcquired("product:1:stock", TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.recordAcquired("product:2:stock", TimeUnit.MILLISECONDS.toNanos(5));
+        lockMetrics.recordFailed("user:7:point", TimeUnit.SECONDS.toNanos(5));
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.find("lock.wait")
+                        .tags("prefix", "product:*:stock", "result", "acquired").timer().count()).isEqualTo(2),
+                () -> assertThat(meterRegistry.find("lock.acquire.failures")
+                        .tag("prefix", "user:*:point").counter().count()).isEqualTo(1.0),
+                () -> assertThat(lockMetrics.getPrefixSummaries())
+                        .extracting(LockMetrics.PrefixSummary::prefix)
+                        .containsExactly("product:*:stock")
+        );
+    }
+
+    @Test
+    @DisplayName("대기가 발생한 키를 대기 횟수 순으로 상위 N개 집계하고, 대기 없는 획득은 제외한다")
+    void getHotKeys_OrderedByContention() {
+        // given
+        long contended = TimeUnit.MILLISECONDS.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            lockMetrics.recordAcquired("product:1:stock", contended);
+        }
+        lockMetrics.recordAcquired("product:2:stock", contended);
+        lockMetrics.recordAcquired("product:3:stock", 0L);
+
+        // when & then
+        assertThat(lockMetrics.getHotKeys(10)).containsExactly(
+                new LockMetrics.HotKey("product:1:stock", 3),
+                new LockMetrics.HotKey("product:2:stock", 1)
+        );
+    }
+
+    @Test
+    @DisplayName("점유 시간이 leaseTime에 가까우면 임박 지표를 기록하고, Watchdog 연장 락은 제외한다")
+    void recordReleased_NearLeaseExpiry() {
+        // given
+        long lease = TimeUnit.SECONDS.toNanos(3);
+
+        // when
+        lockMetrics.recordReleased("user:1:point", TimeUnit.MILLISECONDS.toNanos(2900), lease);
+        lockMetrics.recordReleased("user:1:point", TimeUnit.MILLISECONDS.toNanos(100), lease);
+        lockMetrics.recordReleased("user:1:point", TimeUnit.SECONDS.toNanos(60), -1L);
+
+        // then
+        assertAll(
+                () -> assertThat(meterRegistry.find("lock.hold").tag("prefix", "user:*:point").timer().count()).isEqualTo(3),
+                () -> assertThat(meterRegistry.find("lock.lease.near-expiry")
+                        .tag("prefix", "user:*:point").counter().count()).isEqualTo(1.0)
+        );
+    }
+}
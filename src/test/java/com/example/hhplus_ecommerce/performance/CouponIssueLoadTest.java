@@ -0,0 +1,140 @@
+package com.example.hhplus_ecommerce.performance;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.coupon.application.CouponService;
+import com.example.hhplus_ecommerce.coupon.domain.Coupon;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.IssueCouponRequest;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 쿠폰 발급 부하 테스트
+ * <p>
+ * 10,000명의 동시 사용자가 쿠폰 발급을 요청할 때
+ * Redis 명령별 왕복 방식과 Lua 스크립트 방식의 초당 처리량(RPS)을 비교합니다.
+ */
+@Slf4j
+class CouponIssueLoadTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_USERS = 10_000;
+    private static final int TOTAL_COUPON_QUANTITY = 1_000;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("부하 테스트 쿠폰")
+                .discountType(Coupon.DiscountType.FIXED)
+                .discountValue(1000L)
+                .totalQuantity(TOTAL_COUPON_QUANTITY)
+                .issuedQuantity(0)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build());
+        this.couponId = coupon.getId();
+    }
+
+    @AfterEach
+    void restoreMode() {
+        setScriptEnabled(true);
+    }
+
+    @Test
+    @DisplayName("부하 테스트: 10,000명 동시 요청 시 명령별 왕복 방식과 Lua 스크립트 방식의 RPS 비교")
+    void issueCoupon_RoundTripsVersusScript() throws InterruptedException {
+        // when: 명령별 왕복 방식
+        setScriptEnabled(false);
+        LoadResult roundTrips = runLoad();
+
+        // when: Lua 스크립트 방식
+        setScriptEnabled(true);
+        LoadResult script = runLoad();
+
+        log.info("[쿠폰 발급 부하 테스트] 동시 사용자={}, 재고={}", CONCURRENT_USERS, TOTAL_COUPON_QUANTITY);
+        log.info("  - 명령별 왕복: {} ms, {} req/s", roundTrips.elapsedMillis(), roundTrips.requestsPerSecond());
+        log.info("  - Lua 스크립트: {} ms, {} req/s", script.elapsedMillis(), script.requestsPerSecond());
+
+        // then: 두 방식 모두 재고를 넘겨 발급하지 않아야 함
+        // 명령별 왕복 방식은 동시 SADD로 Set 크기가 잠시 재고를 넘으면 두 요청이 함께 실패할 수 있어,
+        // 마지막 요청까지 처리된 뒤 재고가 남을 수 있음 (초과 발급은 없음)
+        assertAll(
+                () -> assertThat(roundTrips.completed()).as("명령별 왕복 방식 완료").isTrue(),
+                () -> assertThat(script.completed()).as("Lua 스크립트 방식 완료").isTrue(),
+                () -> assertThat(roundTrips.successCount()).as("명령별 왕복 방식 발급 수")
+                        .isPositive().isLessThanOrEqualTo(TOTAL_COUPON_QUANTITY),
+                () -> assertThat(script.successCount()).as("Lua 스크립트 방식 발급 수").isEqualTo(TOTAL_COUPON_QUANTITY),
+                () -> assertThat(roundTrips.unexpectedErrorCount()).as("명령별 왕복 방식 예상치 못한 에러").isEqualTo(0),
+                () -> assertThat(script.unexpectedErrorCount()).as("Lua 스크립트 방식 예상치 못한 에러").isEqualTo(0)
+        );
+    }
+
+    private LoadResult runLoad() throws InterruptedException {
+        couponService.clearCache();
+        couponService.initializeCouponCache(couponId);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger unexpectedErrorCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(CONCURRENT_USERS);
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= CONCURRENT_USERS; userId++) {
+                final Long requestUserId = userId;
+                executorService.submit(() -> {
+                    try {
+                        couponService.issueCoupon(requestUserId, new IssueCouponRequest(couponId));
+                        successCount.incrementAndGet();
+                    } catch (ConflictException e) {
+                        if (e.getErrorCode() != CouponErrorCode.COUPON_SOLD_OUT) {
+                            unexpectedErrorCount.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        unexpectedErrorCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+        return new LoadResult(completed, successCount.get(), unexpectedErrorCount.get(), elapsedMillis);
+    }
+
+    private void setScriptEnabled(boolean enabled) {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(couponService), "scriptEnabled", enabled);
+    }
+
+    private record LoadResult(boolean completed, int successCount, int unexpectedErrorCount, long elapsedMillis) {
+        long requestsPerSecond() {
+            return CONCURRENT_USERS * 1000L / elapsedMillis;
+        }
+    }
+}
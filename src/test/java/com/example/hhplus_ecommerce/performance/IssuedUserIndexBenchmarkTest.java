@@ -0,0 +1,166 @@
+package com.example.hhplus_ecommerce.performance;
+
+import com.example.hhplus_ecommerce.common.presentation.exception.BadRequestException;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueResult;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.IssuedUserIndexType;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 발급 사용자 인덱스 벤치마크
+ * <p>
+ * 같은 부하에서 Redis Set 인덱스와 Bitmap 인덱스의 발급 지연 시간과 메모리 사용량(MEMORY USAGE)을 비교합니다.
+ */
+@Slf4j
+class IssuedUserIndexBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_USERS = 20_000;
+    private static final long STOCK = 10_000L;
+    private static final Long SET_COUPON_ID = 1L;
+    private static final Long BITMAP_COUPON_ID = 2L;
+
+    private static final DefaultRedisScript<Long> MEMORY_USAGE_SCRIPT = new DefaultRedisScript<>(
+        "return redis.call('MEMORY', 'USAGE', KEYS[1]) or 0", Long.class);
+
+    @Autowired
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("벤치마크: Set 인덱스와 Bitmap 인덱스의 발급 지연 시간과 메모리 사용량 비교")
+    void issue_SetVersusBitmap() throws InterruptedException {
+        // when
+        BenchmarkResult set = runBenchmark(SET_COUPON_ID, IssuedUserIndexType.SET);
+        BenchmarkResult bitmap = runBenchmark(BITMAP_COUPON_ID, IssuedUserIndexType.BITMAP);
+
+        long setMemory = memoryUsage("coupon:user:" + SET_COUPON_ID);
+        long bitmapMemory = memoryUsage("coupon:user:bitmap:" + BITMAP_COUPON_ID)
+            + memoryUsage("coupon:user:count:" + BITMAP_COUPON_ID);
+
+        log.info("[발급 사용자 인덱스 벤치마크] 동시 사용자={}, 재고={}", CONCURRENT_USERS, STOCK);
+        log.info("  - Set: {} ms, 평균 {} us/req, 메모리 {} bytes", set.elapsedMillis(), set.averageMicros(), setMemory);
+        log.info("  - Bitmap: {} ms, 평균 {} us/req, 메모리 {} bytes", bitmap.elapsedMillis(), bitmap.averageMicros(), bitmapMemory);
+
+        // then: 두 인덱스 모두 재고만큼만 발급되고, Bitmap이 더 적은 메모리를 사용해야 함
+        assertAll(
+            () -> assertThat(set.completed()).as("Set 인덱스 완료").isTrue(),
+            () -> assertThat(bitmap.completed()).as("Bitmap 인덱스 완료").isTrue(),
+            () -> assertThat(set.issuedCount()).as("Set 인덱스 발급 수").isEqualTo(STOCK),
+            () -> assertThat(bitmap.issuedCount()).as("Bitmap 인덱스 발급 수").isEqualTo(STOCK),
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(SET_COUPON_ID)).isEqualTo(STOCK),
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(BITMAP_COUPON_ID)).isEqualTo(STOCK),
+            () -> assertThat(couponIssueRedisRepository.getIssuedUserIds(BITMAP_COUPON_ID)).hasSize((int) STOCK),
+            () -> assertThat(bitmapMemory).as("Bitmap 메모리 사용량").isLessThan(setMemory)
+        );
+    }
+
+    @Test
+    @DisplayName("Bitmap 인덱스: 이미 발급받은 사용자는 중복 발급되지 않음")
+    void issue_BitmapRejectsDuplicate() {
+        // given
+        couponIssueRedisRepository.setStock(BITMAP_COUPON_ID, STOCK);
+        couponIssueRedisRepository.setIssuedUserIndex(BITMAP_COUPON_ID, IssuedUserIndexType.BITMAP);
+        couponIssueRedisRepository.bulkAddUserToIssuedSet(BITMAP_COUPON_ID, List.of(7L, 7L, 42L));
+
+        // when
+        CouponIssueResult duplicated = couponIssueRedisRepository.issue(
+            BITMAP_COUPON_ID, 42L, CouponIssueQueueItem.create(42L, BITMAP_COUPON_ID));
+        CouponIssueResult issued = couponIssueRedisRepository.issue(
+            BITMAP_COUPON_ID, 100L, CouponIssueQueueItem.create(100L, BITMAP_COUPON_ID));
+
+        // then
+        assertAll(
+            () -> assertThat(duplicated).isEqualTo(CouponIssueResult.ALREADY_ISSUED),
+            () -> assertThat(issued).isEqualTo(CouponIssueResult.ISSUED),
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(BITMAP_COUPON_ID)).isEqualTo(3L),
+            () -> assertThat(couponIssueRedisRepository.getIssuedUserIds(BITMAP_COUPON_ID))
+                .containsExactlyInAnyOrder("7", "42", "100")
+        );
+    }
+
+    @Test
+    @DisplayName("Bitmap 인덱스: 오프셋 범위를 벗어난 사용자 ID는 스크립트 실행 전에 잘못된 요청으로 거부됨")
+    void issue_BitmapUserIdOutOfRange_BadRequest() {
+        // given
+        long userId = 1L << 32;
+        couponIssueRedisRepository.setStock(BITMAP_COUPON_ID, STOCK);
+        couponIssueRedisRepository.setIssuedUserIndex(BITMAP_COUPON_ID, IssuedUserIndexType.BITMAP);
+        couponIssueRedisRepository.setStock(SET_COUPON_ID, STOCK);
+
+        // when & then
+        assertThatThrownBy(() -> couponIssueRedisRepository.issue(
+            BITMAP_COUPON_ID, userId, CouponIssueQueueItem.create(userId, BITMAP_COUPON_ID)))
+            .isInstanceOf(BadRequestException.class);
+        assertAll(
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(BITMAP_COUPON_ID)).isZero(),
+            () -> assertThat(couponIssueRedisRepository.issue(
+                SET_COUPON_ID, userId, CouponIssueQueueItem.create(userId, SET_COUPON_ID)))
+                .isEqualTo(CouponIssueResult.ISSUED)
+        );
+    }
+
+    private BenchmarkResult runBenchmark(Long couponId, IssuedUserIndexType type) throws InterruptedException {
+        couponIssueRedisRepository.setStock(couponId, STOCK);
+        couponIssueRedisRepository.setIssuedUserIndex(couponId, type);
+
+        AtomicInteger issuedCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(CONCURRENT_USERS);
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= CONCURRENT_USERS; userId++) {
+                final Long requestUserId = userId;
+                executorService.submit(() -> {
+                    try {
+                        CouponIssueResult result = couponIssueRedisRepository.issue(
+                            couponId, requestUserId, CouponIssueQueueItem.create(requestUserId, couponId));
+                        if (result == CouponIssueResult.ISSUED) {
+                            issuedCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new BenchmarkResult(completed, issuedCount.get(), elapsedNanos);
+    }
+
+    private long memoryUsage(String key) {
+        Long usage = redisTemplate.execute(MEMORY_USAGE_SCRIPT, List.of(key));
+        return usage != null ? usage : 0L;
+    }
+
+    private record BenchmarkResult(boolean completed, long issuedCount, long elapsedNanos) {
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        long averageMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(elapsedNanos) / CONCURRENT_USERS;
+        }
+    }
+}
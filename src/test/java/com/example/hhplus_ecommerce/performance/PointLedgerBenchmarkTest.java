@@ -0,0 +1,106 @@
+package com.example.hhplus_ecommerce.performance;
+
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.application.LedgerUserPointEngine;
+import com.example.hhplus_ecommerce.user.application.LockUserPointEngine;
+import com.example.hhplus_ecommerce.user.application.UserPointEngine;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.PointLedgerJdbcRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 포인트 쓰기 처리량 벤치마크
+ * <p>
+ * 한 사용자에게 충전 요청이 몰릴 때 두 가지 방식의 소요 시간을 비교합니다.
+ * - 분산 락 + 사용자 행 갱신 (현재 기본 방식)
+ * - 추가 전용 원장 (락 없이 이력 INSERT)
+ */
+@Slf4j
+class PointLedgerBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final long CHARGE_AMOUNT = 1000L;
+
+    @Autowired
+    private LockUserPointEngine lockUserPointEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointLedgerJdbcRepository pointLedgerJdbcRepository;
+
+    @ParameterizedTest(name = "동시 충전 {0}건")
+    @ValueSource(ints = {10, 100})
+    @DisplayName("벤치마크: 같은 사용자 동시 충전 시 분산 락 방식과 원장 방식 비교")
+    void charge_CompareStrategies(int requests) throws InterruptedException {
+        // given
+        UserPointEngine ledgerEngine = new LedgerUserPointEngine(userRepository, pointHistoryRepository, pointLedgerJdbcRepository);
+
+        // when
+        BenchmarkResult lock = runBenchmark(requests, lockUserPointEngine);
+        BenchmarkResult ledger = runBenchmark(requests, ledgerEngine);
+
+        log.info("[포인트 쓰기 벤치마크] 동시 충전={}", requests);
+        log.info("  - 분산 락 + 행 갱신: {} ms, 성공 {}", lock.elapsedMillis(), lock.successCount());
+        log.info("  - 추가 전용 원장: {} ms, 성공 {}", ledger.elapsedMillis(), ledger.successCount());
+
+        // then: 성공한 만큼만 잔액에 반영되어야 함 (분산 락은 락 대기 시간 초과로 실패할 수 있음)
+        assertAll(
+            () -> assertThat(lock.completed()).isTrue(),
+            () -> assertThat(ledger.completed()).isTrue(),
+            () -> assertThat(lock.balance()).isEqualTo(lock.successCount() * CHARGE_AMOUNT),
+            () -> assertThat(ledger.successCount()).isEqualTo(requests),
+            () -> assertThat(ledger.balance()).isEqualTo(requests * CHARGE_AMOUNT)
+        );
+    }
+
+    private BenchmarkResult runBenchmark(int requests, UserPointEngine engine) throws InterruptedException {
+        User user = userRepository.save(User.builder().build());
+        Long userId = user.getId();
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                executorService.submit(() -> {
+                    try {
+                        engine.charge(userId, CHARGE_AMOUNT);
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                        // 락 획득 실패
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long balance = engine.getBalance(userRepository.findByIdOrThrow(userId));
+        return new BenchmarkResult(completed, successCount.get(), balance, elapsedMillis);
+    }
+
+    private record BenchmarkResult(boolean completed, int successCount, long balance, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hhplus_ecommerce.performance;
+
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.AtomicProductStockEngine;
+import com.example.hhplus_ecommerce.product.application.LockProductStockEngine;
+import com.example.hhplus_ecommerce.product.application.ProductStockEngine;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductJdbcRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 재고 차감 방식 벤치마크
+ * <p>
+ * 같은 상품을 동시에 구매할 때 세 가지 재고 차감 방식의 소요 시간을 비교합니다.
+ * - 분산 락 + 엔티티 갱신 (현재 기본 방식)
+ * - 비관적 락 (SELECT ... FOR UPDATE + 엔티티 갱신)
+ * - 락 없는 조건부 UPDATE
+ */
+@Slf4j
+class ProductStockBenchmarkTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LockProductStockEngine lockProductStockEngine;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductJdbcRepository productJdbcRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @ParameterizedTest(name = "동시 구매자 {0}명")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("벤치마크: 같은 상품 동시 구매 시 분산 락, 비관적 락, 조건부 UPDATE 방식 비교")
+    void decreaseStock_CompareStrategies(int buyers) throws InterruptedException {
+        // given
+        ProductStockEngine atomicEngine = new AtomicProductStockEngine(productRepository, productJdbcRepository);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        BenchmarkResult distributedLock = runBenchmark(buyers, lockProductStockEngine::decrease);
+        BenchmarkResult pessimisticLock = runBenchmark(buyers, (productId, quantity) ->
+            transactionTemplate.executeWithoutResult(status ->
+                productRepository.findByIdWithLockOrThrow(productId).subStockQuantity(quantity)));
+        BenchmarkResult conditionalUpdate = runBenchmark(buyers, atomicEngine::decrease);
+
+        log.info("[재고 차감 벤치마크] 동시 구매자={}", buyers);
+        log.info("  - 분산 락 + 엔티티: {} ms, 성공 {}", distributedLock.elapsedMillis(), distributedLock.successCount());
+        log.info("  - 비관적 락: {} ms, 성공 {}", pessimisticLock.elapsedMillis(), pessimisticLock.successCount());
+        log.info("  - 조건부 UPDATE: {} ms, 성공 {}", conditionalUpdate.elapsedMillis(), conditionalUpdate.successCount());
+
+        // then: 모든 방식에서 성공한 만큼만 재고가 차감되어야 함 (분산 락은 락 대기 시간 초과로 실패할 수 있음)
+        assertAll(
+            () -> assertThat(distributedLock.completed()).isTrue(),
+            () -> assertThat(pessimisticLock.completed()).isTrue(),
+            () -> assertThat(conditionalUpdate.completed()).isTrue(),
+            () -> assertThat(distributedLock.remainingStock()).isEqualTo(buyers - distributedLock.successCount()),
+            () -> assertThat(pessimisticLock.successCount()).isEqualTo(buyers),
+            () -> assertThat(pessimisticLock.remainingStock()).isZero(),
+            () -> assertThat(conditionalUpdate.successCount()).isEqualTo(buyers),
+            () -> assertThat(conditionalUpdate.remainingStock()).isZero()
+        );
+    }
+
+    private BenchmarkResult runBenchmark(int buyers, BiConsumer<Long, Integer> decreaseStock) throws InterruptedException {
+        Long productId = productRepository.save(Product.builder()
+                .productName("벤치마크 상품")
+                .price(1000L)
+                .originalStockQuantity(buyers)
+                .stockQuantity(buyers)
+                .build()).getId();
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(buyers);
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(buyers)) {
+            for (int i = 0; i < buyers; i++) {
+                executorService.submit(() -> {
+                    try {
+                        decreaseStock.accept(productId, 1);
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                        // 락 획득 실패
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int remainingStock = productRepository.findByIdOrThrow(productId).getStockQuantity();
+        return new BenchmarkResult(completed, successCount.get(), remainingStock, elapsedMillis);
+    }
+
+    private record BenchmarkResult(boolean completed, int successCount, int remainingStock, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.hhplus_ecommerce.performance;
+
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.LockProductStockEngine;
+import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 재고 차감 요청 결합 벤치마크
+ * <p>
+ * 인기 상품 하나에 구매 요청이 몰릴 때, 요청마다 락을 잡는 방식과
+ * 요청을 모아 락 한 번, UPDATE 한 번으로 처리하는 방식의 처리량을 비교합니다.
+ */
+@Slf4j
+@TestPropertySource(properties = {
+    "product.stock.combining.enabled=true",
+    "product.stock.combining.window-ms=2",
+    "product.stock.combining.max-batch-size=200"
+})
+class ProductStockCombiningBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int BUYERS = 200;
+
+    @Autowired
+    private LockProductStockEngine lockProductStockEngine;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("벤치마크: 같은 상품 동시 구매 시 요청별 락 방식과 요청 결합 방식 비교")
+    void decreaseStock_CompareCombining() throws InterruptedException {
+        // when
+        BenchmarkResult perRequestLock = runBenchmark(BUYERS, lockProductStockEngine::decrease);
+        BenchmarkResult combined = runBenchmark(BUYERS, productStockService::decreaseStock);
+
+        log.info("[재고 차감 요청 결합 벤치마크] 동시 구매자={}", BUYERS);
+        log.info("  - 요청별 분산 락: {} ms, 성공 {}", perRequestLock.elapsedMillis(), perRequestLock.successCount());
+        log.info("  - 요청 결합: {} ms, 성공 {}", combined.elapsedMillis(), combined.successCount());
+
+        // then
+        assertAll(
+            () -> assertThat(perRequestLock.completed()).isTrue(),
+            () -> assertThat(combined.completed()).isTrue(),
+            () -> assertThat(perRequestLock.remainingStock()).isEqualTo(BUYERS - perRequestLock.successCount()),
+            () -> assertThat(combined.successCount()).isEqualTo(BUYERS),
+            () -> assertThat(combined.remainingStock()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("재고보다 많은 요청이 몰리면 재고만큼만 성공하고 나머지는 재고 부족으로 실패한다")
+    void decreaseStock_Combined_InsufficientStock() throws InterruptedException {
+        // given
+        Long productId = saveProduct(50);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(BUYERS);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(BUYERS)) {
+            for (int i = 0; i < BUYERS; i++) {
+                executorService.submit(() -> {
+                    try {
+                        productStockService.decreaseStock(productId, 1);
+                        successCount.incrementAndGet();
+                    } catch (ConflictException e) {
+                        insufficientCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(60, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(50),
+            () -> assertThat(insufficientCount.get()).isEqualTo(BUYERS - 50),
+            () -> assertThat(productRepository.findByIdOrThrow(productId).getStockQuantity()).isZero()
+        );
+    }
+
+    private BenchmarkResult runBenchmark(int buyers, BiConsumer<Long, Integer> decreaseStock) throws InterruptedException {
+        Long productId = saveProduct(buyers);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(buyers);
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(buyers)) {
+            for (int i = 0; i < buyers; i++) {
+                executorService.submit(() -> {
+                    try {
+                        decreaseStock.accept(productId, 1);
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                        // 락 획득 실패
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int remainingStock = productRepository.findByIdOrThrow(productId).getStockQuantity();
+        return new BenchmarkResult(completed, successCount.get(), remainingStock, elapsedMillis);
+    }
+
+    private Long saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .productName("벤치마크 상품")
+                .price(1000L)
+                .originalStockQuantity(stockQuantity)
+                .stockQuantity(stockQuantity)
+                .build()).getId();
+    }
+
+    private record BenchmarkResult(boolean completed, int successCount, int remainingStock, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CouponErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.coupon.application.CouponService;
+import com.example.hhplus_ecommerce.coupon.domain.Coupon;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponJdbcRepository;
+import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.IssueCouponRequest;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 쿠폰 캐시 워밍업 테스트
+ * <p>
+ * 페이지 크기보다 많은 발급 이력이 있는 쿠폰들을 병렬로 워밍업한 뒤
+ * 모든 발급 사용자가 Redis에 복원되고 진행 지표가 기록되는지 확인합니다.
+ */
+@TestPropertySource(properties = {
+    "coupon.cache.warmup.page-size=100",
+    "coupon.cache.warmup.parallelism=2"
+})
+class CouponCacheWarmUpTest extends AbstractIntegrationTest {
+
+    private static final int ISSUED_PER_COUPON = 1_050;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponJdbcRepository userCouponJdbcRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("워밍업: 키셋 페이지 단위로 모든 쿠폰의 발급 사용자를 복원")
+    void initializeAllCouponCache_RestoresAllPages() {
+        // given
+        Long firstCouponId = saveCouponWithIssuedUsers("워밍업 쿠폰 1");
+        Long secondCouponId = saveCouponWithIssuedUsers("워밍업 쿠폰 2");
+        double restoredBefore = meterRegistry.counter("coupon.cache.warmup.users").count();
+
+        // when
+        couponService.initializeAllCouponCache();
+
+        // then
+        assertAll(
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(firstCouponId)).isEqualTo(ISSUED_PER_COUPON),
+            () -> assertThat(couponIssueRedisRepository.getIssuedCount(secondCouponId)).isEqualTo(ISSUED_PER_COUPON),
+            () -> assertThat(couponIssueRedisRepository.getActiveCouponIds()).contains(firstCouponId, secondCouponId),
+            () -> assertThat(meterRegistry.counter("coupon.cache.warmup.users").count() - restoredBefore)
+                .isEqualTo(ISSUED_PER_COUPON * 2),
+            () -> assertThat(meterRegistry.get("coupon.cache.warmup.coupons.pending").gauge().value()).isZero(),
+            () -> assertThatThrownBy(() ->
+                couponService.issueCoupon((long) ISSUED_PER_COUPON, new IssueCouponRequest(firstCouponId)))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode")
+                .isEqualTo(CouponErrorCode.COUPON_ALREADY_ISSUED)
+        );
+    }
+
+    private Long saveCouponWithIssuedUsers(String name) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name(name)
+                .discountType(Coupon.DiscountType.FIXED)
+                .discountValue(1000L)
+                .totalQuantity(ISSUED_PER_COUPON * 2)
+                .issuedQuantity(ISSUED_PER_COUPON)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build());
+        List<Long> userIds = LongStream.rangeClosed(1, ISSUED_PER_COUPON).boxed().toList();
+        userCouponJdbcRepository.bulkInsertIssued(coupon.getId(), userIds);
+        return coupon.getId();
+    }
+}
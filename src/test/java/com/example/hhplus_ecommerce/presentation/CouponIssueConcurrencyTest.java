@@ -1,5 +1,6 @@
 package com.example.hhplus_ecommerce.presentation;
 
+import com.example.hhplus_ecommerce.coupon.application.CouponIssueBatchService;
 import com.example.hhplus_ecommerce.coupon.application.CouponService;
 import com.example.hhplus_ecommerce.coupon.domain.Coupon;
 import com.example.hhplus_ecommerce.user.domain.User;
@@ -52,6 +53,9 @@ class CouponIssueConcurrencyTest extends AbstractIntegrationTest {
     @Autowired
     private CouponIssueScheduler couponIssueScheduler;
 
+    @Autowired
+    private CouponIssueBatchService couponIssueBatchService;
+
     @Autowired
     private StringRedisTemplate redisTemplate;
 
@@ -314,4 +318,28 @@ class CouponIssueConcurrencyTest extends AbstractIntegrationTest {
                 () -> assertThat(remainingQueueSize).as("큐가 비어있어야 함").isEqualTo(0)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 저장 테스트: 이미 DB에 저장된 사용자와 배치 내 중복 사용자는 건너뜀")
+    void persistIssued_SkipsAlreadyIssuedAndDuplicatedUsers() {
+        // given: 첫 배치 저장
+        List<User> users = userRepository.findAll();
+        Long user1 = users.get(0).getId();
+        Long user2 = users.get(1).getId();
+        Long user3 = users.get(2).getId();
+        couponIssueBatchService.persistIssued(couponId, List.of(user1, user2));
+
+        // when: 이미 저장된 사용자와 배치 내 중복이 섞인 배치 저장
+        int persisted = couponIssueBatchService.persistIssued(couponId, List.of(user2, user3, user3));
+
+        // then
+        List<UserCoupon> userCoupons = userCouponRepository.findByCoupon_Id(couponId);
+        Coupon updatedCoupon = couponRepository.findById(couponId).orElseThrow();
+
+        assertAll(
+                () -> assertThat(persisted).as("새로 저장된 발급 수").isEqualTo(1),
+                () -> assertThat(userCoupons).as("DB에 저장된 쿠폰 수").hasSize(3),
+                () -> assertThat(updatedCoupon.getIssuedQuantity()).as("발급 수량 업데이트").isEqualTo(3)
+        );
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.coupon.application.CouponService;
+import com.example.hhplus_ecommerce.coupon.domain.Coupon;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueItem;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.ListCouponIssueQueue;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.scheduler.CouponIssueScheduler;
+import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.IssueCouponRequest;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 쿠폰 발급 신뢰성 큐 테스트
+ * <p>
+ * 1. DB 커밋 후 ACK로 처리 중 목록 정리
+ * 2. 파싱할 수 없는 항목의 데드레터 이동
+ * 3. 재시도 초과 항목의 데드레터 이동
+ * 4. 오래된 처리 중 항목 회수
+ */
+class CouponIssueReliableQueueTest extends AbstractIntegrationTest {
+
+    private static final int MAX_RETRIES = 3;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponIssueScheduler couponIssueScheduler;
+
+    @Autowired
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @Autowired
+    private ListCouponIssueQueue listCouponIssueQueue;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("신뢰성 큐 테스트 쿠폰")
+                .discountType(Coupon.DiscountType.FIXED)
+                .discountValue(1000L)
+                .totalQuantity(10)
+                .issuedQuantity(0)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build());
+        this.couponId = coupon.getId();
+        couponService.initializeCouponCache(couponId);
+
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(listCouponIssueQueue), "reliable", true);
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(couponIssueScheduler), "maxRetries", MAX_RETRIES);
+    }
+
+    @AfterEach
+    void restoreMode() {
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(listCouponIssueQueue), "reliable", false);
+    }
+
+    @Test
+    @DisplayName("저장 성공 시 DB 커밋 후 ACK되어 처리 중 목록이 비어야 함")
+    void processQueue_AcknowledgesAfterCommit() {
+        // given
+        couponService.issueCoupon(1L, new IssueCouponRequest(couponId));
+        couponService.issueCoupon(2L, new IssueCouponRequest(couponId));
+
+        // when
+        couponIssueScheduler.processQueue();
+
+        // then
+        assertAll(
+                () -> assertThat(userCouponRepository.findByCoupon_Id(couponId)).as("DB에 저장된 쿠폰 수").hasSize(2),
+                () -> assertThat(listSize("coupon:issue:queue:" + couponId)).as("발급 대기 큐").isEqualTo(0),
+                () -> assertThat(listSize("coupon:issue:processing:" + couponId)).as("처리 중 목록").isEqualTo(0),
+                () -> assertThat(couponIssueRedisRepository.getDeadLetters(couponId)).as("데드레터 큐").isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("파싱할 수 없는 항목은 재시도 없이 데드레터 큐로 이동")
+    void processQueue_PoisonRecord_MovesToDeadLetter() {
+        // given
+        String poison = "not-a-json";
+        redisTemplate.opsForList().rightPush("coupon:issue:queue:" + couponId, poison);
+
+        // when
+        couponIssueScheduler.processQueue();
+
+        // then
+        Map<String, Long> deadLetters = couponIssueRedisRepository.getDeadLetters(couponId);
+        assertAll(
+                () -> assertThat(deadLetters).as("데드레터 큐").containsEntry(poison, 1L),
+                () -> assertThat(listSize("coupon:issue:processing:" + couponId)).as("처리 중 목록").isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("저장이 계속 실패하는 항목은 최대 재시도 후 재시도 횟수와 함께 데드레터 큐로 이동")
+    void processQueue_KeepsFailing_MovesToDeadLetterWithRetryCount() {
+        // given: 존재하지 않는 쿠폰을 가리키는 항목
+        String failing = CouponIssueQueueItem.create(1L, Long.MAX_VALUE).encode();
+        redisTemplate.opsForList().rightPush("coupon:issue:queue:" + couponId, failing);
+
+        // when: 최대 재시도 횟수 + 1번 처리
+        for (int i = 0; i <= MAX_RETRIES; i++) {
+            couponIssueScheduler.processQueue();
+        }
+
+        // then
+        Map<String, Long> deadLetters = couponIssueRedisRepository.getDeadLetters(couponId);
+        assertAll(
+                () -> assertThat(deadLetters).as("데드레터 큐").containsEntry(failing, (long) MAX_RETRIES + 1),
+                () -> assertThat(listSize("coupon:issue:queue:" + couponId)).as("발급 대기 큐").isEqualTo(0),
+                () -> assertThat(listSize("coupon:issue:processing:" + couponId)).as("처리 중 목록").isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("ACK되지 않은 오래된 처리 중 항목은 발급 대기 큐로 회수")
+    void reclaimStale_ReturnsInFlightItemsToQueue() {
+        // given: 항목을 처리 중 목록으로 옮긴 뒤 ACK 없이 종료된 상황
+        couponService.issueCoupon(1L, new IssueCouponRequest(couponId));
+        List<String> claimed = couponIssueRedisRepository.claimBatch(couponId, 10);
+
+        // when
+        long reclaimed = couponIssueRedisRepository.reclaimStale(couponId, Duration.ZERO);
+
+        // then
+        assertAll(
+                () -> assertThat(claimed).hasSize(1),
+                () -> assertThat(reclaimed).as("회수된 항목 수").isEqualTo(1),
+                () -> assertThat(listSize("coupon:issue:queue:" + couponId)).as("발급 대기 큐").isEqualTo(1),
+                () -> assertThat(listSize("coupon:issue:processing:" + couponId)).as("처리 중 목록").isEqualTo(0)
+        );
+    }
+
+    private long listSize(String key) {
+        Long size = redisTemplate.opsForList().size(key);
+        return size != null ? size : 0L;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.coupon.application.CouponService;
+import com.example.hhplus_ecommerce.coupon.domain.Coupon;
+import com.example.hhplus_ecommerce.coupon.infrastructure.dto.CouponIssueQueueMessage;
+import com.example.hhplus_ecommerce.coupon.infrastructure.redis.CouponIssueRedisRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.CouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.repository.UserCouponRepository;
+import com.example.hhplus_ecommerce.coupon.infrastructure.scheduler.CouponIssueScheduler;
+import com.example.hhplus_ecommerce.coupon.presentaion.dto.CouponDto.IssueCouponRequest;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 쿠폰 발급 Stream 백엔드 테스트
+ * <p>
+ * 1. 발급 요청이 스트림에 추가되고 스케줄러가 DB에 저장한 뒤 ACK
+ * 2. 같은 컨슈머 그룹의 컨슈머들이 항목을 나누어 받음
+ * 3. ACK되지 않은 항목의 XAUTOCLAIM 회수
+ * 4. 컨슈머 그룹 기준 백로그 (lag + pending)
+ */
+@TestPropertySource(properties = "coupon.issue.queue.backend=stream")
+class CouponIssueStreamQueueTest extends AbstractIntegrationTest {
+
+    private static final String GROUP = "coupon-issue";
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponIssueScheduler couponIssueScheduler;
+
+    @Autowired
+    private CouponIssueRedisRepository couponIssueRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+                .name("스트림 테스트 쿠폰")
+                .discountType(Coupon.DiscountType.FIXED)
+                .discountValue(1000L)
+                .totalQuantity(100)
+                .issuedQuantity(0)
+                .validFrom(LocalDateTime.now())
+                .validUntil(LocalDateTime.now().plusDays(1))
+                .build());
+        this.couponId = coupon.getId();
+        couponService.initializeCouponCache(couponId);
+    }
+
+    @Test
+    @DisplayName("발급 요청이 스트림에 추가되고, 스케줄러가 DB에 저장한 뒤 스트림에서 제거")
+    void processQueue_PersistsAndAcknowledges() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            couponService.issueCoupon(userId, new IssueCouponRequest(couponId));
+        }
+        assertThat(couponIssueRedisRepository.getQueueSize(couponId)).as("스트림 길이").isEqualTo(5);
+
+        // when
+        couponIssueScheduler.processQueue();
+
+        // then
+        assertAll(
+                () -> assertThat(userCouponRepository.findByCoupon_Id(couponId)).as("DB에 저장된 쿠폰 수").hasSize(5),
+                () -> assertThat(couponIssueRedisRepository.getQueueSize(couponId)).as("스트림 길이").isEqualTo(0),
+                () -> assertThat(couponIssueRedisRepository.getStreamPendingCount(couponId, GROUP)).as("대기 목록").isEqualTo(0)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 컨슈머 그룹의 두 컨슈머는 서로 다른 항목을 나누어 받음")
+    void readStreamGroup_SplitsEntriesAcrossConsumers() {
+        // given
+        for (long userId = 1; userId <= 10; userId++) {
+            couponService.issueCoupon(userId, new IssueCouponRequest(couponId));
+        }
+
+        // when
+        List<CouponIssueQueueMessage> nodeA = couponIssueRedisRepository.readStreamGroup(couponId, GROUP, "node-a", 5, null);
+        List<CouponIssueQueueMessage> nodeB = couponIssueRedisRepository.readStreamGroup(couponId, GROUP, "node-b", 10, null);
+
+        // then
+        assertAll(
+                () -> assertThat(nodeA).hasSize(5),
+                () -> assertThat(nodeB).hasSize(5),
+                () -> assertThat(nodeA).doesNotContainAnyElementsOf(nodeB),
+                () -> assertThat(couponIssueRedisRepository.getStreamPendingCount(couponId, GROUP)).as("대기 목록").isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("그룹 백로그는 미전달 항목과 ACK되지 않은 항목을 세고, ACK된 항목은 빠짐")
+    void getStreamBacklog_CountsLagAndPending() {
+        // given
+        for (long userId = 1; userId <= 10; userId++) {
+            couponService.issueCoupon(userId, new IssueCouponRequest(couponId));
+        }
+
+        // when
+        List<CouponIssueQueueMessage> read = couponIssueRedisRepository.readStreamGroup(couponId, GROUP, "node-a", 4, null);
+        long beforeAck = couponIssueRedisRepository.getStreamBacklog(couponId, GROUP);
+        couponIssueRedisRepository.acknowledgeStream(couponId, GROUP, read.subList(0, 2));
+        long afterAck = couponIssueRedisRepository.getStreamBacklog(couponId, GROUP);
+
+        // then
+        assertAll(
+                () -> assertThat(beforeAck).as("lag 6 + pending 4").isEqualTo(10),
+                () -> assertThat(afterAck).as("lag 6 + pending 2").isEqualTo(8),
+                () -> assertThat(couponIssueRedisRepository.getStreamBacklog(couponId, "unknown-group"))
+                        .as("그룹이 없으면 스트림 길이").isEqualTo(8)
+        );
+    }
+
+    @Test
+    @DisplayName("ACK되지 않은 항목은 XAUTOCLAIM으로 회수되어 다시 읽을 수 있음")
+    void reclaimStaleStream_RedeliversUnacknowledgedEntries() {
+        // given: node-a가 읽은 뒤 ACK 없이 종료된 상황
+        couponService.issueCoupon(1L, new IssueCouponRequest(couponId));
+        couponIssueRedisRepository.readStreamGroup(couponId, GROUP, "node-a", 10, null);
+
+        // when
+        long reclaimed = couponIssueRedisRepository.reclaimStaleStream(couponId, GROUP, "node-b", Duration.ZERO, 100);
+        List<CouponIssueQueueMessage> redelivered = couponIssueRedisRepository.readStreamGroup(couponId, GROUP, "node-b", 10, null);
+
+        // then
+        assertAll(
+                () -> assertThat(reclaimed).as("회수된 항목 수").isEqualTo(1),
+                () -> assertThat(redelivered).as("다시 읽은 항목").hasSize(1)
+        );
+    }
+}
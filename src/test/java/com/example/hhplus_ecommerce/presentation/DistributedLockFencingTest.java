@@ -0,0 +1,145 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.CommonErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.LockProductStockEngine;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import com.example.hhplus_ecommerce.user.application.UserPointService;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.ChargePointRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 분산 락 펜싱 토큰 테스트
+ */
+@TestPropertySource(properties = "lock.fencing.enabled=true")
+class DistributedLockFencingTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private LockProductStockEngine lockProductStockEngine;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("펜싱 락으로 쓸 때마다 저장된 펜싱 토큰이 증가한다")
+    void fencedWrite_AdvancesFenceToken() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        Long productId = saveProduct(10);
+
+        // when
+        userPointService.chargePoint(userId, new ChargePointRequest(1000L));
+        userPointService.chargePoint(userId, new ChargePointRequest(1000L));
+        lockProductStockEngine.decrease(productId, 1);
+        lockProductStockEngine.decrease(productId, 1);
+        lockProductStockEngine.increase(productId, 1);
+
+        // then
+        User user = userRepository.findByIdOrThrow(userId);
+        Product product = productRepository.findByIdOrThrow(productId);
+        assertAll(
+            () -> assertThat(user.getPoint()).isEqualTo(2000L),
+            () -> assertThat(user.getFenceToken()).isEqualTo(2L),
+            () -> assertThat(product.getStockQuantity()).isEqualTo(9),
+            () -> assertThat(product.getFenceToken()).isEqualTo(3L)
+        );
+    }
+
+    @Test
+    @DisplayName("더 큰 펜싱 토큰이 이미 저장되어 있으면 늦게 도착한 쓰기는 거부된다")
+    void fencedWrite_StaleToken_Rejected() {
+        // given: 더 최신 락 보유자가 먼저 쓴 상황
+        Long userId = userRepository.save(User.builder().build()).getId();
+        Long productId = saveProduct(10);
+        userRepository.advanceFenceToken(userId, 1000L);
+        productRepository.advanceFenceToken(productId, 1000L);
+
+        // when & then
+        assertAll(
+            () -> assertThatThrownBy(() -> userPointService.chargePoint(userId, new ChargePointRequest(1000L)))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode").isEqualTo(CommonErrorCode.STALE_LOCK_TOKEN),
+            () -> assertThatThrownBy(() -> lockProductStockEngine.decrease(productId, 1))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode").isEqualTo(CommonErrorCode.STALE_LOCK_TOKEN),
+            () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isZero(),
+            () -> assertThat(productRepository.findByIdOrThrow(productId).getStockQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("멀티 락 일괄 차감도 상품마다 펜싱 토큰을 갱신하고, 하나라도 늦은 토큰이면 전체가 거부된다")
+    void fencedMultiLockWrite_StaleToken_Rejected() {
+        // given
+        Long productId1 = saveProduct(10);
+        Long productId2 = saveProduct(10);
+        List<StockReservation> reservations = List.of(
+            new StockReservation(productId1, 1),
+            new StockReservation(productId2, 1)
+        );
+        lockProductStockEngine.reserveAll(reservations);
+        long fenceToken = productRepository.findByIdOrThrow(productId1).getFenceToken();
+        productRepository.advanceFenceToken(productId2, 1000L);
+
+        // when & then
+        assertAll(
+            () -> assertThat(fenceToken).isPositive(),
+            () -> assertThatThrownBy(() -> lockProductStockEngine.reserveAll(reservations))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode").isEqualTo(CommonErrorCode.STALE_LOCK_TOKEN),
+            () -> assertThat(productRepository.findByIdOrThrow(productId1).getStockQuantity()).isEqualTo(9),
+            () -> assertThat(productRepository.findByIdOrThrow(productId1).getFenceToken()).isEqualTo(fenceToken),
+            () -> assertThat(productRepository.findByIdOrThrow(productId2).getStockQuantity()).isEqualTo(9)
+        );
+    }
+
+    @Test
+    @DisplayName("Redis 카운터가 DB 토큰보다 뒤처지면 한 번 거부된 뒤 카운터가 복구되어 다음 쓰기는 성공한다")
+    void fencedWrite_CounterBehindStoredToken_RecoversAfterRejection() {
+        // given: Redis 카운터가 유실되어 DB에 저장된 토큰보다 작은 값부터 다시 시작하는 상황
+        Long productId = saveProduct(10);
+        productRepository.advanceFenceToken(productId, 1000L);
+
+        // when
+        assertThatThrownBy(() -> lockProductStockEngine.decrease(productId, 1))
+            .isInstanceOf(ConflictException.class)
+            .extracting("errorCode").isEqualTo(CommonErrorCode.STALE_LOCK_TOKEN);
+        lockProductStockEngine.decrease(productId, 1);
+
+        // then
+        Product product = productRepository.findByIdOrThrow(productId);
+        assertAll(
+            () -> assertThat(product.getStockQuantity()).isEqualTo(9),
+            () -> assertThat(product.getFenceToken()).isEqualTo(1001L)
+        );
+    }
+
+    private Long saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .productName("펜싱 테스트 상품")
+                .price(1000L)
+                .originalStockQuantity(stockQuantity)
+                .stockQuantity(stockQuantity)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.infrastructure.idempotency.IdempotencyAspect;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.ChargePointRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Idempotency-Key 멱등 처리 테스트
+ */
+class IdempotencyTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 한 번만 충전하고 첫 응답을 그대로 돌려준다")
+    void chargePoint_SameKey_ReplaysResponse() throws Exception {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+
+        // when
+        charge(userId, "charge-1", 1000L)
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(IdempotencyAspect.REPLAYED_HEADER));
+        charge(userId, "charge-1", 1000L)
+            .andExpect(status().isOk())
+            .andExpect(header().string(IdempotencyAspect.REPLAYED_HEADER, "true"))
+            .andExpect(jsonPath("$.userId").value(userId))
+            .andExpect(jsonPath("$.point").value(1000));
+
+        // then
+        assertAll(
+            () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isEqualTo(1000L),
+            () -> assertThat(pointHistoryRepository.findByUserId(userId)).hasSize(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거절한다")
+    void chargePoint_SameKeyDifferentBody_Rejected() throws Exception {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        charge(userId, "charge-2", 1000L).andExpect(status().isOk());
+
+        // when & then
+        charge(userId, "charge-2", 5000L)
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+        assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 하나만 실행된다")
+    void chargePoint_ConcurrentDuplicates_ExecutedOnce() throws InterruptedException {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        int requestCount = 20;
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+        AtomicInteger okCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+            for (int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        ready.await();
+                        int status = charge(userId, "charge-3", 1000L).andReturn().getResponse().getStatus();
+                        if (status == 200) {
+                            okCount.incrementAndGet();
+                        } else if (status == 409) {
+                            conflictCount.incrementAndGet();
+                        }
+                    } catch (Exception ignored) {
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.countDown();
+        }
+        done.await(30, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+            () -> assertThat(okCount.get() + conflictCount.get()).isEqualTo(requestCount),
+            () -> assertThat(okCount.get()).isGreaterThanOrEqualTo(1),
+            () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isEqualTo(1000L)
+        );
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않으므로 같은 키로 다시 실행된다")
+    void chargePoint_Failure_ReleasesKey() throws Exception {
+        // given
+        Long missingUserId = 999_999L;
+
+        // when & then: 두 번째 요청도 처리 중(409)이 아니라 다시 실행되어 404
+        charge(missingUserId, "charge-4", 1000L).andExpect(status().isNotFound());
+        charge(missingUserId, "charge-4", 1000L).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 키는 거절한다")
+    void chargePoint_InvalidKey_Rejected() throws Exception {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+
+        // when & then
+        charge(userId, "invalid key", 1000L)
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("INVALID_IDEMPOTENCY_KEY"));
+        assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isZero();
+    }
+
+    private ResultActions charge(Long userId, String idempotencyKey, long amount) throws Exception {
+        return mockMvc.perform(post("/api/v1/users/{userId}/points/charge", userId)
+            .header(IdempotencyAspect.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new ChargePointRequest(amount))));
+    }
+}
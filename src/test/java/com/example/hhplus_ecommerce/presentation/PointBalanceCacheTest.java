@@ -0,0 +1,173 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.application.PointBalanceCache;
+import com.example.hhplus_ecommerce.user.application.UserPointService;
+import com.example.hhplus_ecommerce.user.application.UserService;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.redis.PointBalanceRedisRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.ChargePointRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 포인트 잔액 2단계 캐시 테스트
+ */
+@TestPropertySource(properties = {
+    "user.point.cache.enabled=true",
+    "user.point.cache.local-ttl-ms=60000"
+})
+class PointBalanceCacheTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointBalanceCache pointBalanceCache;
+
+    @Autowired
+    private PointBalanceRedisRepository pointBalanceRedisRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 테이블 초기화로 사용자 ID가 재사용되므로 이전 테스트의 로컬 캐시를 비움
+        pointBalanceCache.clearLocal();
+    }
+
+    @Test
+    @DisplayName("반복 조회는 캐시에서 응답하고, 충전·사용·복구 직후에는 새 잔액이 조회된다")
+    void getPoint_CachedUntilBalanceChanges() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId, new ChargePointRequest(5000L));
+        userService.getPoint(userId);
+
+        // when: 서비스를 거치지 않은 DB 변경은 캐시에 가려짐
+        setPointDirectly(userId, 10_000L);
+        long cached = userService.getPoint(userId).point();
+
+        userPointService.usePoint(userId, 1L, 3000L);
+        long afterUse = userService.getPoint(userId).point();
+        userPointService.refundPoint(userId, 1000L);
+        long afterRefund = userService.getPoint(userId).point();
+        userPointService.chargePoint(userId, new ChargePointRequest(2000L));
+        long afterCharge = userService.getPoint(userId).point();
+
+        // then
+        assertAll(
+            () -> assertThat(cached).isEqualTo(5000L),
+            () -> assertThat(afterUse).isEqualTo(7000L),
+            () -> assertThat(afterRefund).isEqualTo(8000L),
+            () -> assertThat(afterCharge).isEqualTo(10_000L)
+        );
+    }
+
+    @Test
+    @DisplayName("로컬 캐시가 비어 있으면 Redis 캐시에서 응답하고 적중 지표가 기록된다")
+    void getPoint_FallsBackToRedis() {
+        // given
+        Long userId = userRepository.save(User.builder().point(3000L).build()).getId();
+        userService.getPoint(userId);
+        setPointDirectly(userId, 9000L);
+        pointBalanceCache.clearLocal();
+        double redisHitsBefore = requestCount("redis");
+
+        // when
+        long point = userService.getPoint(userId).point();
+
+        // then
+        assertAll(
+            () -> assertThat(point).isEqualTo(3000L),
+            () -> assertThat(requestCount("redis")).isEqualTo(redisHitsBefore + 1),
+            () -> assertThat(pointBalanceCache.hitRatio()).isPositive()
+        );
+    }
+
+    @Test
+    @DisplayName("다른 노드가 발행한 무효화 이벤트를 받으면 로컬 캐시를 비운다")
+    void onInvalidation_EvictsLocal() {
+        // given
+        Long userId = userRepository.save(User.builder().point(3000L).build()).getId();
+        userService.getPoint(userId);
+
+        // when: 다른 노드에서 잔액이 바뀌고 Redis 캐시 삭제 후 이벤트를 발행한 상황
+        setPointDirectly(userId, 4000L);
+        pointBalanceRedisRepository.invalidate(userId, Duration.ofMinutes(10));
+        stringRedisTemplate.convertAndSend(PointBalanceRedisRepository.INVALIDATE_CHANNEL,
+            userId + ":" + System.currentTimeMillis());
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> assertThat(userService.getPoint(userId).point()).isEqualTo(4000L));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경으로 세대가 바뀌면 무효화 이벤트가 오지 않아도 로컬 캐시 대신 새 잔액을 조회한다")
+    void getPoint_GenerationChangedWithoutEvent_ReadsNewBalance() {
+        // given
+        Long userId = userRepository.save(User.builder().point(3000L).build()).getId();
+        userService.getPoint(userId);
+
+        // when: 다른 노드에서 잔액이 바뀌고 세대만 올라간 상황 (이벤트 유실)
+        setPointDirectly(userId, 4000L);
+        pointBalanceRedisRepository.invalidate(userId, Duration.ofMinutes(10));
+
+        // then
+        assertThat(userService.getPoint(userId).point()).isEqualTo(4000L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중 잔액 변경이 커밋되면 읽은 값은 Redis 캐시에 저장하지 않는다")
+    void get_InvalidatedDuringLoad_NotStoredInRedis() {
+        // given
+        Long userId = userRepository.save(User.builder().point(3000L).build()).getId();
+
+        // when: 이전 잔액을 읽은 직후 다른 요청의 변경이 커밋되어 무효화된 상황
+        long loaded = pointBalanceCache.get(userId, () -> {
+            pointBalanceRedisRepository.invalidate(userId, Duration.ofMinutes(10));
+            return 3000L;
+        });
+
+        // then
+        assertAll(
+            () -> assertThat(loaded).isEqualTo(3000L),
+            () -> assertThat(pointBalanceRedisRepository.getBalance(userId)).isNull()
+        );
+    }
+
+    private void setPointDirectly(Long userId, long point) {
+        jdbcTemplate.update("UPDATE `user` SET point = ? WHERE id = ?", point, userId);
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.find("point.balance.cache.requests").tag("result", result).counter().count();
+    }
+}
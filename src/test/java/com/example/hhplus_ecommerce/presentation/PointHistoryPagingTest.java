@@ -0,0 +1,95 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.application.UserService;
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointHistoryPageResponse;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointHistoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 포인트 이력 키셋 페이지 조회 테스트
+ */
+class PointHistoryPagingTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Test
+    @DisplayName("커서로 이어서 조회하면 모든 이력을 최신순으로 중복 없이 한 번씩 조회한다")
+    void getPointHistoryPage_WalkAllPages() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        Long otherUserId = userRepository.save(User.builder().build()).getId();
+        saveHistories(userId, 25);
+        saveHistories(otherUserId, 3);
+
+        // when
+        List<Long> ids = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        PointHistoryPageResponse page;
+        do {
+            page = userService.getPointHistoryPage(userId, cursor, 10);
+            page.items().forEach(item -> ids.add(item.pointHistoryId()));
+            pageSizes.add(page.items().size());
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        // then
+        List<Long> expected = pointHistoryRepository.findByUserId(userId).stream()
+                .map(PointHistory::getId)
+                .sorted((a, b) -> Long.compare(b, a))
+                .toList();
+        assertAll(
+                () -> assertThat(pageSizes).containsExactly(10, 10, 5),
+                () -> assertThat(ids).containsExactlyElementsOf(expected)
+        );
+    }
+
+    @Test
+    @DisplayName("전체 이력 내보내기는 페이지 단위로 모든 이력을 전달한다")
+    void forEachPointHistoryPage_AllRows() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        saveHistories(userId, 30);
+
+        // when
+        List<PointHistoryResponse> exported = new ArrayList<>();
+        userService.forEachPointHistoryPage(userId, exported::addAll);
+
+        // then
+        assertThat(exported).hasSize(30)
+                .extracting(PointHistoryResponse::userId)
+                .containsOnly(userId);
+    }
+
+    private void saveHistories(Long userId, int count) {
+        pointHistoryRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(i -> PointHistory.builder()
+                        .userId(userId)
+                        .transactionType(PointHistory.TransactionType.CHARGE)
+                        .amount(1000L)
+                        .balanceAfter(1000L * (i + 1))
+                        .build())
+                .toList());
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.redis.ProductStockRedisRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.scheduler.ProductStockFlushScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * Redis 재고 엔진 테스트
+ * <p>
+ * 1. 동시 차감 시 재고만큼만 성공하고, 쓰기 지연 반영 후 DB 재고가 일치
+ * 2. 여러 상품 일괄 차감은 모두 차감되거나 하나도 차감되지 않음
+ * 3. 시작 시 정합성 맞춤: Redis 재고는 DB에 반영, 캐시가 없는 상품은 DB 재고로 초기화
+ */
+@TestPropertySource(properties = "product.stock.engine=redis")
+class ProductStockRedisEngineTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductStockRedisRepository productStockRedisRepository;
+
+    @Autowired
+    private ProductStockFlushScheduler productStockFlushScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("동시성 테스트: 재고 50개 상품에 100명이 동시에 차감 요청 시 50명만 성공하고 반영 후 DB 재고는 0")
+    void decreaseStock_ConcurrentRequests_FlushesToDatabase() throws InterruptedException {
+        // given
+        Long productId = saveProduct(50).getId();
+        int threadCount = 100;
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        productStockService.decreaseStock(productId, 1);
+                        successCount.incrementAndGet();
+                    } catch (ConflictException e) {
+                        if (e.getErrorCode() == ProductErrorCode.INSUFFICIENT_STOCK) {
+                            insufficientCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        Integer dbStockBeforeFlush = productRepository.findByIdOrThrow(productId).getStockQuantity();
+
+        productStockFlushScheduler.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(50),
+            () -> assertThat(insufficientCount.get()).isEqualTo(50),
+            () -> assertThat(productStockRedisRepository.getStock(productId)).isZero(),
+            () -> assertThat(dbStockBeforeFlush).as("반영 전 DB 재고").isEqualTo(50),
+            () -> assertThat(productRepository.findByIdOrThrow(productId).getStockQuantity()).as("반영 후 DB 재고").isZero(),
+            () -> assertThat(productStockRedisRepository.getDirtyCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("복구: 차감 후 복구하면 Redis 재고가 원복되고 DB에 반영")
+    void increaseStock_RestoresStock() {
+        // given
+        Long productId = saveProduct(10).getId();
+        productStockService.decreaseStock(productId, 3);
+
+        // when
+        productStockService.increaseStock(productId, 3);
+        productStockFlushScheduler.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(productStockRedisRepository.getStock(productId)).isEqualTo(10),
+            () -> assertThat(productRepository.findByIdOrThrow(productId).getStockQuantity()).isEqualTo(10)
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 하나라도 재고가 부족하면 Redis 재고가 하나도 차감되지 않음")
+    void decreaseStocks_InsufficientStock_DeductsNothing() {
+        // given
+        Long firstProductId = saveProduct(10).getId();
+        Long secondProductId = saveProduct(1).getId();
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.decreaseStocks(List.of(
+                new StockReservation(firstProductId, 3),
+                new StockReservation(secondProductId, 2))))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+
+        assertAll(
+            () -> assertThat(productStockRedisRepository.getStock(firstProductId)).isEqualTo(10),
+            () -> assertThat(productStockRedisRepository.getStock(secondProductId)).isEqualTo(1),
+            () -> assertThat(productStockRedisRepository.getDirtyCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("정합성 맞춤: Redis 재고가 있는 상품은 DB에 반영하고, 없는 상품은 DB 재고로 초기화")
+    void reconcile_SyncsRedisAndDatabase() {
+        // given: 반영 전에 종료되어 Redis에만 남은 재고와 캐시가 없는 상품
+        Long cachedProductId = saveProduct(100).getId();
+        Long uncachedProductId = saveProduct(30).getId();
+        productStockRedisRepository.initializeStockIfAbsent(cachedProductId, 70);
+
+        // when
+        productStockFlushScheduler.reconcile();
+
+        // then
+        assertAll(
+            () -> assertThat(productRepository.findByIdOrThrow(cachedProductId).getStockQuantity()).isEqualTo(70),
+            () -> assertThat(productStockRedisRepository.getStock(cachedProductId)).isEqualTo(70),
+            () -> assertThat(productStockRedisRepository.getStock(uncachedProductId)).isEqualTo(30)
+        );
+    }
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .productName("재고 테스트 상품")
+                .price(1000L)
+                .originalStockQuantity(stockQuantity)
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 여러 상품 재고 일괄 차감 테스트 (분산 락 엔진)
+ * <p>
+ * 1. 하나라도 재고가 부족하면 어떤 상품도 차감되지 않음
+ * 2. 상품 순서가 다른 장바구니가 동시에 차감되어도 교착 상태 없이 재고만큼만 성공
+ */
+class ProductStockReserveAllTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("일괄 차감: 하나라도 재고가 부족하면 모든 상품의 재고가 그대로 유지")
+    void decreaseStocks_InsufficientStock_DeductsNothing() {
+        // given
+        Long firstProductId = saveProduct(10).getId();
+        Long secondProductId = saveProduct(1).getId();
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.decreaseStocks(List.of(
+                new StockReservation(firstProductId, 3),
+                new StockReservation(secondProductId, 2))))
+                .isInstanceOf(ConflictException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+
+        assertAll(
+                () -> assertThat(productRepository.findByIdOrThrow(firstProductId).getStockQuantity()).isEqualTo(10),
+                () -> assertThat(productRepository.findByIdOrThrow(secondProductId).getStockQuantity()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 차감 후 일괄 복구하면 재고가 원복")
+    void increaseStocks_RestoresAllProducts() {
+        // given
+        Long firstProductId = saveProduct(10).getId();
+        Long secondProductId = saveProduct(5).getId();
+        List<StockReservation> reservations = List.of(
+                new StockReservation(firstProductId, 3),
+                new StockReservation(secondProductId, 2),
+                new StockReservation(firstProductId, 1));
+
+        // when
+        productStockService.decreaseStocks(reservations);
+        Integer firstAfterDecrease = productRepository.findByIdOrThrow(firstProductId).getStockQuantity();
+        productStockService.increaseStocks(reservations);
+
+        // then
+        assertAll(
+                () -> assertThat(firstAfterDecrease).as("같은 상품 수량 합산 차감").isEqualTo(6),
+                () -> assertThat(productRepository.findByIdOrThrow(firstProductId).getStockQuantity()).isEqualTo(10),
+                () -> assertThat(productRepository.findByIdOrThrow(secondProductId).getStockQuantity()).isEqualTo(5)
+        );
+    }
+
+    @Test
+    @DisplayName("동시성 테스트: 상품 순서가 다른 장바구니 20개가 동시에 차감 요청 시 재고 10개만큼만 성공")
+    void decreaseStocks_ConcurrentCarts_NoDeadlockAndNoOversell() throws InterruptedException {
+        // given
+        Long firstProductId = saveProduct(10).getId();
+        Long secondProductId = saveProduct(10).getId();
+        int threadCount = 20;
+        AtomicInteger successCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(threadCount)) {
+            for (int i = 0; i < threadCount; i++) {
+                List<StockReservation> cart = i % 2 == 0
+                        ? List.of(new StockReservation(firstProductId, 1), new StockReservation(secondProductId, 1))
+                        : List.of(new StockReservation(secondProductId, 1), new StockReservation(firstProductId, 1));
+                executorService.submit(() -> {
+                    try {
+                        productStockService.decreaseStocks(cart);
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                        // 재고 부족 또는 락 획득 실패
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(30, TimeUnit.SECONDS);
+
+        // then
+        int firstStock = productRepository.findByIdOrThrow(firstProductId).getStockQuantity();
+        int secondStock = productRepository.findByIdOrThrow(secondProductId).getStockQuantity();
+        assertAll(
+                () -> assertThat(successCount.get()).isLessThanOrEqualTo(10),
+                () -> assertThat(firstStock).isEqualTo(10 - successCount.get()),
+                () -> assertThat(secondStock).isEqualTo(10 - successCount.get())
+        );
+    }
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .productName("일괄 차감 테스트 상품")
+                .price(1000L)
+                .originalStockQuantity(stockQuantity)
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
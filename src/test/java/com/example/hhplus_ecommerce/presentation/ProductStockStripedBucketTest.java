@@ -0,0 +1,169 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.ProductErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.product.application.ProductStockService;
+import com.example.hhplus_ecommerce.product.domain.Product;
+import com.example.hhplus_ecommerce.product.domain.StockReservation;
+import com.example.hhplus_ecommerce.product.infrastructure.redis.ProductStockRedisRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.repository.ProductRepository;
+import com.example.hhplus_ecommerce.product.infrastructure.scheduler.ProductStockFlushScheduler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 분할 재고 버킷 테스트
+ * <p>
+ * 1. 동시 차감 시 버킷 합계 기준으로 재고만큼만 성공하고, 반영 후 DB 재고와 일치
+ * 2. 한 버킷으로 부족한 수량은 여러 버킷에서 나누어 차감하고, 합계도 부족하면 하나도 차감하지 않음
+ * 3. 일부 버킷만 유실되면 DB 재고로 다시 나누지 않고 없는 버킷만 0으로 채움
+ * 4. 여러 상품 일괄 차감/복구는 상품별로 처리하고, 하나라도 실패하면 이미 차감한 상품을 복구
+ */
+@TestPropertySource(properties = {
+    "product.stock.engine=redis",
+    "product.stock.redis.bucket-count=4"
+})
+class ProductStockStripedBucketTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductStockRedisRepository productStockRedisRepository;
+
+    @Autowired
+    private ProductStockFlushScheduler productStockFlushScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("동시성 테스트: 재고 100개를 4개 버킷으로 나눈 상품에 200명이 동시에 차감 요청 시 100명만 성공")
+    void decreaseStock_ConcurrentRequests_ConsistentTotal() throws InterruptedException {
+        // given
+        Long productId = saveProduct(100).getId();
+        int threadCount = 200;
+        AtomicInteger successCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        productStockService.decreaseStock(productId, 1);
+                        successCount.incrementAndGet();
+                    } catch (ConflictException ignored) {
+                        // 재고 부족
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        productStockFlushScheduler.flush();
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isEqualTo(100),
+            () -> assertThat(productStockRedisRepository.getStock(productId)).isZero(),
+            () -> assertThat(productRepository.findByIdOrThrow(productId).getStockQuantity()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("나누어 차감: 버킷마다 2개씩인 상품에서 5개 차감은 성공하고, 남은 3개보다 많은 4개 차감은 실패")
+    void decreaseStock_SplitsAcrossBuckets() {
+        // given
+        Long productId = saveProduct(8).getId();
+
+        // when
+        productStockService.decreaseStock(productId, 5);
+
+        // then
+        assertThat(productStockRedisRepository.getStock(productId)).isEqualTo(3);
+        assertThatThrownBy(() -> productStockService.decreaseStock(productId, 4))
+            .isInstanceOf(ConflictException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+        assertThat(productStockRedisRepository.getStock(productId)).as("실패 시 가져온 수량 복구").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("버킷 초기화: 일부 버킷만 없으면 뒤처진 DB 재고로 다시 나누지 않고 없는 버킷만 0으로 채운다")
+    void initializeStock_PartiallyMissingBuckets_FilledWithZero() {
+        // given: 버킷마다 2개씩, 5개 차감 후 DB 반영 전에 버킷 하나가 유실된 상황
+        Long productId = saveProduct(8).getId();
+        productStockService.decreaseStock(productId, 5);
+        int remaining = productStockRedisRepository.getStock(productId);
+        String lostBucket = "product:stock:" + productId + ":0";
+        int lostStock = Integer.parseInt(redisTemplate.opsForValue().get(lostBucket));
+        redisTemplate.delete(lostBucket);
+
+        // when
+        boolean initialized = productStockRedisRepository.initializeStockIfAbsent(productId, 8);
+
+        // then
+        assertAll(
+            () -> assertThat(initialized).isFalse(),
+            () -> assertThat(productStockRedisRepository.getStock(productId)).isEqualTo(remaining - lostStock)
+        );
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 한 상품이라도 부족하면 이미 차감한 상품을 복구하고, 성공한 일괄 차감은 일괄 복구로 되돌린다")
+    void decreaseStocks_OneInsufficient_RestoresReserved() {
+        // given
+        Long productId1 = saveProduct(8).getId();
+        Long productId2 = saveProduct(2).getId();
+
+        // when & then
+        assertThatThrownBy(() -> productStockService.decreaseStocks(List.of(
+            new StockReservation(productId1, 5), new StockReservation(productId2, 3))))
+            .isInstanceOf(ConflictException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+        assertThat(productStockRedisRepository.getStocks(List.of(productId1, productId2)))
+            .as("실패 시 차감한 상품 복구")
+            .containsEntry(productId1, 8)
+            .containsEntry(productId2, 2);
+
+        List<StockReservation> reservations = List.of(
+            new StockReservation(productId1, 5), new StockReservation(productId2, 2));
+        productStockService.decreaseStocks(reservations);
+        assertThat(productStockRedisRepository.getStocks(List.of(productId1, productId2)))
+            .containsEntry(productId1, 3)
+            .containsEntry(productId2, 0);
+
+        productStockService.increaseStocks(reservations);
+        assertThat(productStockRedisRepository.getStocks(List.of(productId1, productId2)))
+            .containsEntry(productId1, 8)
+            .containsEntry(productId2, 2);
+    }
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .productName("분할 재고 테스트 상품")
+                .price(1000L)
+                .originalStockQuantity(stockQuantity)
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
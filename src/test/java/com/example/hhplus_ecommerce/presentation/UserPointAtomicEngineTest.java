@@ -0,0 +1,136 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.errorCode.PointErrorCode;
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.application.UserPointService;
+import com.example.hhplus_ecommerce.user.domain.PointHistory;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.PointHistoryRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.ChargePointRequest;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.PointResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 조건부 UPDATE 포인트 엔진 테스트
+ */
+@TestPropertySource(properties = "user.point.engine=atomic")
+class UserPointAtomicEngineTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Test
+    @DisplayName("동시 충전 100건이 모두 반영되고, 이력의 잔액은 UPDATE 결과로 1000원 단위가 하나씩 기록된다")
+    void chargePoint_Concurrent_BalanceAfterFromRow() throws InterruptedException {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        int chargeCount = 100;
+        CountDownLatch latch = new CountDownLatch(chargeCount);
+
+        // when
+        try (ExecutorService executorService = Executors.newFixedThreadPool(32)) {
+            for (int i = 0; i < chargeCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        userPointService.chargePoint(userId, new ChargePointRequest(1000L));
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(30, TimeUnit.SECONDS);
+
+        // then
+        List<Long> balances = pointHistoryRepository.findAll().stream()
+                .filter(history -> history.getUserId().equals(userId))
+                .map(PointHistory::getBalanceAfter)
+                .toList();
+        assertAll(
+                () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isEqualTo(100_000L),
+                () -> assertThat(balances).containsExactlyInAnyOrderElementsOf(
+                        LongStream.rangeClosed(1, chargeCount).map(i -> i * 1000L).boxed().toList())
+        );
+    }
+
+    @Test
+    @DisplayName("동시 사용 요청은 잔액만큼만 성공하고, 사용 이력은 USE로 기록된다")
+    void usePoint_Concurrent_OnlyUpToBalance() throws InterruptedException {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId, new ChargePointRequest(10_000L));
+        int requestCount = 30;
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        // when: 1000원씩 30번 사용 (잔액 10,000원)
+        try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+            for (int i = 0; i < requestCount; i++) {
+                long orderId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        userPointService.usePoint(userId, orderId, 1000L);
+                        successCount.incrementAndGet();
+                    } catch (ConflictException e) {
+                        insufficientCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(30, TimeUnit.SECONDS);
+
+        // then
+        long useHistoryCount = pointHistoryRepository.findAll().stream()
+                .filter(history -> history.getTransactionType() == PointHistory.TransactionType.USE)
+                .count();
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(insufficientCount.get()).isEqualTo(20),
+                () -> assertThat(useHistoryCount).isEqualTo(10),
+                () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("포인트가 부족하면 차감하지 않고 예외가 발생하며, 충전 응답은 UPDATE 후 잔액을 반환한다")
+    void usePoint_Insufficient_ThrowsConflict() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        PointResponse response = userPointService.chargePoint(userId, new ChargePointRequest(3000L));
+
+        // when & then
+        assertAll(
+                () -> assertThat(response.point()).isEqualTo(3000L),
+                () -> assertThatThrownBy(() -> userPointService.usePoint(userId, 1L, 5000L))
+                        .isInstanceOf(ConflictException.class)
+                        .hasFieldOrPropertyWithValue("errorCode", PointErrorCode.INSUFFICIENT_POINT),
+                () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isEqualTo(3000L)
+        );
+    }
+}
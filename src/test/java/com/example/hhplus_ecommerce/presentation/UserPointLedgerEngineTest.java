@@ -0,0 +1,270 @@
+package com.example.hhplus_ecommerce.presentation;
+
+import com.example.hhplus_ecommerce.common.presentation.exception.ConflictException;
+import com.example.hhplus_ecommerce.presentation.utils.AbstractIntegrationTest;
+import com.example.hhplus_ecommerce.user.application.UserPointService;
+import com.example.hhplus_ecommerce.user.application.UserService;
+import com.example.hhplus_ecommerce.user.domain.User;
+import com.example.hhplus_ecommerce.user.infrastructure.UserRepository;
+import com.example.hhplus_ecommerce.user.infrastructure.scheduler.PointLedgerCompactor;
+import com.example.hhplus_ecommerce.user.presentation.dto.UserDto.ChargePointRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 원장 기반 포인트 엔진 테스트
+ */
+@TestPropertySource(properties = {
+    "user.point.engine=ledger",
+    "user.point.ledger.compact-grace-ms=0"
+})
+class UserPointLedgerEngineTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private UserPointService userPointService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PointLedgerCompactor pointLedgerCompactor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("충전·사용·복구 직후 포인트 조회에 바로 반영되고, user.point는 갱신하지 않는다")
+    void getPoint_ReadYourWrites() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+
+        // when
+        userPointService.chargePoint(userId, new ChargePointRequest(5000L));
+        long afterCharge = userService.getPoint(userId).point();
+        userPointService.usePoint(userId, 1L, 3000L);
+        long afterUse = userService.getPoint(userId).point();
+        userPointService.refundPoint(userId, 1000L);
+        long afterRefund = userService.getPoint(userId).point();
+
+        // then
+        assertAll(
+            () -> assertThat(afterCharge).isEqualTo(5000L),
+            () -> assertThat(afterUse).isEqualTo(2000L),
+            () -> assertThat(afterRefund).isEqualTo(3000L),
+            () -> assertThat(userRepository.findByIdOrThrow(userId).getPoint()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("압축 후에도 잔액은 같고, 이후 이력은 스냅샷 위에 더해진다")
+    void compact_SnapshotPlusTail() {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId, new ChargePointRequest(10_000L));
+        userPointService.usePoint(userId, 1L, 4000L);
+
+        // when
+        pointLedgerCompactor.compact();
+        long afterCompact = userService.getPoint(userId).point();
+        userPointService.chargePoint(userId, new ChargePointRequest(2000L));
+
+        // then
+        Long snapshotBalance = jdbcTemplate.queryForObject(
+            "SELECT balance FROM point_balance_snapshot WHERE user_id = ?", Long.class, userId);
+        assertAll(
+            () -> assertThat(snapshotBalance).isEqualTo(6000L),
+            () -> assertThat(afterCompact).isEqualTo(6000L),
+            () -> assertThat(userService.getPoint(userId).point()).isEqualTo(8000L)
+        );
+    }
+
+    @Test
+    @DisplayName("압축은 워터마크 이후의 새 이력만 합치므로, 반복 압축해도 이력이 두 번 합쳐지지 않는다")
+    void compact_Repeated_AppliesEachHistoryOnce() {
+        // given
+        Long userId1 = userRepository.save(User.builder().build()).getId();
+        Long userId2 = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId1, new ChargePointRequest(1000L));
+        userPointService.chargePoint(userId2, new ChargePointRequest(2000L));
+        pointLedgerCompactor.compact();
+
+        // when
+        userPointService.chargePoint(userId2, new ChargePointRequest(500L));
+        pointLedgerCompactor.compact();
+        pointLedgerCompactor.compact();
+
+        // then
+        Long watermark = jdbcTemplate.queryForObject(
+            "SELECT last_history_id FROM point_ledger_compaction WHERE id = 1", Long.class);
+        Long lastHistoryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM point_history", Long.class);
+        assertAll(
+            () -> assertThat(snapshotBalance(userId1)).isEqualTo(1000L),
+            () -> assertThat(snapshotBalance(userId2)).isEqualTo(2500L),
+            () -> assertThat(watermark).isEqualTo(lastHistoryId),
+            () -> assertThat(userService.getPoint(userId2).point()).isEqualTo(2500L)
+        );
+    }
+
+    @Test
+    @DisplayName("압축 범위 안의 이력이 늦게 커밋되어도, 압축은 커밋을 기다려 그 이력을 스냅샷에 포함한다")
+    void compact_SlowCommitInsideRange_WaitsAndIncludesHistory() throws Exception {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch slowInserted = new CountDownLatch(1);
+        CountDownLatch slowCommit = new CountDownLatch(1);
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            // 먼저 ID를 받았지만 늦게 커밋되는 충전 이력
+            Future<?> slow = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("INSERT INTO point_history (user_id, transaction_type, amount) VALUES (?, 'CHARGE', ?)",
+                    userId, 1000L);
+                slowInserted.countDown();
+                awaitLatch(slowCommit);
+            }));
+            assertThat(slowInserted.await(10, TimeUnit.SECONDS)).isTrue();
+            // 나중에 ID를 받고 먼저 커밋되는 충전 이력 (압축 기준선이 늦은 이력을 넘어섬)
+            userPointService.chargePoint(userId, new ChargePointRequest(2000L));
+
+            // when: 압축이 범위 잠금에서 기다리는 동안 늦은 이력이 커밋
+            Future<?> compaction = executorService.submit(pointLedgerCompactor::compact);
+            awaitLockWait("%for share%");
+            slowCommit.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            compaction.get(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertAll(
+            () -> assertThat(snapshotBalance(userId)).isEqualTo(3000L),
+            () -> assertThat(userService.getPoint(userId).point()).isEqualTo(3000L)
+        );
+    }
+
+    @Test
+    @DisplayName("락이 만료된 이전 보유자가 다음 보유자의 락 획득 후에 사용을 커밋해도, 다음 사용은 그 사용을 반영해 잔액을 검사한다")
+    void usePoint_StaleHolderCommitsAfterNextAcquires_NoDoubleSpend() throws Exception {
+        // given: 잔액 1000원
+        Long userId = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId, new ChargePointRequest(1000L));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch staleLocked = new CountDownLatch(1);
+        CountDownLatch staleCommit = new CountDownLatch(1);
+
+        try (ExecutorService executorService = Executors.newFixedThreadPool(2)) {
+            // 분산 락이 만료된 이전 보유자: 사용자 행을 잠근 채 1000원 사용 이력을 추가하고 커밋을 미룸
+            Future<?> stale = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.queryForObject("SELECT id FROM `user` WHERE id = ? FOR UPDATE", Long.class, userId);
+                jdbcTemplate.update("INSERT INTO point_history (user_id, order_id, transaction_type, amount) VALUES (?, ?, 'USE', ?)",
+                    userId, 1L, 1000L);
+                staleLocked.countDown();
+                awaitLatch(staleCommit);
+            }));
+            assertThat(staleLocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // when: 다음 보유자가 분산 락을 얻어 행 락을 기다리는 동안 이전 보유자가 커밋
+            Future<?> next = executorService.submit(() -> userPointService.usePoint(userId, 2L, 1000L));
+            awaitLockWait("%for update%");
+            staleCommit.countDown();
+            stale.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThatThrownBy(() -> next.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ConflictException.class);
+        }
+        assertThat(userService.getPoint(userId).point()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 사용 요청은 잔액만큼만 성공한다")
+    void usePoint_Concurrent_NoOverdraw() throws InterruptedException {
+        // given
+        Long userId = userRepository.save(User.builder().build()).getId();
+        userPointService.chargePoint(userId, new ChargePointRequest(10_000L));
+        int requestCount = 30;
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger insufficientCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+
+        // when: 1000원씩 30번 사용 (잔액 10,000원)
+        try (ExecutorService executorService = Executors.newFixedThreadPool(requestCount)) {
+            for (int i = 0; i < requestCount; i++) {
+                long orderId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        userPointService.usePoint(userId, orderId, 1000L);
+                        successCount.incrementAndGet();
+                    } catch (ConflictException e) {
+                        insufficientCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                        // 락 획득 실패
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+        }
+        latch.await(60, TimeUnit.SECONDS);
+
+        // then
+        assertAll(
+            () -> assertThat(successCount.get()).isLessThanOrEqualTo(10),
+            () -> assertThat(userService.getPoint(userId).point()).isEqualTo(10_000L - successCount.get() * 1000L)
+        );
+    }
+
+    // innodb_trx는 PROCESS 권한이 필요하므로, 같은 사용자의 스레드만 보이는 PROCESSLIST에서 실행 중인 잠금 쿼리를 찾음
+    private void awaitLockWait(String statementPattern) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PROCESSLIST WHERE ID <> CONNECTION_ID() AND INFO LIKE ?",
+                Integer.class, statementPattern);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("행 락 대기가 발생하지 않음");
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long snapshotBalance(Long userId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT balance FROM point_balance_snapshot WHERE user_id = ?", Long.class, userId);
+    }
+}
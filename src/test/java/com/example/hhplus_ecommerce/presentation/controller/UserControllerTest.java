@@ -115,6 +115,30 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/users/{userId}/points/history/page - 포인트 히스토리 페이지 조회 성공")
+    void getPointHistoryPage_Success() throws Exception {
+        // given
+        Long userId = 1L;
+        PointHistoryPageResponse response = new PointHistoryPageResponse(
+                List.of(new PointHistoryResponse(2L, userId, 1L, "USE", 30000L, 20000L, LocalDateTime.now())),
+                "next-cursor",
+                true
+        );
+        when(userService.getPointHistoryPage(userId, "cursor", 1)).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/users/{userId}/points/history/page", userId)
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].transactionType").value("USE"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
     @Test
     @DisplayName("POST /api/v1/users/{userId}/points/charge - 포인트 충전 성공")
     void chargePoint_Success() throws Exception {
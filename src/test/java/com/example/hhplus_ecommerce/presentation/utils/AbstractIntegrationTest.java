@@ -101,6 +101,8 @@ public abstract class AbstractIntegrationTest {
     private void cleanupDatabase() {
         // 모든 테이블 데이터 삭제
         jdbcTemplate.execute("TRUNCATE TABLE point_history");
+        jdbcTemplate.execute("TRUNCATE TABLE point_balance_snapshot");
+        jdbcTemplate.execute("TRUNCATE TABLE point_ledger_compaction");
         jdbcTemplate.execute("TRUNCATE TABLE order_item");
         jdbcTemplate.execute("TRUNCATE TABLE `order_table`");
         jdbcTemplate.execute("TRUNCATE TABLE cart_item");
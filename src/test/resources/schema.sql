@@ -4,6 +4,7 @@
 CREATE TABLE `user` (
                         `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
                         `point` BIGINT NOT NULL DEFAULT 0,
+                        `fence_token` BIGINT NOT NULL DEFAULT 0,
                         `created_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
                         `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -19,6 +20,7 @@ CREATE TABLE `product` (
                            `original_stock_quantity` INT,
                            `stock_quantity` INT,
                            `view_count` INT NOT NULL DEFAULT 0,
+                           `fence_token` BIGINT NOT NULL DEFAULT 0,
                            `created_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
                            `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -50,7 +52,8 @@ CREATE TABLE `user_coupon` (
                                `status` VARCHAR(50) NOT NULL DEFAULT 'ISSUED',
                                `created_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
                                `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
-                               `version` BIGINT DEFAULT 0
+                               `version` BIGINT DEFAULT 0,
+                               INDEX `idx_user_coupon_coupon_user` (`coupon_id`, `user_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- ===========================
@@ -108,5 +111,26 @@ CREATE TABLE `point_history` (
                                  `amount` BIGINT,
                                  `balance_after` BIGINT,
                                  `created_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
-                                 `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
+                                 `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+                                 INDEX `idx_point_history_user_id` (`user_id`, `id`),
+                                 INDEX `idx_point_history_user_created` (`user_id`, `created_at`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ===========================
+-- Table: PointBalanceSnapshot
+-- ===========================
+CREATE TABLE `point_balance_snapshot` (
+                                          `user_id` BIGINT PRIMARY KEY,
+                                          `balance` BIGINT NOT NULL DEFAULT 0,
+                                          `last_history_id` BIGINT NOT NULL DEFAULT 0,
+                                          `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- ===========================
+-- Table: PointLedgerCompaction
+-- ===========================
+CREATE TABLE `point_ledger_compaction` (
+                                           `id` TINYINT PRIMARY KEY,
+                                           `last_history_id` BIGINT NOT NULL DEFAULT 0,
+                                           `updated_at` DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
\ No newline at end of file